@@ -4,16 +4,22 @@
  * @author jjb24
  */
 public class Action {
+	/**
+	 * Infoset and action id of an action that is not at a CFR infoset
+	 */
+	public static final int NO_INFOSET = -1;
+
 	protected double p;         
-	protected String infosetAndAction;   
+	protected int infosetAndAction;   
 	
     /**
      * 	Constructor
      * 
      * @param p the probability that this action will be taken in a strategy
-     * @param infoset the infoset at the parent node of this action in the Game Tree
+     * @param infoset the dense id of the infoset at the parent node of this action in the Game Tree plus the
+     *                action (see Strategy), or NO_INFOSET
      */
-	public Action(double p, String infoset) {
+	public Action(double p, int infoset) {
 		this.p = p;
 		this.infosetAndAction = infoset;
 	}
@@ -34,17 +40,17 @@ public class Action {
 	
 	/**
 	 * 
-	 * @return the infoset at the parent node of this action in the Game Tree
+	 * @return the id of the infoset at the parent node of this action in the Game Tree plus the action
 	 */
-	public String getInfoset() {
+	public int getInfoset() {
 		return infosetAndAction;
 	}
 	
 	/**
 	 * 
-	 * @param infoset the infoset at the parent node of this action in the Game Tree
+	 * @param infoset the id of the infoset at the parent node of this action in the Game Tree plus the action
 	 */
-	public void setInfoset(String infoset) {
+	public void setInfoset(int infoset) {
 		this.infosetAndAction = infoset;
 	}
 	
@@ -13,7 +13,7 @@ public class ActionDiscard extends Action {
      * @param p the probability that this action will be taken in a strategy
      * @param infoset the infoset at the parent node of this action in the Game Tree
      */
-	public ActionDiscard(long cardAsBitstring, double p, String infoset) {
+	public ActionDiscard(long cardAsBitstring, double p, int infoset) {
 		super(p, infoset);
 		this.cardAsBitString = cardAsBitstring;
 	}
@@ -13,7 +13,7 @@ public class ActionDraw extends Action {
      * @param p the probability that this action will be taken in a strategy
      * @param infoset the infoset at the parent node of this action in the Game Tree
      */
-	public ActionDraw(boolean draw, double p, String infoset) {
+	public ActionDraw(boolean draw, double p, int infoset) {
 		super(p,infoset);
 		this.draw = draw;
 	}
@@ -13,7 +13,7 @@ public class ActionKnock extends Action {
      * @param p the probability that this action will be taken in a strategy
      * @param infoset the infoset at the parent node of this action in the Game Tree
      */
-	public ActionKnock(boolean knock, double p, String infoset) {
+	public ActionKnock(boolean knock, double p, int infoset) {
 		super(p,infoset);
 		this.knock = knock;
 	}
@@ -0,0 +1,175 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Estimates the exploitability of a player's average knock strategy: how many points per game more than the
+ * player itself a responder wins against it, by best responding at the infosets of the knock abstraction and
+ * otherwise playing like the player.
+ * <p>
+ * The estimate is a local best response over sampled deals.  Games are played with the average strategies,
+ * and at every knock decision of the responder each action is valued by playing the game out once with it:
+ * knocking scores the hand, not knocking continues with the average strategies.  The gain at an infoset is
+ * the value of its best action less the value of the average strategy there, summed over its visits.  Since
+ * the best action is picked on the same samples that value it, the estimate is biased upwards at infosets
+ * with few visits, and it shrinks as more games are sampled.
+ */
+public class BestResponse {
+	private final Player player;
+
+	/**
+	 * @param player the player whose knock strategy to estimate the exploitability of
+	 */
+	public BestResponse(Player player) {
+		this.player = player;
+	}
+
+	/**
+	 * Estimate the exploitability by playing games on a pool.  The games are split evenly among the workers,
+	 * and the responder sits in seat 0 in even games and in seat 1 in odd games.  Game i draws its random
+	 * numbers from stream firstStream + i, so a seeded run gets the same estimate whatever the scheduling.
+	 * Call only while no thread is training.
+	 *
+	 * @param numGames the number of games to sample
+	 * @return the estimated exploitability, in points per game
+	 */
+	public double estimate(ExecutorService pool, int workers, int numGames, long firstStream) throws InterruptedException, ExecutionException {
+		setRecordVisits(false);
+		try {
+			ArrayList<Future<Responder>> futures = new ArrayList<>();
+			for (int w = 0; w < workers; w++) {
+				final int first = (int) ((long) numGames * w / workers);
+				final int last = (int) ((long) numGames * (w + 1) / workers);
+				futures.add(pool.submit(() -> {
+					Responder responder = new Responder(player.getKnockStrategy());
+					Player responding = new Player(player.getDrawStrategy(), player.getDiscardStrategy(), responder);
+					for (int i = first; i < last; i++) {
+						RandomStreams.startStream(firstStream + i);
+						responder.players = i % 2 == 0 ? new Player[] {responding, player} : new Player[] {player, responding};
+						GameNode.playFrom(new GameState(), responder.players, -1, 1.0, true);
+					}
+					return responder;
+				}));
+			}
+
+			// pool the values of all workers, in worker order, before picking the best actions
+			Responder total = futures.get(0).get();
+			for (int w = 1; w < workers; w++) {
+				total.add(futures.get(w).get());
+			}
+			return total.getGain() / numGames;
+		} finally {
+			setRecordVisits(true);
+		}
+	}
+
+	/**
+	 * Keep the sampled games out of the visit counts of the player's strategies
+	 */
+	private void setRecordVisits(boolean recordVisits) {
+		player.getDrawStrategy().setRecordVisits(recordVisits);
+		player.getDiscardStrategy().setRecordVisits(recordVisits);
+		player.getKnockStrategy().setRecordVisits(recordVisits);
+	}
+
+	/**
+	 * A knock strategy that plays like another one and values each action at the infosets it reaches
+	 */
+	private static class Responder extends StrategyKnock {
+		private final StrategyKnock strategy;
+		private final double[] sumValue;       // indexed by infoset and action id
+		private final double[] probability;    // of each action in the average strategy
+		private final Map<Integer, int[]> infosets = new HashMap<>(); // the action ids, by the id of the first action
+		private Player[] players;              // of the game being played
+		private boolean valuing;               // whether a game is being played out to value an action
+		private int forced = -1;               // the index of the action to play at the next decision, if any
+
+		Responder(StrategyKnock strategy) {
+			super(false);
+			this.strategy = strategy;
+			sumValue = new double[strategy.getNumInfosetActions()];
+			probability = new double[strategy.getNumInfosetActions()];
+		}
+
+		@Override
+		public ActionKnock[] getStrategy(GameState state) {
+			ActionKnock[] actions = strategy.getStrategy(state);
+			if (forced >= 0) {
+				for (int a = 0; a < actions.length; a++) {
+					actions[a].p = a == forced ? 1.0 : 0.0;
+				}
+				forced = -1;
+			}
+			else if (!valuing && actions.length > 1 && actions[0].infosetAndAction != Action.NO_INFOSET) {
+				value(state, actions);
+			}
+			return actions;
+		}
+
+		/**
+		 * Play the game out once with each action, as the player to move at state
+		 */
+		private void value(GameState state, ActionKnock[] actions) {
+			int[] ids = new int[actions.length];
+			valuing = true;
+			for (int a = 0; a < actions.length; a++) {
+				ids[a] = actions[a].infosetAndAction;
+				forced = a;
+				GameNode.UtilityProbability utilProb = GameNode.playFrom(state, players, -1, 1.0, true);
+				forced = -1;
+				sumValue[ids[a]] += utilProb.scaledUtility * utilProb.pTail;
+				probability[ids[a]] = actions[a].p;
+			}
+			valuing = false;
+			infosets.putIfAbsent(ids[0], ids);
+		}
+
+		/**
+		 * Add the values found by another responder to these
+		 */
+		void add(Responder other) {
+			for (int id = 0; id < sumValue.length; id++) {
+				sumValue[id] += other.sumValue[id];
+			}
+			for (int[] ids : other.infosets.values()) {
+				if (infosets.putIfAbsent(ids[0], ids) == null) {
+					for (int id : ids) {
+						probability[id] = other.probability[id];
+					}
+				}
+			}
+		}
+
+		/**
+		 * @return the sum over the infosets reached of the value of the best action less that of the average
+		 *         strategy
+		 */
+		double getGain() {
+			double gain = 0.0;
+			for (int[] ids : infosets.values()) {
+				double best = Double.NEGATIVE_INFINITY;
+				double average = 0.0;
+				for (int id : ids) {
+					best = Math.max(best, sumValue[id]);
+					average += probability[id] * sumValue[id];
+				}
+				gain += best - average;
+			}
+			return gain;
+		}
+
+		@Override
+		public void setTrain(boolean train) {
+			super.setTrain(train);
+			strategy.setTrain(train);
+		}
+
+		@Override
+		public String getName() {
+			return "Best response to " + strategy.getName();
+		}
+	}
+}
@@ -1,6 +1,7 @@
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Random;
 import java.util.Stack;
 
 
@@ -148,7 +149,7 @@ public class Card {
 		Stack<Card> deck = new Stack<Card>();
 		for (int i = 0; i < NUM_CARDS; i++)
 			deck.add(Card.allCards[i]);
-		Collections.shuffle(deck);
+		Collections.shuffle(deck, new Random(seed));
 		return deck;
 	}
 		
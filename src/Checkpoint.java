@@ -0,0 +1,182 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+/**
+ * A binary snapshot of a training run: the last completed round, the master seed of RandomStreams and whether
+ * the run is seeded, and the update rule, iteration count and regret, average strategy and visit count tables
+ * of a list of strategies.
+ * <p>
+ * Format (big-endian): magic, version, round, master seed, 1 if seeded and 0 if not, number of strategies,
+ * then for each strategy the state written by Strategy.writeCheckpoint (its update rule, iteration count and
+ * the rest of its state, then its tables), and finally a CRC32 of everything before it.  Since every game
+ * draws from a stream numbered by its round (see Driver), the master seed and round are all the random state
+ * needed to resume.  A checkpoint is held in a single buffer, so it is limited to 2 GB; MAPPED tables (see
+ * Strategy.TableStorage) persist without one.
+ * <p>
+ * A checkpoint is written to a temporary file that is then renamed over the old one, so a crash leaves
+ * either the old or the new checkpoint, and read through a memory mapped buffer.
+ */
+public class Checkpoint {
+	private static final int MAGIC = 0x47524b43; // "GRKC"
+	/**
+	 * Version of the format, to be increased whenever it changes
+	 */
+	public static final int VERSION = 4;
+	private static final int HEADER_BYTES = 5 * Integer.BYTES + Long.BYTES;
+
+	private final int round;
+	private final long masterSeed;
+	private final boolean seeded;
+
+	private Checkpoint(int round, long masterSeed, boolean seeded) {
+		this.round = round;
+		this.masterSeed = masterSeed;
+		this.seeded = seeded;
+	}
+
+	/**
+	 * @return the last round completed before the checkpoint was taken
+	 */
+	public int getRound() {
+		return round;
+	}
+
+	/**
+	 * @return the master seed of the run
+	 */
+	public long getMasterSeed() {
+		return masterSeed;
+	}
+
+	/**
+	 * @return whether the run was seeded, and so plays reproducibly (see Driver.playGames)
+	 */
+	public boolean isSeeded() {
+		return seeded;
+	}
+
+	/**
+	 * Copy the state of a run into a buffer, ready to be written.  Call only while no thread is training.
+	 *
+	 * @param round the last round completed
+	 * @param masterSeed the master seed of the run
+	 * @param seeded whether the run is seeded
+	 * @param strategies the strategies to save, in the order they will be read
+	 * @return the checkpoint, positioned at 0
+	 * @throws IllegalStateException if the tables of strategies are too large for a checkpoint
+	 */
+	public static ByteBuffer snapshot(int round, long masterSeed, boolean seeded, Strategy... strategies) {
+		long size = HEADER_BYTES + Long.BYTES;
+		for (Strategy strategy : strategies) {
+			size += strategy.getCheckpointSize();
+		}
+		if (size > Integer.MAX_VALUE) throw new IllegalStateException("A checkpoint of " + size + " bytes is larger than a buffer can hold");
+		ByteBuffer buffer = ByteBuffer.allocate((int) size);
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(round);
+		buffer.putLong(masterSeed);
+		buffer.putInt(seeded ? 1 : 0);
+		buffer.putInt(strategies.length);
+		for (Strategy strategy : strategies) {
+			strategy.writeCheckpoint(buffer);
+		}
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), 0, buffer.position());
+		buffer.putLong(crc.getValue());
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Write a snapshot to a temporary file next to path and rename it to path
+	 *
+	 * @param path the checkpoint file
+	 * @param snapshot a buffer returned by snapshot
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void write(Path path, ByteBuffer snapshot) throws IOException {
+		Path temp = Paths.get(path.toString() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer data = snapshot.duplicate();
+			while (data.hasRemaining()) {
+				channel.write(data);
+			}
+			channel.force(true);
+		}
+		Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Take a snapshot on the calling thread and write it on writer, so that training can go on while it is
+	 * written
+	 *
+	 * @param writer the executor that writes checkpoints, normally a single thread
+	 * @return the pending write
+	 */
+	public static Future<?> writeAsync(ExecutorService writer, Path path, int round, long masterSeed, boolean seeded, Strategy... strategies) {
+		ByteBuffer snapshot = snapshot(round, masterSeed, seeded, strategies);
+		return writer.submit(() -> {
+			write(path, snapshot);
+			return null;
+		});
+	}
+
+	/**
+	 * Load a checkpoint into strategies.  The file is checked before any strategy is changed.
+	 *
+	 * @param path the checkpoint file
+	 * @param strategies the strategies to load, in the order they were saved
+	 * @return the round, master seed and seeding of the checkpoint
+	 * @throws IOException if the file cannot be read or is not a valid checkpoint for strategies
+	 */
+	public static Checkpoint read(Path path, Strategy... strategies) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_BYTES + Long.BYTES || channel.size() > Integer.MAX_VALUE) {
+				throw new IOException(path + " is not a checkpoint");
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+			if (buffer.getInt() != MAGIC) throw new IOException(path + " is not a checkpoint");
+			int version = buffer.getInt();
+			if (version != VERSION) throw new IOException(path + " has checkpoint version " + version + ", expected " + VERSION);
+
+			ByteBuffer body = buffer.duplicate();
+			body.position(0).limit(buffer.limit() - Long.BYTES);
+			CRC32 crc = new CRC32();
+			crc.update(body);
+			if (crc.getValue() != buffer.getLong(buffer.limit() - Long.BYTES)) throw new IOException(path + " is corrupt");
+
+			int round = buffer.getInt();
+			long masterSeed = buffer.getLong();
+			boolean seeded = buffer.getInt() != 0;
+			int numStrategies = buffer.getInt();
+			if (numStrategies != strategies.length) {
+				throw new IOException(path + " has " + numStrategies + " strategies, expected " + strategies.length);
+			}
+			long position = buffer.position();
+			for (Strategy strategy : strategies) {
+				if (position + Integer.BYTES > buffer.limit() - Long.BYTES || buffer.getInt((int) position) != strategy.getNumInfosetActions()) {
+					throw new IOException(path + " does not match " + strategy.getName());
+				}
+				position += strategy.getCheckpointSize();
+			}
+			if (position + Long.BYTES != buffer.limit()) throw new IOException(path + " does not match the strategies being loaded");
+
+			for (Strategy strategy : strategies) {
+				strategy.readCheckpoint(buffer);
+			}
+			return new Checkpoint(round, masterSeed, seeded);
+		}
+	}
+}
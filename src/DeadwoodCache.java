@@ -0,0 +1,148 @@
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, lock-free cache from card set bitstrings to minimum deadwood, meant to be shared by all
+ * training threads.  Each entry packs the 52-bit hand, the deadwood and an occupied flag into one long, so an
+ * entry is always read and written whole and no locking (or boxing) is needed.  Hands are placed by open
+ * addressing within a short probe window; when the window is full a random entry of it is evicted.
+ */
+public class DeadwoodCache {
+	/**
+	 * Value returned by get when a hand is not cached
+	 */
+	public static final int MISSING = -1;
+	/**
+	 * Number of consecutive slots a hand may occupy
+	 */
+	private static final int PROBES = 4;
+	/**
+	 * Bit position of the value in an entry
+	 */
+	private static final int VALUE_SHIFT = Card.NUM_CARDS;
+	/**
+	 * Largest value that fits in an entry
+	 */
+	private static final int MAX_VALUE = (1 << (63 - VALUE_SHIFT)) - 1;
+	/**
+	 * Mask selecting the hand of an entry
+	 */
+	private static final long KEY_MASK = (1L << Card.NUM_CARDS) - 1;
+	/**
+	 * Flag marking a slot as in use (so that the empty hand can be cached too)
+	 */
+	private static final long OCCUPIED = 1L << 63;
+
+	private final AtomicLongArray slots;
+	private final int slotMask;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param capacity the number of entries, rounded up to a power of two
+	 */
+	public DeadwoodCache(int capacity) {
+		if (capacity < PROBES || capacity > 1 << 30) throw new IllegalArgumentException("Capacity must be between " + PROBES + " and " + (1 << 30) + ", received " + capacity);
+		int size = Integer.highestOneBit(capacity - 1) << 1;
+		slots = new AtomicLongArray(size);
+		slotMask = size - 1;
+	}
+
+	/**
+	 * Return the minimum deadwood of a hand, solving and caching it on a miss.  Hands are cached under their
+	 * canonical suit relabeling, so all relabelings of a hand share one entry.
+	 *
+	 * @param hand card set bitstring
+	 * @return the minimum deadwood points
+	 */
+	public int bestDeadwood(long hand) {
+		long key = SuitIsomorphism.canonicalize(hand);
+		int deadwood = get(key);
+		if (deadwood == MISSING) {
+			deadwood = MeldSolver.bestDeadwood(key);
+			put(key, deadwood);
+		}
+		return deadwood;
+	}
+
+	/**
+	 * Look up a hand
+	 *
+	 * @param hand card set bitstring
+	 * @return the cached value, or MISSING
+	 */
+	public int get(long hand) {
+		long entry = OCCUPIED | hand;
+		int slot = index(hand);
+		for (int i = 0; i < PROBES; i++) {
+			long current = slots.get((slot + i) & slotMask);
+			if ((current & (OCCUPIED | KEY_MASK)) == entry) {
+				hits.increment();
+				return (int) (current >>> VALUE_SHIFT) & MAX_VALUE;
+			}
+			if (current == 0) break;
+		}
+		misses.increment();
+		return MISSING;
+	}
+
+	/**
+	 * Cache the value of a hand, evicting a random entry of its probe window if the window is full
+	 *
+	 * @param hand card set bitstring
+	 * @param value a value between 0 and 2047
+	 */
+	public void put(long hand, int value) {
+		if ((hand & ~KEY_MASK) != 0) throw new IllegalArgumentException("Not a card set bitstring: " + hand);
+		if (value < 0 || value > MAX_VALUE) throw new IllegalArgumentException("Value must be between 0 and " + MAX_VALUE + ", received " + value);
+
+		long entry = OCCUPIED | (long) value << VALUE_SHIFT | hand;
+		int slot = index(hand);
+		for (int i = 0; i < PROBES; i++) {
+			int j = (slot + i) & slotMask;
+			long current = slots.get(j);
+			if (current == 0 || (current & KEY_MASK) == hand) {
+				// a racing writer may claim this slot first; the entry is then simply not cached
+				slots.compareAndSet(j, current, entry);
+				return;
+			}
+		}
+		slots.lazySet((slot + ThreadLocalRandom.current().nextInt(PROBES)) & slotMask, entry);
+	}
+
+	/**
+	 * @return the number of lookups that found their hand
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of lookups that did not find their hand
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the fraction of lookups that found their hand (0 if there were no lookups)
+	 */
+	public double getHitRate() {
+		long hits = getHits();
+		long lookups = hits + getMisses();
+		return lookups == 0 ? 0.0 : (double) hits / lookups;
+	}
+
+	/**
+	 * Spread the hand bits over the slot index (the finalizer of MurmurHash3)
+	 */
+	private int index(long hand) {
+		hand ^= hand >>> 33;
+		hand *= 0xff51afd7ed558ccdL;
+		hand ^= hand >>> 33;
+		hand *= 0xc4ceb9fe1a85ec53L;
+		hand ^= hand >>> 33;
+		return (int) hand & slotMask;
+	}
+}
@@ -1,21 +1,70 @@
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.IntToDoubleFunction;
+import javax.management.JMException;
 
 public class Driver {
 
-	private static Double util = 0.0;
-	
-	public static void main(String[] args) throws IOException, InterruptedException {
+	/**
+	 * Usage: java Driver [ginBonus undercutBonus [threads [batchSize [seed [updateRule [averagingDelay [pruneThreshold [targetExploitability]]]]]]]]
+	 * where a seed of - plays an unseeded run, updateRule is one of Strategy.UpdateRule, a prune threshold
+	 * other than - turns on regret-based pruning (see GameNode.PRUNE), and training stops early once the
+	 * estimated exploitability of the knock strategy (see BestResponse) is at most targetExploitability for
+	 * EARLY_STOPPING_ROUNDS rounds in a row.  A run resumed from its checkpoint keeps the seed, update rule and
+	 * averaging delay it started with: a seed of - or leaving them out takes them from the checkpoint, and
+	 * giving different ones is an error.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
 		final int TOTAL_ROUNDS = 50;
 		final int TRAINING_GAMES_PER_ROUND = 250_000;
-		final int EVALUATION_GAMES_PER_ROUND = 25_000;
-        final int CONCURRENT_THREADS = 8;
+		final int EVALUATION_GAMES_PER_ROUND = 25_000; // at most
+		final int MIN_EVALUATION_GAMES_PER_ROUND = 2_000;
+		final double EVALUATION_INTERVAL_WIDTH = 1.0; // points per game, of the 95% confidence interval to stop at
+		final double EVALUATION_SEQUENTIAL_Z = 3.0; // stop once the EV is this many standard errors from 0
+		final boolean DUPLICATE_EVALUATION = true; // play each evaluation deal in both seat orders
+		final int BEST_RESPONSE_GAMES_PER_ROUND = 4_000;
+		final int EARLY_STOPPING_ROUNDS = 2;
+		final long METRICS_INTERVAL_SECONDS = 10;
+		final Strategy.TableStorage TABLE_STORAGE = Strategy.TableStorage.HEAP; // DIRECT or MAPPED keep the tables off the heap
+        int concurrentThreads = 8;
+        int batchSize = 64; // games a worker claims at a time
+        boolean seeded = false; // whether to play reproducibly, see playGames
+        Strategy.UpdateRule updateRule = Strategy.UpdateRule.VANILLA; // how training rounds are weighted
+        int averagingDelay = 0; // training rounds before the average strategy is updated
+        double targetExploitability = Double.NEGATIVE_INFINITY; // points per game, never reached by default
 
         if(args.length >= 2) {
 			try {
 				GinRummyUtil.GIN_BONUS = Integer.parseInt(args[0]);
 				GinRummyUtil.UNDERCUT_BONUS = Integer.parseInt(args[1]);
+				if (args.length >= 3) concurrentThreads = Integer.parseInt(args[2]);
+				if (args.length >= 4) batchSize = Integer.parseInt(args[3]);
+				if (args.length >= 5 && !args[4].equals("-")) {
+					RandomStreams.setMasterSeed(Long.parseLong(args[4]));
+					seeded = true;
+				}
+				if (args.length >= 6) updateRule = Strategy.UpdateRule.valueOf(args[5]);
+				if (args.length >= 7) averagingDelay = Integer.parseInt(args[6]);
+				if (args.length >= 8 && !args[7].equals("-")) {
+					GameNode.PRUNE = true;
+					GameNode.PRUNE_THRESHOLD = Double.parseDouble(args[7]);
+				}
+				if (args.length >= 9) targetExploitability = Double.parseDouble(args[8]);
+				if (concurrentThreads < 1 || batchSize < 1) throw new IllegalArgumentException("The thread count and batch size must be positive");
+				if (averagingDelay < 0) throw new IllegalArgumentException("The averaging delay cannot be negative");
 			} catch (Exception e) {
 				System.err.println(e.getMessage());
 				return;
@@ -36,67 +85,262 @@ public class Driver {
 		}
 
 		System.out.printf("Starting driver with Gin Bonus %d and Undercut bonus %d.\n", GinRummyUtil.GIN_BONUS, GinRummyUtil.UNDERCUT_BONUS);
+		if (targetExploitability > Double.NEGATIVE_INFINITY) {
+			System.out.printf("Stopping once the estimated exploitability is at most %.3f for %d rounds.\n", targetExploitability, EARLY_STOPPING_ROUNDS);
+		}
+		if (GameNode.PRUNE) {
+			System.out.printf("Pruning actions with regret below %.1f after %d rounds, except in every %dth game.\n", GameNode.PRUNE_THRESHOLD, GameNode.PRUNE_DELAY, GameNode.PRUNE_RECHECK_INTERVAL);
+		}
 
 
 		Player basePlayer = new Player(new StrategyDraw(false), new StrategyDiscard(false), new StrategyKnock(false));
 		Player cfrPlayer = new Player(new StrategyDrawFinal(false), new StrategyDiscardFinal(false), new StrategyKnockFinal(false));
+		// training threads buffer their regret updates and reduce them into the shared tables periodically
+		cfrPlayer.getKnockStrategy().setUpdateMode(Strategy.UpdateMode.THREAD_LOCAL);
 
-		for (int round = 0; round < TOTAL_ROUNDS; round++) {
-			// Train for a while
-			cfrPlayer.getKnockStrategy().setTrain(true);
-			cfrPlayer.getDrawStrategy().setTrain(true);
-			Player[] players = new Player[]{cfrPlayer, cfrPlayer};
-			Thread[] threads = new Thread[CONCURRENT_THREADS];
-			util = 0.0;
-			for (int i = 0; i < TRAINING_GAMES_PER_ROUND; i+=CONCURRENT_THREADS) {
-				for (int j = 0; j < CONCURRENT_THREADS; j++) {
-						final int player = j % 2;
-						threads[j] = new Thread(new Runnable() {
-							@Override
-							public void run() {
-								GameNode.UtilityProbability utilProb = GameNode.playFrom(new GameState(), players, player, 1.0, false);
-								double tmp = utilProb.scaledUtility * utilProb.pTail;
-								synchronized (util) {util += tmp;}
-							}
-						});
-						threads[j].start();
-				}
-				for (int j = 0; j < threads.length; j++) {
-					if (threads[j] != null) threads[j].join();
-				}
+		// resume from the last checkpoint of this experiment, if there is one
+		Files.createDirectories(Paths.get("Research/"));
+		Path checkpointPath = Paths.get(String.format("Research/GinBonus_%d_UndercutBonus_%d.ckpt", GinRummyUtil.GIN_BONUS, GinRummyUtil.UNDERCUT_BONUS));
+		Strategy[] trainedStrategies = {cfrPlayer.getDrawStrategy(), cfrPlayer.getDiscardStrategy(), cfrPlayer.getKnockStrategy()};
+		// each training round is one iteration of the update rule
+		for (Strategy strategy : trainedStrategies) {
+			strategy.setUpdateRule(updateRule);
+			strategy.setAveragingDelay(averagingDelay);
+			strategy.setTableStorage(TABLE_STORAGE, Paths.get(String.format("Research/GinBonus_%d_UndercutBonus_%d_%s.tables",
+					GinRummyUtil.GIN_BONUS, GinRummyUtil.UNDERCUT_BONUS, strategy.getClass().getSimpleName())));
+		}
+		int firstRound = 0;
+		Strategy knockStrategy = cfrPlayer.getKnockStrategy();
+		if (Files.exists(checkpointPath)) {
+			Checkpoint checkpoint = Checkpoint.read(checkpointPath, trainedStrategies);
+			// a resumed run keeps the seeding and update rule it started with, which the arguments may only repeat
+			if (seeded && (!checkpoint.isSeeded() || checkpoint.getMasterSeed() != RandomStreams.getMasterSeed())
+					|| args.length >= 6 && knockStrategy.getUpdateRule() != updateRule
+					|| args.length >= 7 && knockStrategy.getAveragingDelay() != averagingDelay) {
+				System.err.printf("%s was started %s with the %s update rule and an averaging delay of %d; resume it with the same arguments, or leave them out.\n",
+						checkpointPath, checkpoint.isSeeded() ? "with seed " + checkpoint.getMasterSeed() : "unseeded", knockStrategy.getUpdateRule(), knockStrategy.getAveragingDelay());
+				return;
 			}
+			RandomStreams.setMasterSeed(checkpoint.getMasterSeed());
+			seeded = checkpoint.isSeeded();
+			updateRule = knockStrategy.getUpdateRule();
+			averagingDelay = knockStrategy.getAveragingDelay();
+			firstRound = checkpoint.getRound() + 1;
+			System.out.printf("Resuming from %s after round %d.\n", checkpointPath, firstRound);
+		}
+		else if (knockStrategy.getIteration() > 0) {
+			// MAPPED tables kept from a run without its checkpoint, flushed after a round; only the seed is lost
+			if (args.length >= 6 && knockStrategy.getUpdateRule() != updateRule
+					|| args.length >= 7 && knockStrategy.getAveragingDelay() != averagingDelay) {
+				System.err.printf("The tables of %s were trained with the %s update rule and an averaging delay of %d; resume them with the same arguments, or leave them out.\n",
+						knockStrategy.getName(), knockStrategy.getUpdateRule(), knockStrategy.getAveragingDelay());
+				return;
+			}
+			updateRule = knockStrategy.getUpdateRule();
+			averagingDelay = knockStrategy.getAveragingDelay();
+			firstRound = knockStrategy.getIteration();
+			System.out.printf("Resuming from the mapped tables after round %d, without a checkpoint to take the seed from.\n", firstRound);
+		}
+		// a seeded run only reduces the buffered updates at the end of each epoch, in worker order
+		if (seeded) cfrPlayer.getKnockStrategy().setReduceInterval(Integer.MAX_VALUE);
+		System.out.printf("Playing games on %d threads in batches of %d with seed %d%s.\n", concurrentThreads, batchSize, RandomStreams.getMasterSeed(), seeded ? "" : " (unseeded)");
+		System.out.printf("Training with the %s update rule and an averaging delay of %d rounds.\n", updateRule, averagingDelay);
+
+		// each sample is the mean of a game in each seat, on the same deal if DUPLICATE_EVALUATION
+		Evaluation evaluation = new Evaluation(EVALUATION_INTERVAL_WIDTH, EVALUATION_SEQUENTIAL_Z, MIN_EVALUATION_GAMES_PER_ROUND / 2, EVALUATION_GAMES_PER_ROUND / 2);
+		BestResponse bestResponse = new BestResponse(cfrPlayer);
+		int roundsAtTarget = 0;
+
+		// throughput, latency and lock contention, through JMX and a file rewritten every METRICS_INTERVAL_SECONDS
+		TrainingMetrics metrics = TrainingMetrics.get();
+		metrics.register(trainedStrategies);
+		try {
+			metrics.registerMBean();
+		} catch (JMException e) {
+			System.err.println("Cannot register metrics with JMX: " + e.getMessage());
+		}
 
-			System.out.println("Utility in training round " + (round+1) + " is " + util/TRAINING_GAMES_PER_ROUND);
+		ExecutorService pool = Executors.newFixedThreadPool(concurrentThreads);
+		ExecutorService checkpointWriter = Executors.newSingleThreadExecutor();
+		ScheduledExecutorService metricsWriter = Executors.newSingleThreadScheduledExecutor();
+		metrics.startWriting(metricsWriter, String.format("Research/GinBonus_%d_UndercutBonus_%d.metrics", GinRummyUtil.GIN_BONUS, GinRummyUtil.UNDERCUT_BONUS), METRICS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+		Future<?> pendingCheckpoint = null;
+		try {
+			for (int round = firstRound; round < TOTAL_ROUNDS; round++) {
+				// Train for a while
+				cfrPlayer.getKnockStrategy().setTrain(true);
+				cfrPlayer.getDrawStrategy().setTrain(true);
+				Player[] players = new Player[]{cfrPlayer, cfrPlayer};
+				final int iteration = round;
+				double util = playGames(pool, concurrentThreads, TRAINING_GAMES_PER_ROUND, batchSize, getStream(round, 0), seeded, cfrPlayer, game -> {
+					boolean prune = GameNode.shouldPrune(iteration, game);
+					GameNode.UtilityProbability utilProb = GameNode.playFrom(new GameState(), players, game % 2, 1.0, false, prune);
+					TrainingMetrics.recordGame();
+					return utilProb.scaledUtility * utilProb.pTail;
+				});
+				// the workers release their buffers as they finish, so this only reduces what is still buffered before
+				// discounting
+				for (Strategy strategy : trainedStrategies) {
+					strategy.endIteration();
+				}
+
+				System.out.println("Utility in training round " + (round+1) + " is " + util/TRAINING_GAMES_PER_ROUND);
 			
-			cfrPlayer.getKnockStrategy().setTrain(false);
-			cfrPlayer.getDrawStrategy().setTrain(false);
-			util = 0.0;
-			final Player[] players0 = new Player[]{cfrPlayer, basePlayer};
-			final Player[] players1 = new Player[]{basePlayer, cfrPlayer};
-			for (int i = 0; i < EVALUATION_GAMES_PER_ROUND; i+=2*CONCURRENT_THREADS) {
-				for (int j = 0; j < CONCURRENT_THREADS; j++) {
-					threads[j] = new Thread(new Runnable() {
-						@Override
-						public void run() {
-							GameNode.UtilityProbability utilProb = GameNode.playFrom(new GameState(), players0, -1, 1.0, true);
-							double tmp1 = utilProb.scaledUtility * utilProb.pTail;
-							utilProb = GameNode.playFrom(new GameState(), players1, -1, 1.0, true);
-							double tmp2 = -utilProb.scaledUtility * utilProb.pTail;
-							synchronized (util) {util += tmp1 + tmp2;}
-						}
+				cfrPlayer.getKnockStrategy().setTrain(false);
+				cfrPlayer.getDrawStrategy().setTrain(false);
+				final Player[] players0 = new Player[]{cfrPlayer, basePlayer};
+				final Player[] players1 = new Player[]{basePlayer, cfrPlayer};
+				final long evaluationStream = getStream(round, 1);
+				Evaluation.Stats ev;
+				if (DUPLICATE_EVALUATION) {
+					ev = evaluation.run(pool, concurrentThreads, batchSize, evaluationStream, game -> Evaluation.playDuplicate(cfrPlayer, basePlayer, evaluationStream + game));
+				}
+				else {
+					// each sample index plays one deal per seat
+					ev = evaluation.run(pool, concurrentThreads, batchSize, evaluationStream, game -> {
+						GameNode.UtilityProbability utilProb = GameNode.playFrom(new GameState(), players0, -1, 1.0, true);
+						double tmp1 = utilProb.scaledUtility * utilProb.pTail;
+						utilProb = GameNode.playFrom(new GameState(), players1, -1, 1.0, true);
+						double tmp2 = -utilProb.scaledUtility * utilProb.pTail;
+						return (tmp1 + tmp2) / 2;
 					});
-					threads[j].start();
 				}
-				for (int j = 0; j < threads.length; j++) {
-					if (threads[j] != null) threads[j].join();
+				System.out.printf("EV of CFR player vs. base player in %d is %.3f +/- %.3f (standard error %.3f over %d games)\n",
+						round+1, ev.getMean(), Evaluation.Z * ev.getStandardError(), ev.getStandardError(), 2 * ev.getCount());
+				DeadwoodCache deadwoodCache = PshUtil.getDeadwoodCache();
+				System.out.printf("Deadwood cache: %d hits, %d misses (%.1f%% hit rate)\n", deadwoodCache.getHits(), deadwoodCache.getMisses(), 100 * deadwoodCache.getHitRate());
+				if (TrainingMetrics.ENABLED) {
+					System.out.printf("Metrics: %.1f training games/s, %.1f decisions/s, %.1f ms waiting for table locks\n", metrics.getGamesPerSecond(), metrics.getDecisionsPerSecond(), metrics.getLockWaitMillis());
+				}
+				if (GameNode.PRUNE) {
+					System.out.printf("Pruning: %d of %d actions pruned (%.1f%% prune rate)\n", GameNode.getPrunedActions(), GameNode.getPrunableActions(), 100 * GameNode.getPruneRate());
+				}
+				double exploitability = bestResponse.estimate(pool, concurrentThreads, BEST_RESPONSE_GAMES_PER_ROUND, getStream(round, 2));
+				System.out.printf("Estimated exploitability of the knock strategy in %d is %.4f points per game\n", round+1, exploitability);
+				roundsAtTarget = exploitability <= targetExploitability ? roundsAtTarget + 1 : 0;
+
+				cfrPlayer.getKnockStrategy().toFile(String.format("Research/GinBonus_%d_UndercutBonus_%d.txt", GinRummyUtil.GIN_BONUS, GinRummyUtil.UNDERCUT_BONUS));
+
+				// the checkpoint is written while the next round trains
+				if (pendingCheckpoint != null) pendingCheckpoint.get();
+				for (Strategy strategy : trainedStrategies) {
+					strategy.flushTables();
+				}
+				pendingCheckpoint = Checkpoint.writeAsync(checkpointWriter, checkpointPath, round, RandomStreams.getMasterSeed(), seeded, trainedStrategies);
+
+				if (roundsAtTarget >= EARLY_STOPPING_ROUNDS) {
+					System.out.printf("Stopping after round %d: the estimated exploitability has been at most %.3f for %d rounds.\n", round+1, targetExploitability, roundsAtTarget);
+					break;
 				}
 			}
-			System.out.println("EV of CFR player vs. base player in " + (round+1) + " is " + util/EVALUATION_GAMES_PER_ROUND);
+			if (pendingCheckpoint != null) pendingCheckpoint.get();
+		} finally {
+			pool.shutdown();
+			checkpointWriter.shutdown();
+			metricsWriter.shutdown();
+		}
+
+	}
 
-			Files.createDirectories(Paths.get("Research/"));
-			cfrPlayer.getKnockStrategy().toFile(String.format("Research/GinBonus_%d_UndercutBonus_%d.txt", GinRummyUtil.GIN_BONUS, GinRummyUtil.UNDERCUT_BONUS));
+	/**
+	 * Play numGames games on the pool.  Each of the threads workers claims batchSize game indices at a time
+	 * until none are left, so that a worker that finishes early takes the next batch instead of waiting for
+	 * the others.  Game i draws its random numbers from stream firstStream + i, whichever worker plays it.
+	 * 
+	 * In lockstep, worker w instead plays batch w of every epoch of workers batches, and at the end of each
+	 * epoch the workers release their buffered regret updates one at a time, in worker order.  With the
+	 * trained strategies in THREAD_LOCAL mode and a reduce interval longer than an epoch, every game then
+	 * sees the same tables in every run, and the tables are summed in the same order, so a seeded run
+	 * reproduces its regret tables exactly for a given thread count and batch size.
+	 *
+	 * @param lockstep whether to play in reproducible epochs
+	 * @param trained the player whose buffered regret updates each worker releases when it runs out of games
+	 * @param game plays the game with the given index and returns its utility
+	 * @return the sum of the utilities of the games
+	 */
+	private static double playGames(ExecutorService pool, int workers, int numGames, int batchSize, long firstStream, boolean lockstep,
+			Player trained, IntToDoubleFunction game) throws InterruptedException, ExecutionException {
+		AtomicInteger nextGame = new AtomicInteger();
+		DoubleAdder util = new DoubleAdder();
+		double[] workerUtil = new double[workers];
+		CyclicBarrier turns = new CyclicBarrier(workers);
+		ArrayList<Future<?>> futures = new ArrayList<>();
+		for (int w = 0; w < workers; w++) {
+			final int worker = w;
+			futures.add(pool.submit(() -> {
+				try {
+					if (lockstep) {
+						workerUtil[worker] = playLockstep(worker, workers, numGames, batchSize, firstStream, turns, trained, game);
+					}
+					else {
+						for (int first; (first = nextGame.getAndAdd(batchSize)) < numGames; ) {
+							int last = Math.min(first + batchSize, numGames);
+							for (int i = first; i < last; i++) {
+								RandomStreams.startStream(firstStream + i);
+								util.add(game.applyAsDouble(i));
+							}
+						}
+					}
+				} catch (RuntimeException e) {
+					// wake the workers waiting for this one
+					turns.reset();
+					throw e;
+				} finally {
+					release(trained);
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		if (lockstep) {
+			double sum = 0.0;
+			for (double u : workerUtil) sum += u;
+			return sum;
+		}
+		return util.sum();
+	}
 
+	/**
+	 * Play one worker's share of the games in lockstep (see playGames)
+	 *
+	 * @return the sum of the utilities of the worker's games
+	 */
+	private static double playLockstep(int worker, int workers, int numGames, int batchSize, long firstStream, CyclicBarrier turns,
+			Player trained, IntToDoubleFunction game) throws InterruptedException, BrokenBarrierException {
+		double util = 0.0;
+		for (int epoch = 0; (long) epoch * workers * batchSize < numGames; epoch++) {
+			int first = (epoch * workers + worker) * batchSize;
+			int last = Math.min(first + batchSize, numGames);
+			for (int i = first; i < last; i++) {
+				RandomStreams.startStream(firstStream + i);
+				util += game.applyAsDouble(i);
+			}
+			// wait for every worker to finish the epoch's games, then take turns reducing
+			turns.await();
+			for (int turn = 0; turn < workers; turn++) {
+				if (turn == worker) release(trained);
+				turns.await();
+			}
 		}
+		return util;
+	}
+
+	/**
+	 * Reduce the calling thread's buffered updates to a player's strategies
+	 */
+	private static void release(Player player) {
+		player.getDrawStrategy().release();
+		player.getDiscardStrategy().release();
+		player.getKnockStrategy().release();
+	}
 
+	/**
+	 * @param phase 0 for training, 1 for evaluation, 2 for estimating exploitability
+	 * @return the random stream of the first game of a phase of a round, leaving 2^32 streams per phase
+	 */
+	private static long getStream(int round, int phase) {
+		return (3L * round + phase) << 32;
 	}
 }
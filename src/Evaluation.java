@@ -0,0 +1,217 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Estimates the expected value of a player by playing samples on a pool until the estimate is precise enough.
+ * A sample is typically a duplicate deal (see playDuplicate), valued at the mean of its two games, or the
+ * difference between two players on the same duplicate deal (see compareDuplicate).
+ * <p>
+ * Samples are played in epochs of workers * batchSize, worker w playing batch w of each epoch, and the running
+ * mean and variance of the workers are merged in worker order at the end of each epoch.  Sample i draws its
+ * random numbers from stream firstStream + i, so a seeded run plays the same samples and stops at the same
+ * point whatever the scheduling.  After minSamples, evaluation stops at the end of the first epoch where
+ * either
+ * <ul>
+ * <li>the confidence interval at Z is narrower than the target width, or</li>
+ * <li>the sequential test decides: the interval at sequentialZ excludes 0, settling the sign of the expected
+ *     value.  sequentialZ is larger than Z to make up for testing after every epoch.</li>
+ * </ul>
+ * or when maxSamples have been played.
+ */
+public class Evaluation {
+	/**
+	 * The z-score of a 95% confidence interval
+	 */
+	public static final double Z = 1.96;
+
+	private final double width;
+	private final double sequentialZ;
+	private final int minSamples;
+	private final int maxSamples;
+
+	/**
+	 * @param width the width of the confidence interval at Z to stop at
+	 * @param sequentialZ the z-score at which the sequential test decides, or infinity to only stop on width
+	 * @param minSamples the number of samples to play before testing
+	 * @param maxSamples the number of samples to stop at
+	 */
+	public Evaluation(double width, double sequentialZ, int minSamples, int maxSamples) {
+		if (minSamples < 2 || maxSamples < minSamples) throw new IllegalArgumentException("Expected 2 <= minSamples <= maxSamples, received " + minSamples + " and " + maxSamples);
+		this.width = width;
+		this.sequentialZ = sequentialZ;
+		this.minSamples = minSamples;
+		this.maxSamples = maxSamples;
+	}
+
+	/**
+	 * Play samples until the stopping rule is met
+	 *
+	 * @param sample plays the sample with the given index and returns its value
+	 * @return the estimate
+	 */
+	public Stats run(ExecutorService pool, int workers, int batchSize, long firstStream, IntToDoubleFunction sample) throws InterruptedException, ExecutionException {
+		Stats total = new Stats();
+		for (int epochStart = 0; epochStart < maxSamples && !isDone(total); epochStart += workers * batchSize) {
+			ArrayList<Future<Stats>> futures = new ArrayList<>();
+			for (int w = 0; w < workers; w++) {
+				final int first = Math.min(epochStart + w * batchSize, maxSamples);
+				final int last = Math.min(first + batchSize, maxSamples);
+				futures.add(pool.submit(() -> {
+					Stats stats = new Stats();
+					for (int i = first; i < last; i++) {
+						RandomStreams.startStream(firstStream + i);
+						stats.add(sample.applyAsDouble(i));
+					}
+					return stats;
+				}));
+			}
+			for (Future<Stats> future : futures) {
+				total.add(future.get());
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Play a duplicate deal: the deal of a stream, once with player in each seat against opponent.  Both games
+	 * start the stream over, so they are dealt the same deck and draw the same random numbers, and each player
+	 * holds each hand once.  The luck of the deal then cancels out of the mean.
+	 *
+	 * @param stream the random stream of the deal
+	 * @return the mean utility of player over the two games
+	 */
+	public static double playDuplicate(Player player, Player opponent, long stream) {
+		RandomStreams.startStream(stream);
+		GameNode.UtilityProbability utilProb = GameNode.playFrom(new GameState(), new Player[] {player, opponent}, -1, 1.0, true);
+		double first = utilProb.scaledUtility * utilProb.pTail;
+		RandomStreams.startStream(stream);
+		utilProb = GameNode.playFrom(new GameState(), new Player[] {opponent, player}, -1, 1.0, true);
+		double second = -utilProb.scaledUtility * utilProb.pTail;
+		return (first + second) / 2;
+	}
+
+	/**
+	 * Play the same duplicate deal with two players against the same opponent
+	 *
+	 * @param stream the random stream of the deal
+	 * @return how much more a wins than b against opponent on the deal
+	 */
+	public static double compareDuplicate(Player a, Player b, Player opponent, long stream) {
+		return playDuplicate(a, opponent, stream) - playDuplicate(b, opponent, stream);
+	}
+
+	/**
+	 * Compare the CFR players of two checkpoints against the base player on duplicate deals, e.g. to A/B test
+	 * changes to the knock strategy.
+	 * <p>
+	 * Usage: java Evaluation a.ckpt b.ckpt [threads [maxGames [seed]]]
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+		if (args.length < 2) {
+			System.err.println("Usage: java Evaluation a.ckpt b.ckpt [threads [maxGames [seed]]]");
+			return;
+		}
+		int threads = args.length >= 3 ? Integer.parseInt(args[2]) : 8;
+		int maxGames = args.length >= 4 ? Integer.parseInt(args[3]) : 100_000;
+		if (args.length >= 5) RandomStreams.setMasterSeed(Long.parseLong(args[4]));
+
+		Player a = loadPlayer(args[0]);
+		Player b = loadPlayer(args[1]);
+		Player basePlayer = new Player(new StrategyDraw(false), new StrategyDiscard(false), new StrategyKnock(false));
+
+		// a sample is 4 games: each player in each seat of the same deal
+		Evaluation evaluation = new Evaluation(0.5, 3.0, 250, Math.max(maxGames / 4, 250));
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			Stats diff = evaluation.run(pool, threads, 64, 0L, deal -> compareDuplicate(a, b, basePlayer, deal));
+			System.out.printf("EV of %s minus EV of %s vs. base player is %.3f +/- %.3f (standard error %.3f over %d deals)\n",
+					args[0], args[1], diff.getMean(), Z * diff.getStandardError(), diff.getStandardError(), diff.getCount());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * @return a CFR player with the strategies of a checkpoint, playing its average strategy
+	 */
+	private static Player loadPlayer(String checkpoint) throws IOException {
+		Player player = new Player(new StrategyDrawFinal(false), new StrategyDiscardFinal(false), new StrategyKnockFinal(false));
+		Checkpoint.read(Paths.get(checkpoint), player.getDrawStrategy(), player.getDiscardStrategy(), player.getKnockStrategy());
+		return player;
+	}
+
+	/**
+	 * @return whether stats satisfy the stopping rule
+	 */
+	private boolean isDone(Stats stats) {
+		if (stats.getCount() < minSamples) return false;
+		double standardError = stats.getStandardError();
+		return 2 * Z * standardError < width || Math.abs(stats.getMean()) > sequentialZ * standardError;
+	}
+
+	/**
+	 * The running count, mean and variance of a sample (Welford's algorithm), which can be merged with those
+	 * of another sample (Chan et al.)
+	 */
+	public static class Stats {
+		private long count;
+		private double mean;
+		private double sumSquares; // of the deviations from the mean
+
+		/**
+		 * Add a value to the sample
+		 */
+		public void add(double x) {
+			count++;
+			double delta = x - mean;
+			mean += delta / count;
+			sumSquares += delta * (x - mean);
+		}
+
+		/**
+		 * Add the values of another sample to this one
+		 */
+		public void add(Stats other) {
+			if (other.count == 0) return;
+			long n = count + other.count;
+			double delta = other.mean - mean;
+			mean += delta * other.count / n;
+			sumSquares += other.sumSquares + delta * delta * count * other.count / n;
+			count = n;
+		}
+
+		/**
+		 * @return the number of values
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return the mean of the values
+		 */
+		public double getMean() {
+			return mean;
+		}
+
+		/**
+		 * @return the unbiased sample variance
+		 */
+		public double getVariance() {
+			return count < 2 ? Double.POSITIVE_INFINITY : sumSquares / (count - 1);
+		}
+
+		/**
+		 * @return the standard error of the mean
+		 */
+		public double getStandardError() {
+			return Math.sqrt(getVariance() / count);
+		}
+	}
+}
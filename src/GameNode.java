@@ -1,14 +1,30 @@
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
 
 public class GameNode {
 	public static boolean DEBUG = false;
-	public static Random prng = new Random();
 	public static double EPSILON = 0.6; // the proportion of time that we sample uniformly from all actions
 	// when sampling regret
 
 	public static double MAX_TURNS = 15; // To speed training, we limit the game to 10 turns each
 
+	/*
+	 * Regret-based pruning: when a game is played with pruning, the player being trained never samples an action
+	 * whose cumulative regret is below PRUNE_THRESHOLD, unless all of its actions are.  Such actions have no
+	 * probability in the regret matching strategy, so this only takes away their share of the EPSILON
+	 * exploration.  The regret of a pruned action is left as it is in that game: it could not be sampled, so
+	 * its sampled regret would only have the negative term.  Pruning starts after PRUNE_DELAY iterations, and
+	 * every PRUNE_RECHECK_INTERVAL-th game is played without it, so that pruned actions keep receiving unbiased
+	 * regret updates and can recover.
+	 */
+	public static boolean PRUNE = false;
+	public static double PRUNE_THRESHOLD = -1000.0;
+	public static int PRUNE_DELAY = 1;
+	public static int PRUNE_RECHECK_INTERVAL = 20;
+
+	private static final LongAdder prunableActions = new LongAdder(); // actions considered for pruning
+	private static final LongAdder prunedActions = new LongAdder();
+
 	public static class UtilityProbability {
 		double scaledUtility;  // [the utility at the sampled terminal node]/[probability we play to this node]
 		double pTail;          // [the probability we play from this node to the sampled terminal node]
@@ -38,6 +54,16 @@ public class GameNode {
 	 *                    [the probability we play from this node to the sampled terminal node]>
 	 */
 	public static UtilityProbability playFrom(GameState state, Player[] players, int player_i, double pi, boolean useAveStrategy) {
+		return playFrom(state, players, player_i, pi, useAveStrategy, false);
+	}
+
+	/**
+	 * Sample game from the current game state, optionally pruning the actions of player_i with very negative
+	 * regret (see PRUNE_THRESHOLD)
+	 *
+	 * @param prune whether to prune, normally the value of shouldPrune for the game
+	 */
+	public static UtilityProbability playFrom(GameState state, Player[] players, int player_i, double pi, boolean useAveStrategy, boolean prune) {
 		if (DEBUG) {
 			System.out.println(state.toString());
 		}
@@ -55,19 +81,19 @@ public class GameNode {
 				System.out.println("The draw pile was reduced to two cards without knocking, so the hand is cancelled.");
 			int player = state.getCurrentPlayer();
 			int opponent = player==0?1:0;
-			int myDeadwood = PshUtil.getBestDeadwood(state.getPlayerCardsAsList(player));
-			int otherDeadwood = PshUtil.getBestDeadwood(state.getPlayerCardsAsList(opponent));
+			int myDeadwood = PshUtil.getBestDeadwood(state.getPlayerCards(player));
+			int otherDeadwood = PshUtil.getBestDeadwood(state.getPlayerCards(opponent));
 			return new UtilityProbability((otherDeadwood - myDeadwood)/pi, 1.0);
 		}
 
 		if (state.getDecisionPoint()%3 == 0) {
-			return drawCard(state, players, player_i, pi, useAveStrategy);
+			return drawCard(state, players, player_i, pi, useAveStrategy, prune);
 		}
 		else if (state.getDecisionPoint()%3 == 1) {
-			return discardCard(state, players, player_i, pi, useAveStrategy);
+			return discardCard(state, players, player_i, pi, useAveStrategy, prune);
 		}
 		else {
-			return knock(state, players, player_i, pi, useAveStrategy);
+			return knock(state, players, player_i, pi, useAveStrategy, prune);
 		}
 	}
 
@@ -85,10 +111,12 @@ public class GameNode {
 	 *             Note that this strategy will be sigma' if useStrategy is false, otherwise it will be
 	 *             sigma_bar.
 	 * @param useAveStrategy if this is true, we will use the average strategy for all players.
+	 * @param prune whether to prune the actions of player_i with very negative regret
 	 * @return A pair of <[the utility at the sampled terminal node]/[probability we play to this node],
 	 *                    [the probability we play from this node to the sampled terminal node]>
 	 */
-	private static UtilityProbability drawCard(GameState state, Player[] players, int player_i, double pi, boolean useAveStrategy) {
+	private static UtilityProbability drawCard(GameState state, Player[] players, int player_i, double pi, boolean useAveStrategy, boolean prune) {
+		long start = TrainingMetrics.now();
 		int player = state.getCurrentPlayer();
 
 		if (useAveStrategy) {
@@ -112,11 +140,15 @@ public class GameNode {
 			}
 		}
 		// End TODO
+		long pruned = 0L; // a mask of the actions pruned
+		if (prune && !useAveStrategy && player == player_i) {
+			pruned = prune(players[player].getDrawStrategy(), actions, probability);
+		}
 
 		int actionIndex = 0;
 		// TODO: Set actionIndex to the current action, choosing action i with a probability proportional
 		// probability[i]
-		double selector = prng.nextDouble();
+		double selector = RandomStreams.current().nextDouble();
 		while (selector > 0 && actionIndex < actions.length-1) {
 			selector -= probability[actionIndex];
 			if (selector > 0) actionIndex++;
@@ -125,32 +157,21 @@ public class GameNode {
 
 		UtilityProbability uP;
 
-		GameState nextState;
-
-		if (actions[actionIndex].isDraw()) {
-			if (DEBUG) System.out.println("Drawing face up card");
-
-			nextState = new GameState(state);
-			nextState.addFaceUpCardToHand();
-		}
-		else if (state.getDecisionPoint() == 0 || state.getDecisionPoint() == 3) {
-			// For first face up card, we don't automatically pickup a card if we decline it
-			nextState = new GameState(state, state.getDecisionPoint() + 3);
-		}
-		else {
-			nextState = new GameState(state);
-			nextState.addFaceDownCardToHand();
-		}
+		if (DEBUG && actions[actionIndex].isDraw()) System.out.println("Drawing face up card");
+		long subtreeStart = TrainingMetrics.now();
+		state.apply(actions[actionIndex]);
 
 		// TODO: Set uP equal to the value returned by the call to playFrom from the nextState game state
 		// Note that the call will vary based on whether player == player_i
 		if (player == player_i) {
-			uP = playFrom(nextState, players, player_i, pi * probability[actionIndex], useAveStrategy);
+			uP = playFrom(state, players, player_i, pi * probability[actionIndex], useAveStrategy, prune);
 		}
 		else {
-			uP = playFrom(nextState, players, player_i, pi, useAveStrategy);
+			uP = playFrom(state, players, player_i, pi, useAveStrategy, prune);
 		}
 		// End TODO
+		state.undo();
+		long subtreeEnd = TrainingMetrics.now();
 
 		// If we don't draw first face up card, we jumped directly to other player's turn, so we
 		// need to negate utility
@@ -160,7 +181,7 @@ public class GameNode {
 
 		if (useAveStrategy == false) {
 			if (player == player_i) {
-				players[player].getDrawStrategy().updateSampledRegret(actions, actionIndex, uP);
+				players[player].getDrawStrategy().updateSampledRegret(actions, actionIndex, uP, pruned);
 			}
 			else {
 				players[player].getDrawStrategy().updateAverageStrategy(actions, pi);
@@ -174,6 +195,7 @@ public class GameNode {
 			uP.pTail *= actions[actionIndex].p;
 		}
 		// END TODO
+		TrainingMetrics.recordDecision(TrainingMetrics.Decision.DRAW, subtreeStart - start + TrainingMetrics.now() - subtreeEnd);
 		return uP;
 	}
 
@@ -191,10 +213,12 @@ public class GameNode {
 	 *             Note that this strategy will be sigma' if useStrategy is false, otherwise it will be
 	 *             sigma_bar.
 	 * @param useAveStrategy if this is true, we will use the average strategy for all players.
+	 * @param prune whether to prune the actions of player_i with very negative regret
 	 * @return A pair of <[the utility at the sampled terminal node]/[probability we play to this node],
 	 *                    [the probability we play from this node to the sampled terminal node]>
 	 */
-	private static UtilityProbability discardCard(GameState state, Player[] players, int player_i, double pi, boolean useAveStrategy) {
+	private static UtilityProbability discardCard(GameState state, Player[] players, int player_i, double pi, boolean useAveStrategy, boolean prune) {
+		long start = TrainingMetrics.now();
 		int player = state.getCurrentPlayer();
 
 		if (useAveStrategy) {
@@ -218,11 +242,15 @@ public class GameNode {
 			}
 		}
 		// End TODO
+		long pruned = 0L; // a mask of the actions pruned
+		if (prune && !useAveStrategy && player == player_i) {
+			pruned = prune(players[player].getDiscardStrategy(), discards, probability);
+		}
 
 		int actionIndex = 0;
 		// TODO: Set actionIndex to the current action, choosing action i with a probability proportional
 		// probability[i]
-		double selector = prng.nextDouble();
+		double selector = RandomStreams.current().nextDouble();
 		while (selector > 0 && actionIndex < discards.length-1) {
 			selector -= probability[actionIndex];
 			if (selector > 0) actionIndex++;
@@ -231,23 +259,25 @@ public class GameNode {
 
 		ActionDiscard discard = discards[actionIndex];
 		if (DEBUG) System.out.println("Discarding " + discard.getCardAsObject().toString());
-		GameState nextState = new GameState(state);
-		nextState.discardCard(discard.getCard());
+		long subtreeStart = TrainingMetrics.now();
+		state.apply(discard);
 
 		UtilityProbability uP;
 		// TODO: Set uP equal to the value returned by the call to playFrom from the nextState game state
 		// Note that the call will vary based on whether player == player_i
 		if (player == player_i) {
-			uP = playFrom(nextState, players, player_i, pi * probability[actionIndex], useAveStrategy);
+			uP = playFrom(state, players, player_i, pi * probability[actionIndex], useAveStrategy, prune);
 		}
 		else {
-			uP = playFrom(nextState, players, player_i, pi, useAveStrategy);
+			uP = playFrom(state, players, player_i, pi, useAveStrategy, prune);
 		}
 		// End TODO
+		state.undo();
+		long subtreeEnd = TrainingMetrics.now();
 
 		if (useAveStrategy == false) {
 			if (player == player_i) {
-				players[player].getDiscardStrategy().updateSampledRegret(discards, actionIndex, uP);
+				players[player].getDiscardStrategy().updateSampledRegret(discards, actionIndex, uP, pruned);
 			}
 			else {
 				players[player].getDiscardStrategy().updateAverageStrategy(discards, pi);
@@ -260,6 +290,7 @@ public class GameNode {
 			uP.pTail *= discards[actionIndex].p;
 		}
 		// End TODO
+		TrainingMetrics.recordDecision(TrainingMetrics.Decision.DISCARD, subtreeStart - start + TrainingMetrics.now() - subtreeEnd);
 
 		return uP;
 	}
@@ -279,10 +310,12 @@ public class GameNode {
 	 *             sigma_bar.
 	 * //@param p this is probability that this node would be reached given the current strategy used by all players
 	 * @param useAveStrategy if this is true, we will use the average strategy for all players.
+	 * @param prune whether to prune the actions of player_i with very negative regret
 	 * @return A pair of <[the utility at the sampled terminal node]/[probability we play to this node],
 	 *                    [the probability we play from this node to the sampled terminal node]>
 	 */
-	private static UtilityProbability knock(GameState state, Player[] players, int player_i, double pi, boolean useAveStrategy) {
+	private static UtilityProbability knock(GameState state, Player[] players, int player_i, double pi, boolean useAveStrategy, boolean prune) {
+		long start = TrainingMetrics.now();
 		int player = state.getCurrentPlayer();
 
 		if (useAveStrategy) {
@@ -299,8 +332,12 @@ public class GameNode {
 				probability[action] = EPSILON / actions.length + (1.0 - EPSILON) * actions[action].p;
 			}
 		}
+		long pruned = 0L; // a mask of the actions pruned
+		if (prune && !useAveStrategy && player == player_i) {
+			pruned = prune(players[player].getKnockStrategy(), actions, probability);
+		}
 
-		double selector = prng.nextDouble();
+		double selector = RandomStreams.current().nextDouble();
 		int actionIndex = 0;
 		while (selector > 0 && actionIndex < actions.length-1) {
 			selector -= probability[actionIndex];
@@ -309,6 +346,8 @@ public class GameNode {
 
 		UtilityProbability uP;
 
+		// scoring a knock counts as the subtree
+		long subtreeStart = TrainingMetrics.now();
 		if (actions[actionIndex].isKnock()) {
 			if (DEBUG) System.out.println("Knock - game over");
 			double util = gameOver(state);
@@ -317,33 +356,30 @@ public class GameNode {
 			// End TODO
 		}
 		else {
-			GameState nextState;
-			if (state.getDecisionPoint() == 2) {
-				// For first face up card, we picked up, so advance to first play for player 2 where they can pick up
-				if (DEBUG) System.out.println("Round 1, and player 0 picked up so advance to first regular play for other player");
-				nextState = new GameState(state, state.getDecisionPoint() + 7);
-			}
-			else {
-				if (DEBUG) System.out.println("No knock");
-				nextState = new GameState(state);
+			if (DEBUG) {
+				if (state.getDecisionPoint() == 2) System.out.println("Round 1, and player 0 picked up so advance to first regular play for other player");
+				else System.out.println("No knock");
 			}
+			state.apply(actions[actionIndex]);
 			// TODO: Set uP equal to the value returned by the call to playFrom from the nextState game state
 			// Note that the call will vary based on whether player == player_i
 			if (player == player_i) {
-				uP = playFrom(nextState, players, player_i, pi * probability[actionIndex], useAveStrategy);
+				uP = playFrom(state, players, player_i, pi * probability[actionIndex], useAveStrategy, prune);
 			}
 			else {
-				uP = playFrom(nextState, players, player_i, pi, useAveStrategy);
+				uP = playFrom(state, players, player_i, pi, useAveStrategy, prune);
 			}
 			// End TODO
+			state.undo();
 
 			// Other player goes next, so we need to negate utility
 			uP.scaledUtility = -uP.scaledUtility;
 		}
+		long subtreeEnd = TrainingMetrics.now();
 
 		if (useAveStrategy == false) {
 			if (player == player_i) {
-				players[player].getKnockStrategy().updateSampledRegret(actions, actionIndex, uP);
+				players[player].getKnockStrategy().updateSampledRegret(actions, actionIndex, uP, pruned);
 			}
 			else {
 				players[player].getKnockStrategy().updateAverageStrategy(actions, pi);
@@ -356,11 +392,76 @@ public class GameNode {
 			uP.pTail *= actions[actionIndex].p;
 		}
 		// End TODO
+		TrainingMetrics.recordDecision(TrainingMetrics.Decision.KNOCK, subtreeStart - start + TrainingMetrics.now() - subtreeEnd);
 
 		return uP;
 	}
 
 
+	/**
+	 * @param iteration the number of iterations of the trained strategies completed
+	 * @param game the index of the game in the iteration
+	 * @return whether to play the game with pruning
+	 */
+	public static boolean shouldPrune(int iteration, int game) {
+		return PRUNE && iteration >= PRUNE_DELAY && game % PRUNE_RECHECK_INTERVAL != 0;
+	}
+
+	/**
+	 * Take the sampling probability of the actions whose regret is below PRUNE_THRESHOLD and share it among the
+	 * others in proportion to their probability.  If every action would be pruned, none is.  The mask is a
+	 * long rather than an array so that traversal does not allocate; no decision has more than 64 actions.
+	 *
+	 * @return a mask with bit a set if actions[a] was pruned
+	 */
+	private static long prune(Strategy strategy, Action[] actions, double[] probability) {
+		if (actions.length < 2 || actions.length > Long.SIZE) return 0L;
+		long pruned = 0L;
+		int numPrunable = 0, numPruned = 0;
+		double remaining = 0.0;
+		for (int action = 0; action < actions.length; ++action) {
+			if (actions[action].infosetAndAction != Action.NO_INFOSET) {
+				numPrunable++;
+				if (strategy.isRegretBelow(actions[action], PRUNE_THRESHOLD)) {
+					pruned |= 1L << action;
+					numPruned++;
+					continue;
+				}
+			}
+			remaining += probability[action];
+		}
+		prunableActions.add(numPrunable);
+		if (numPruned == 0 || numPruned == actions.length || remaining == 0.0) return 0L;
+
+		prunedActions.add(numPruned);
+		for (int action = 0; action < actions.length; ++action) {
+			probability[action] = (pruned >>> action & 1L) != 0 ? 0.0 : probability[action] / remaining;
+		}
+		return pruned;
+	}
+
+	/**
+	 * @return the number of actions of the player being trained that were considered for pruning
+	 */
+	public static long getPrunableActions() {
+		return prunableActions.sum();
+	}
+
+	/**
+	 * @return the number of actions that were pruned
+	 */
+	public static long getPrunedActions() {
+		return prunedActions.sum();
+	}
+
+	/**
+	 * @return the proportion of the actions considered for pruning that were pruned
+	 */
+	public static double getPruneRate() {
+		long prunable = getPrunableActions();
+		return prunable == 0 ? 0.0 : (double) getPrunedActions() / prunable;
+	}
+
 	@SuppressWarnings("unchecked")
 	private static double gameOver(GameState state) {
 		int player = state.getCurrentPlayer();
@@ -370,18 +471,17 @@ public class GameNode {
 
 		// check legality of knocking meld
 		long unmelded = state.getCurrentPlayerCards();
-
-		for (ArrayList<Card> meld : knockMelds) {
-			long meldBitstring = GinRummyUtil.cardsToBitstring(meld);
-			if (!GinRummyUtil.getAllMeldBitstrings().contains(meldBitstring) // non-meld ...
-					|| (meldBitstring & unmelded) != meldBitstring) { // ... or meld not in hand
-				throw new RuntimeException("Player "  + player + " melds " + knockMelds + " illegally and forfeits.\n");
-			}
-			unmelded &= ~meldBitstring; // remove successfully melded cards from
+		long[] knockMeldBitstrings = new long[knockMelds.size()];
+		for (int i = 0; i < knockMelds.size(); i++) {
+			knockMeldBitstrings[i] = GinRummyUtil.cardsToBitstring(knockMelds.get(i));
+			unmelded &= ~knockMeldBitstrings[i];
+		}
+		if (!GinRummyUtil.isLegalMeldSet(knockMeldBitstrings, state.getCurrentPlayerCards())) {
+			throw new RuntimeException("Player "  + player + " melds " + knockMelds + " illegally and forfeits.\n");
 		}
 
 		// compute knocking deadwood
-		int knockingDeadwood = GinRummyUtil.getDeadwoodPoints(knockMelds, state.getCurrentPlayerCardsAsList());
+		int knockingDeadwood = MeldSolver.getDeadwoodPoints(unmelded);
 		if (knockingDeadwood > GinRummyUtil.MAX_DEADWOOD) {
 			throw new RuntimeException("Player " + player + " melds " + knockMelds + " with " + knockingDeadwood + " deadwood and forfeits.\n");
 		}
@@ -400,7 +500,7 @@ public class GameNode {
 		long opponentUnmelded = state.getPlayerCards(opponent);
 		for (ArrayList<Card> meld : opponentMelds) {
 			long meldBitstring = GinRummyUtil.cardsToBitstring(meld);
-			if (!GinRummyUtil.getAllMeldBitstrings().contains(meldBitstring) // non-meld ...
+			if (!GinRummyUtil.isMeld(meldBitstring) // non-meld ...
 					|| (meldBitstring & opponentUnmelded) != meldBitstring) { // ... or meld not in hand
 				throw new RuntimeException("Player " + opponent + " melds " + opponentMelds + " illegally and forfeits.\n");
 			}
@@ -410,41 +510,11 @@ public class GameNode {
 			System.out.printf("Player %d melds %s.\n", opponent, opponentMelds);
 
 		// lay off on knocking meld (if not gin)
-		ArrayList<Card> unmeldedCards = GinRummyUtil.bitstringToCards(opponentUnmelded);
-		if (knockingDeadwood > 0) { // knocking player didn't go gin
-			boolean cardWasLaidOff;
-			do { // attempt to lay each card off
-				cardWasLaidOff = false;
-				Card layOffCard = null;
-				ArrayList<Card> layOffMeld = null;
-				for (Card card : unmeldedCards) {
-					for (ArrayList<Card> meld : knockMelds) {
-						ArrayList<Card> newMeld = (ArrayList<Card>) meld.clone();
-						newMeld.add(card);
-						long newMeldBitstring = GinRummyUtil.cardsToBitstring(newMeld);
-						if (GinRummyUtil.getAllMeldBitstrings().contains(newMeldBitstring)) {
-							layOffCard = card;
-							layOffMeld = meld;
-							break;
-						}
-					}
-					if (layOffCard != null) {
-						if (DEBUG)
-							System.out.printf("Player %d lays off %s on %s.\n", opponent, layOffCard, layOffMeld);
-						unmeldedCards.remove(layOffCard);
-						layOffMeld.add(layOffCard);
-						cardWasLaidOff = true;
-						break;
-					}
-
-				}
-			} while (cardWasLaidOff);
-		}
-		int opponentDeadwood = 0;
-		for (Card card : unmeldedCards)
-			opponentDeadwood += GinRummyUtil.getDeadwoodPoints(card);
+		if (knockingDeadwood > 0) // knocking player didn't go gin
+			opponentUnmelded = GinRummyUtil.layOff(knockMeldBitstrings, opponentUnmelded);
+		int opponentDeadwood = MeldSolver.getDeadwoodPoints(opponentUnmelded);
 		if (DEBUG)
-			System.out.printf("Player %d has %d deadwood with %s\n", opponent, opponentDeadwood, unmeldedCards);
+			System.out.printf("Player %d has %d deadwood with %s\n", opponent, opponentDeadwood, GinRummyUtil.bitstringToCards(opponentUnmelded));
 
 		// compare deadwood and compute new scores
 		if (knockingDeadwood == 0) { // gin round win
@@ -1,14 +1,28 @@
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.Arrays;
 
 /**
- * The state of a game at a point in time
+ * The state of a game at a point in time.
+ * 
+ * A game tree traversal moves a single GameState down the tree with apply and back up with undo, instead of
+ * allocating a child state per node.  apply saves every field it may change, including those of the
+ * embedded GinRummyAndTonic_Player.States, on a stack of primitives that undo restores from.
  * 
  * @author jjb24
  */
 public class GameState {
 	private static final int HAND_SIZE = 10;
-	private static final Random prng = new Random();
+	/**
+	 * Longs and ints saved per player by apply: the Player fields, then the State fields
+	 */
+	private static final int PLAYER_LONGS = 5 + GinRummyAndTonic_Player.State.SAVED_LONGS;
+	private static final int PLAYER_INTS = GinRummyAndTonic_Player.State.SAVED_INTS;
+	/**
+	 * Longs and ints saved per apply: topCard, faceUpCard, decisionPoint and previousFaceUpCard, then the players
+	 */
+	private static final int LEVEL_LONGS = 2 + 2 * PLAYER_LONGS;
+	private static final int LEVEL_INTS = 2 + 2 * PLAYER_INTS;
+	private static final int INITIAL_LEVELS = 128;
 	
 	public static class Player {
 		long cards = 0; // Cards in our hand
@@ -83,8 +97,15 @@ public class GameState {
 	private long[] deck; 
 	private int topCard = 0; // index into deck for top card
 	private long faceUpCard; // Top of discard pile
+	private long previousFaceUpCard; // faceUpCard before the last apply, 0 at the root
 	private int decisionPoint = 0;
-	private GameState previous;
+
+	/**
+	 * Undo stack, LEVEL_LONGS longs and LEVEL_INTS ints per apply not yet undone
+	 */
+	private long[] savedLongs = new long[INITIAL_LEVELS * LEVEL_LONGS];
+	private int[] savedInts = new int[INITIAL_LEVELS * LEVEL_INTS];
+	private int depth = 0;
 
 	/**
 	 * Create a new randomized root for the game tree
@@ -96,7 +117,7 @@ public class GameState {
 		
 		// Shuffle
 		for (int i = 0; i < 52; i++) {
-			int j = prng.nextInt(52);
+			int j = RandomStreams.current().nextInt(52);
 			long tmp = deck[i];
 			deck[i] = deck[j];
 			deck[j] = tmp;
@@ -116,38 +137,96 @@ public class GameState {
 	}
 
 	/**
-	 * Create a child of a game tree node
+	 * Move to the child of this node in the game tree reached by an action of the current player
 	 * 
-	 * @param lastState the parent node in the game tree
+	 * @param action an ActionDraw, an ActionDiscard, or an ActionKnock that does not knock
 	 */
-	public GameState(GameState lastState) {
-		topCard = lastState.topCard;
-		faceUpCard = lastState.faceUpCard;
-		players = new Player[]{new Player(lastState.players[0]), new Player(lastState.players[1])};
-		this.decisionPoint = lastState.decisionPoint + 1;
-		deck = lastState.deck;
-		previous = lastState;
+	public void apply(Action action) {
+		if (action instanceof ActionDraw) {
+			if (((ActionDraw) action).isDraw()) {
+				advance(decisionPoint + 1);
+				addFaceUpCardToHand();
+			}
+			else if (decisionPoint == 0 || decisionPoint == 3) {
+				// For first face up card, we don't automatically pickup a card if we decline it
+				advance(decisionPoint + 3);
+			}
+			else {
+				advance(decisionPoint + 1);
+				addFaceDownCardToHand();
+			}
+		}
+		else if (action instanceof ActionDiscard) {
+			advance(decisionPoint + 1);
+			discardCard(((ActionDiscard) action).getCard());
+		}
+		else if (action instanceof ActionKnock) {
+			if (((ActionKnock) action).isKnock()) throw new IllegalArgumentException("Knocking ends the game, there is no state to move to");
+			// For first face up card, if player 0 picked up, advance to first regular play for the other player
+			advance(decisionPoint == 2 ? decisionPoint + 7 : decisionPoint + 1);
+		}
+		else {
+			throw new IllegalArgumentException("Unknown action " + action);
+		}
+	}
 
-		generateGRTStates();
+	/**
+	 * Move back to the parent of this node, undoing the last apply
+	 */
+	public void undo() {
+		if (depth == 0) throw new IllegalStateException("No action to undo");
+		depth--;
+		int l = depth * LEVEL_LONGS;
+		int n = depth * LEVEL_INTS;
+		faceUpCard = savedLongs[l++];
+		previousFaceUpCard = savedLongs[l++];
+		topCard = savedInts[n++];
+		decisionPoint = savedInts[n++];
+		for (Player p : players) {
+			p.cards = savedLongs[l++];
+			p.seenCards = savedLongs[l++];
+			p.oppCards = savedLongs[l++];
+			p.discard = savedLongs[l++];
+			p.forwent = savedLongs[l++];
+			p.state2.restoreFrom(savedLongs, l, savedInts, n);
+			l += GinRummyAndTonic_Player.State.SAVED_LONGS;
+			n += PLAYER_INTS;
+		}
 	}
 
 	/**
-	 * Create a child of a game tree node with flexibility in setting the decision point.
-	 * Note that this will normally only be called on the first turn, where both players
-	 * may be given the chance to draw the first face up card.
-	 * 
-	 * @param lastState the parent node in the game tree
-	 * @param decisionPoint the decision point index for this node
+	 * Save this node on the undo stack and make it the next decision point, with the player and State
+	 * bookkeeping done between nodes.  The action's own changes are made by the caller.
 	 */
-	public GameState(GameState lastState, int decisionPoint) {
-		topCard = lastState.topCard;
-		faceUpCard = lastState.faceUpCard;
-		players = new Player[]{new Player(lastState.players[0]), new Player(lastState.players[1])};
-		this.decisionPoint = decisionPoint;
-		deck = lastState.deck;
-		previous = lastState;
+	private void advance(int nextDecisionPoint) {
+		if ((depth + 1) * LEVEL_LONGS > savedLongs.length) {
+			savedLongs = Arrays.copyOf(savedLongs, 2 * savedLongs.length);
+			savedInts = Arrays.copyOf(savedInts, 2 * savedInts.length);
+		}
+		int l = depth * LEVEL_LONGS;
+		int n = depth * LEVEL_INTS;
+		savedLongs[l++] = faceUpCard;
+		savedLongs[l++] = previousFaceUpCard;
+		savedInts[n++] = topCard;
+		savedInts[n++] = decisionPoint;
+		for (Player p : players) {
+			savedLongs[l++] = p.cards;
+			savedLongs[l++] = p.seenCards;
+			savedLongs[l++] = p.oppCards;
+			savedLongs[l++] = p.discard;
+			savedLongs[l++] = p.forwent;
+			p.state2.saveTo(savedLongs, l, savedInts, n);
+			l += GinRummyAndTonic_Player.State.SAVED_LONGS;
+			n += PLAYER_INTS;
+		}
+		depth++;
 
-		generateGRTStates();
+		decisionPoint = nextDecisionPoint;
+		previousFaceUpCard = faceUpCard;
+		for (Player p : players) {
+			p.forwent = 0;
+		}
+		updateGRTStates();
 	}
 	
 	/**
@@ -240,7 +319,7 @@ public class GameState {
 	 * Add the currently face up card to the current players hand.  Note that 
 	 * the opponent will know that this card is in the current players hand.	
 	 */
-	public void addFaceUpCardToHand() {
+	private void addFaceUpCardToHand() {
 		int player = getCurrentPlayer();
 		int opponent = player==0?1:0;
 
@@ -261,7 +340,7 @@ public class GameState {
 	/**
 	 * Add a face down card to the current players hand.	
 	 */
-	public void addFaceDownCardToHand() {
+	private void addFaceDownCardToHand() {
 		long card = deck[topCard];
 
 		topCard += 1;
@@ -286,7 +365,7 @@ public class GameState {
 	 *
 	 * @param card the card to discard as a bitstring
 	 */
-	public void discardCard(long card) {
+	private void discardCard(long card) {
 		int player = getCurrentPlayer();
 		int opponent = player==0?1:0;
 				
@@ -327,20 +406,21 @@ public class GameState {
 	}
 
 	/**
-	 * Get the previous game state in the game tree
-	 * 
-	 * @return the parent state
+	 * @return the face up card in the discard pile at the parent node, as a bitstring (0 at the root)
 	 */
-	public GameState getPreviousState() {
-		return previous;
+	public long getPreviousFaceUpCard() {
+		return previousFaceUpCard;
 	}
 
+	/**
+	 * Create the GinRummyAndTonic_Player.State of each player at the root
+	 */
 	public void generateGRTStates() {
 		for(int i = 0; i < players.length; i++) {
 			Player p = players[i];
 			GinRummyAndTonic_Player.State s = new GinRummyAndTonic_Player.State(new ArrayList<>());
 			s.setFaceUp(GinRummyAndTonic_Player.MyGinRummyUtil.bitstringToIDArray(faceUpCard)[0]);
-			s.setFaceUpPrevious(previous == null? -1 : GinRummyAndTonic_Player.MyGinRummyUtil.bitstringToIDArray(previous.faceUpCard)[0]);
+			s.setFaceUpPrevious(-1);
 			s.setHand(p.cards);
 			s.setOppDiscard(getOther(i).discard);
 			s.setOppForwent(getOther(i).forwent);
@@ -348,19 +428,42 @@ public class GameState {
 			s.setNum_remaining(0);
 			s.setSeen(p.seenCards);
 			s.setOppHand(p.oppCards);
-			s.setTurn(previous == null? 0 : previous.players[i].state2.getTurn());
+			s.setTurn(0);
 			p.state2 = s;
 		}
 	}
 
+	/**
+	 * Bring each player's GinRummyAndTonic_Player.State up to date with the player fields in place when
+	 * moving to a child node, keeping its turn
+	 */
+	private void updateGRTStates() {
+		int faceUp = GinRummyAndTonic_Player.MyGinRummyUtil.bitstringToIDArray(faceUpCard)[0];
+		for(int i = 0; i < players.length; i++) {
+			Player p = players[i];
+			GinRummyAndTonic_Player.State s = p.state2;
+			// the action has not changed the face up card yet, so it is still the parent's
+			s.setFaceUp(faceUp);
+			s.setFaceUpPrevious(faceUp);
+			s.setHand(p.cards);
+			s.setOppDiscard(getOther(i).discard);
+			s.setOppForwent(getOther(i).forwent);
+			s.setTopCard(topCard);
+			s.setNum_remaining(0);
+			s.setSeen(p.seenCards);
+			s.setOppHand(p.oppCards);
+		}
+	}
+
 	public int getDrawn(int player) {
-		if(previous == null) return -1;
+		if(depth == 0) return -1;
 
 		/*
 		 * The card that is currently in the player's hand that wasn't last turn is the card they drew.
 		 */
+		long previousCards = savedLongs[(depth - 1) * LEVEL_LONGS + 2 + player * PLAYER_LONGS];
 		for (int c : GinRummyAndTonic_Player.MyGinRummyUtil.bitstringToIDArray(getPlayerCards(player))) {
-			if(!GinRummyAndTonic_Player.MyGinRummyUtil.contains(previous.getPlayerCards(player), c)) {
+			if(!GinRummyAndTonic_Player.MyGinRummyUtil.contains(previousCards, c)) {
 				return c;
 			}
 		}
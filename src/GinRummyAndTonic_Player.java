@@ -27,6 +27,11 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
     static double DEADWOOD_W3 = 1.00;
     static int MINIMUM_OPPONENT_OBSERVATIONS = 100;
 
+    /**
+     * Deadwood of hands searched for layoffs, shared across rounds
+     */
+    private static final DeadwoodCache layoffDeadwoodCache = new DeadwoodCache(1 << 12);
+
     final static int[] countTurns = {18149,18332,18169,17748,17389,16822,15964,14673,13021,11074,8983,7022,5213,3705,2483,1536,755,223,33,4,0};
 
     // <editor-fold desc="Instance Variables">
@@ -38,7 +43,7 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
     /**
      * prng
      */
-    private Random random = new Random();
+    private Random random = new Random(RandomStreams.current().nextLong());
 
     /**
      * Becomes true if opponent has knocked.
@@ -67,3598 +72,6 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
     // </editor-fold>
 
     public GinRummyAndTonic_Player() {
-        HashMap<String, Double> knockStrat = new HashMap<String, Double>() {
-            {
-                put("9_49_9", 0.000);
-                put("9_49_8", 0.000);
-                put("9_49_7", 0.000);
-                put("9_49_6", 0.000);
-                put("9_49_5", 0.000);
-                put("9_49_4", 0.000);
-                put("9_49_3", 0.000);
-                put("9_49_2", 0.001);
-                put("9_49_10", 0.000);
-                put("9_49_1", 0.002);
-                put("9_48_9", 0.000);
-                put("9_48_8", 0.000);
-                put("9_48_7", 0.000);
-                put("9_48_6", 0.000);
-                put("9_48_5", 0.000);
-                put("9_48_4", 0.000);
-                put("9_48_3", 0.001);
-                put("9_48_2", 0.001);
-                put("9_48_10", 0.000);
-                put("9_48_1", 0.001);
-                put("9_47_9", 0.000);
-                put("9_47_8", 0.000);
-                put("9_47_7", 0.000);
-                put("9_47_6", 0.000);
-                put("9_47_5", 0.000);
-                put("9_47_4", 0.000);
-                put("9_47_3", 0.000);
-                put("9_47_2", 0.001);
-                put("9_47_10", 0.000);
-                put("9_47_1", 0.002);
-                put("9_46_9", 0.000);
-                put("9_46_8", 0.000);
-                put("9_46_7", 0.000);
-                put("9_46_6", 0.000);
-                put("9_46_5", 0.000);
-                put("9_46_4", 0.000);
-                put("9_46_3", 0.000);
-                put("9_46_2", 0.000);
-                put("9_46_10", 0.000);
-                put("9_46_1", 0.000);
-                put("9_45_9", 0.000);
-                put("9_45_8", 0.000);
-                put("9_45_7", 0.000);
-                put("9_45_6", 0.000);
-                put("9_45_5", 0.000);
-                put("9_45_4", 0.000);
-                put("9_45_3", 0.000);
-                put("9_45_2", 0.000);
-                put("9_45_10", 0.000);
-                put("9_45_1", 0.003);
-                put("9_44_9", 0.000);
-                put("9_44_8", 0.000);
-                put("9_44_7", 0.000);
-                put("9_44_6", 0.000);
-                put("9_44_5", 0.000);
-                put("9_44_4", 0.000);
-                put("9_44_3", 0.000);
-                put("9_44_2", 0.000);
-                put("9_44_10", 0.000);
-                put("9_44_1", 0.001);
-                put("9_43_9", 0.000);
-                put("9_43_8", 0.000);
-                put("9_43_7", 0.000);
-                put("9_43_6", 0.000);
-                put("9_43_5", 0.000);
-                put("9_43_4", 0.000);
-                put("9_43_3", 0.000);
-                put("9_43_2", 0.000);
-                put("9_43_10", 0.000);
-                put("9_43_1", 0.001);
-                put("9_42_9", 0.000);
-                put("9_42_8", 0.000);
-                put("9_42_7", 0.000);
-                put("9_42_6", 0.000);
-                put("9_42_5", 0.000);
-                put("9_42_4", 0.000);
-                put("9_42_3", 0.000);
-                put("9_42_2", 0.000);
-                put("9_42_10", 0.000);
-                put("9_42_1", 0.001);
-                put("9_41_9", 0.000);
-                put("9_41_8", 0.000);
-                put("9_41_7", 0.000);
-                put("9_41_6", 0.000);
-                put("9_41_5", 0.000);
-                put("9_41_4", 0.000);
-                put("9_41_3", 0.000);
-                put("9_41_2", 0.000);
-                put("9_41_10", 0.000);
-                put("9_41_1", 0.001);
-                put("9_40_9", 0.000);
-                put("9_40_8", 0.000);
-                put("9_40_7", 0.000);
-                put("9_40_6", 0.000);
-                put("9_40_5", 0.000);
-                put("9_40_4", 0.000);
-                put("9_40_3", 0.000);
-                put("9_40_2", 0.000);
-                put("9_40_10", 0.000);
-                put("9_40_1", 0.000);
-                put("9_39_9", 0.000);
-                put("9_39_8", 0.000);
-                put("9_39_7", 0.000);
-                put("9_39_6", 0.000);
-                put("9_39_5", 0.000);
-                put("9_39_4", 0.000);
-                put("9_39_3", 0.000);
-                put("9_39_2", 0.000);
-                put("9_39_10", 0.000);
-                put("9_39_1", 0.000);
-                put("9_38_9", 0.000);
-                put("9_38_8", 0.000);
-                put("9_38_7", 0.000);
-                put("9_38_6", 0.000);
-                put("9_38_5", 0.000);
-                put("9_38_4", 0.000);
-                put("9_38_3", 0.000);
-                put("9_38_2", 0.000);
-                put("9_38_10", 0.000);
-                put("9_38_1", 0.000);
-                put("9_37_9", 0.000);
-                put("9_37_8", 0.000);
-                put("9_37_7", 0.000);
-                put("9_37_6", 0.000);
-                put("9_37_5", 0.000);
-                put("9_37_4", 0.000);
-                put("9_37_3", 0.000);
-                put("9_37_2", 0.000);
-                put("9_37_10", 0.000);
-                put("9_37_1", 0.000);
-                put("9_36_9", 0.000);
-                put("9_36_8", 0.000);
-                put("9_36_7", 0.000);
-                put("9_36_6", 0.000);
-                put("9_36_5", 0.000);
-                put("9_36_4", 0.000);
-                put("9_36_3", 0.000);
-                put("9_36_2", 0.000);
-                put("9_36_10", 0.000);
-                put("9_36_1", 0.000);
-                put("9_35_9", 0.000);
-                put("9_35_8", 0.000);
-                put("9_35_7", 0.000);
-                put("9_35_6", 0.000);
-                put("9_35_5", 0.000);
-                put("9_35_4", 0.000);
-                put("9_35_3", 0.000);
-                put("9_35_2", 0.000);
-                put("9_35_10", 0.000);
-                put("9_35_1", 0.000);
-                put("9_34_9", 0.000);
-                put("9_34_8", 0.000);
-                put("9_34_7", 0.000);
-                put("9_34_6", 0.000);
-                put("9_34_5", 0.000);
-                put("9_34_4", 0.000);
-                put("9_34_3", 0.000);
-                put("9_34_2", 0.000);
-                put("9_34_10", 0.000);
-                put("9_34_1", 0.000);
-                put("9_33_9", 0.000);
-                put("9_33_8", 0.000);
-                put("9_33_7", 0.000);
-                put("9_33_6", 0.000);
-                put("9_33_5", 0.000);
-                put("9_33_4", 0.000);
-                put("9_33_3", 0.000);
-                put("9_33_2", 0.000);
-                put("9_33_10", 0.000);
-                put("9_33_1", 0.000);
-                put("9_32_9", 0.000);
-                put("9_32_8", 0.000);
-                put("9_32_7", 0.000);
-                put("9_32_6", 0.000);
-                put("9_32_5", 0.000);
-                put("9_32_4", 0.000);
-                put("9_32_3", 0.000);
-                put("9_32_2", 0.000);
-                put("9_32_10", 0.000);
-                put("9_32_1", 0.000);
-                put("9_31_9", 0.000);
-                put("9_31_8", 0.000);
-                put("9_31_7", 0.000);
-                put("9_31_6", 0.000);
-                put("9_31_5", 0.000);
-                put("9_31_4", 0.000);
-                put("9_31_3", 0.000);
-                put("9_31_2", 0.000);
-                put("9_31_10", 0.000);
-                put("9_31_1", 0.001);
-                put("9_30_9", 0.000);
-                put("9_30_8", 0.000);
-                put("9_30_7", 0.000);
-                put("9_30_6", 0.000);
-                put("9_30_5", 0.000);
-                put("9_30_4", 0.000);
-                put("9_30_3", 0.000);
-                put("9_30_2", 0.000);
-                put("9_30_10", 0.000);
-                put("9_30_1", 0.000);
-                put("9_29_9", 0.003);
-                put("9_29_8", 0.001);
-                put("9_29_7", 0.000);
-                put("9_29_6", 0.000);
-                put("9_29_5", 0.000);
-                put("9_29_4", 0.000);
-                put("9_29_3", 0.000);
-                put("9_29_2", 0.000);
-                put("9_29_10", 1.000);
-                put("9_29_1", 0.001);
-                put("9_28_9", 0.001);
-                put("9_28_8", 0.147);
-                put("9_28_7", 0.000);
-                put("9_28_6", 0.000);
-                put("9_28_5", 0.000);
-                put("9_28_4", 0.000);
-                put("9_28_3", 0.000);
-                put("9_28_2", 0.000);
-                put("9_28_10", 0.000);
-                put("9_28_1", 0.002);
-                put("9_27_9", 0.081);
-                put("9_27_8", 0.000);
-                put("9_27_7", 0.000);
-                put("9_27_6", 0.000);
-                put("9_27_5", 0.000);
-                put("9_27_4", 0.000);
-                put("9_27_3", 0.000);
-                put("9_27_2", 0.000);
-                put("9_27_10", 0.200);
-                put("9_27_1", 0.001);
-                put("9_26_9", 0.000);
-                put("9_26_8", 0.000);
-                put("9_26_7", 0.015);
-                put("9_26_6", 0.000);
-                put("9_26_5", 0.000);
-                put("9_26_4", 0.000);
-                put("9_26_3", 0.000);
-                put("9_26_2", 0.000);
-                put("9_26_10", 0.000);
-                put("9_26_1", 0.003);
-                put("9_25_9", 0.001);
-                put("9_25_8", 0.000);
-                put("9_25_7", 0.000);
-                put("9_25_6", 0.000);
-                put("9_25_5", 0.000);
-                put("9_25_4", 0.000);
-                put("9_25_3", 0.000);
-                put("9_25_2", 0.000);
-                put("9_25_10", 0.000);
-                put("9_25_1", 0.046);
-                put("9_24_9", 0.005);
-                put("9_24_8", 0.019);
-                put("9_24_7", 0.000);
-                put("9_24_6", 0.000);
-                put("9_24_5", 0.000);
-                put("9_24_4", 0.000);
-                put("9_24_3", 0.000);
-                put("9_24_2", 0.001);
-                put("9_24_10", 0.036);
-                put("9_24_1", 0.006);
-                put("9_23_9", 1.000);
-                put("9_23_8", 0.000);
-                put("9_23_7", 0.000);
-                put("9_23_6", 0.000);
-                put("9_23_5", 0.000);
-                put("9_23_4", 0.001);
-                put("9_23_3", 0.002);
-                put("9_23_2", 0.005);
-                put("9_23_10", 0.000);
-                put("9_23_1", 0.018);
-                put("9_22_9", 0.000);
-                put("9_22_8", 0.000);
-                put("9_22_7", 0.000);
-                put("9_22_6", 0.001);
-                put("9_22_5", 0.001);
-                put("9_22_4", 0.002);
-                put("9_22_3", 0.021);
-                put("9_22_2", 0.010);
-                put("9_22_10", 0.452);
-                put("9_22_1", 0.042);
-                put("9_21_9", 0.000);
-                put("9_21_8", 0.075);
-                put("9_21_7", 0.024);
-                put("9_21_6", 0.001);
-                put("9_21_5", 0.500);
-                put("9_21_4", 0.001);
-                put("9_21_3", 0.063);
-                put("9_21_2", 0.001);
-                put("9_21_10", 1.000);
-                put("9_21_1", 0.223);
-                put("8_49_9", 0.000);
-                put("8_49_8", 0.000);
-                put("8_49_7", 0.000);
-                put("8_49_6", 0.000);
-                put("8_49_5", 0.000);
-                put("8_49_4", 0.000);
-                put("8_49_3", 0.000);
-                put("8_49_2", 0.001);
-                put("8_49_10", 0.000);
-                put("8_49_1", 0.003);
-                put("8_48_9", 0.000);
-                put("8_48_8", 0.000);
-                put("8_48_7", 0.000);
-                put("8_48_6", 0.000);
-                put("8_48_5", 0.000);
-                put("8_48_4", 0.000);
-                put("8_48_3", 0.000);
-                put("8_48_2", 0.000);
-                put("8_48_10", 0.000);
-                put("8_48_1", 0.002);
-                put("8_47_9", 0.000);
-                put("8_47_8", 0.000);
-                put("8_47_7", 0.000);
-                put("8_47_6", 0.000);
-                put("8_47_5", 0.000);
-                put("8_47_4", 0.000);
-                put("8_47_3", 0.000);
-                put("8_47_2", 0.000);
-                put("8_47_10", 0.000);
-                put("8_47_1", 0.001);
-                put("8_46_9", 0.000);
-                put("8_46_8", 0.000);
-                put("8_46_7", 0.000);
-                put("8_46_6", 0.000);
-                put("8_46_5", 0.000);
-                put("8_46_4", 0.000);
-                put("8_46_3", 0.000);
-                put("8_46_2", 0.000);
-                put("8_46_10", 0.000);
-                put("8_46_1", 0.001);
-                put("8_45_9", 0.000);
-                put("8_45_8", 0.000);
-                put("8_45_7", 0.000);
-                put("8_45_6", 0.000);
-                put("8_45_5", 0.000);
-                put("8_45_4", 0.000);
-                put("8_45_3", 0.000);
-                put("8_45_2", 0.000);
-                put("8_45_10", 0.000);
-                put("8_45_1", 0.001);
-                put("8_44_9", 0.000);
-                put("8_44_8", 0.000);
-                put("8_44_7", 0.000);
-                put("8_44_6", 0.000);
-                put("8_44_5", 0.000);
-                put("8_44_4", 0.000);
-                put("8_44_3", 0.000);
-                put("8_44_2", 0.000);
-                put("8_44_10", 0.000);
-                put("8_44_1", 0.000);
-                put("8_43_9", 0.000);
-                put("8_43_8", 0.000);
-                put("8_43_7", 0.000);
-                put("8_43_6", 0.000);
-                put("8_43_5", 0.000);
-                put("8_43_4", 0.000);
-                put("8_43_3", 0.000);
-                put("8_43_2", 0.000);
-                put("8_43_10", 0.000);
-                put("8_43_1", 0.000);
-                put("8_42_9", 0.000);
-                put("8_42_8", 0.000);
-                put("8_42_7", 0.000);
-                put("8_42_6", 0.000);
-                put("8_42_5", 0.000);
-                put("8_42_4", 0.000);
-                put("8_42_3", 0.000);
-                put("8_42_2", 0.000);
-                put("8_42_10", 0.000);
-                put("8_42_1", 0.001);
-                put("8_41_9", 0.000);
-                put("8_41_8", 0.000);
-                put("8_41_7", 0.000);
-                put("8_41_6", 0.000);
-                put("8_41_5", 0.000);
-                put("8_41_4", 0.000);
-                put("8_41_3", 0.000);
-                put("8_41_2", 0.000);
-                put("8_41_10", 0.000);
-                put("8_41_1", 0.001);
-                put("8_40_9", 0.000);
-                put("8_40_8", 0.000);
-                put("8_40_7", 0.000);
-                put("8_40_6", 0.000);
-                put("8_40_5", 0.000);
-                put("8_40_4", 0.000);
-                put("8_40_3", 0.000);
-                put("8_40_2", 0.000);
-                put("8_40_10", 0.000);
-                put("8_40_1", 0.000);
-                put("8_39_9", 0.000);
-                put("8_39_8", 0.000);
-                put("8_39_7", 0.000);
-                put("8_39_6", 0.000);
-                put("8_39_5", 0.000);
-                put("8_39_4", 0.000);
-                put("8_39_3", 0.000);
-                put("8_39_2", 0.000);
-                put("8_39_10", 0.000);
-                put("8_39_1", 0.000);
-                put("8_38_9", 0.000);
-                put("8_38_8", 0.000);
-                put("8_38_7", 0.000);
-                put("8_38_6", 0.000);
-                put("8_38_5", 0.000);
-                put("8_38_4", 0.000);
-                put("8_38_3", 0.000);
-                put("8_38_2", 0.000);
-                put("8_38_10", 0.000);
-                put("8_38_1", 0.000);
-                put("8_37_9", 0.000);
-                put("8_37_8", 0.000);
-                put("8_37_7", 0.000);
-                put("8_37_6", 0.000);
-                put("8_37_5", 0.000);
-                put("8_37_4", 0.000);
-                put("8_37_3", 0.000);
-                put("8_37_2", 0.000);
-                put("8_37_10", 0.000);
-                put("8_37_1", 0.000);
-                put("8_36_9", 0.000);
-                put("8_36_8", 0.000);
-                put("8_36_7", 0.000);
-                put("8_36_6", 0.000);
-                put("8_36_5", 0.000);
-                put("8_36_4", 0.000);
-                put("8_36_3", 0.000);
-                put("8_36_2", 0.000);
-                put("8_36_10", 0.000);
-                put("8_36_1", 0.000);
-                put("8_35_9", 0.000);
-                put("8_35_8", 0.000);
-                put("8_35_7", 0.000);
-                put("8_35_6", 0.000);
-                put("8_35_5", 0.000);
-                put("8_35_4", 0.000);
-                put("8_35_3", 0.000);
-                put("8_35_2", 0.000);
-                put("8_35_10", 0.000);
-                put("8_35_1", 0.000);
-                put("8_34_9", 0.000);
-                put("8_34_8", 0.000);
-                put("8_34_7", 0.000);
-                put("8_34_6", 0.000);
-                put("8_34_5", 0.000);
-                put("8_34_4", 0.000);
-                put("8_34_3", 0.000);
-                put("8_34_2", 0.000);
-                put("8_34_10", 0.000);
-                put("8_34_1", 0.000);
-                put("8_33_9", 0.000);
-                put("8_33_8", 0.000);
-                put("8_33_7", 0.000);
-                put("8_33_6", 0.000);
-                put("8_33_5", 0.000);
-                put("8_33_4", 0.000);
-                put("8_33_3", 0.000);
-                put("8_33_2", 0.000);
-                put("8_33_10", 0.000);
-                put("8_33_1", 0.000);
-                put("8_32_9", 0.000);
-                put("8_32_8", 0.000);
-                put("8_32_7", 0.000);
-                put("8_32_6", 0.000);
-                put("8_32_5", 0.000);
-                put("8_32_4", 0.000);
-                put("8_32_3", 0.000);
-                put("8_32_2", 0.000);
-                put("8_32_10", 0.000);
-                put("8_32_1", 0.000);
-                put("8_31_9", 0.000);
-                put("8_31_8", 0.000);
-                put("8_31_7", 0.000);
-                put("8_31_6", 0.000);
-                put("8_31_5", 0.000);
-                put("8_31_4", 0.000);
-                put("8_31_3", 0.000);
-                put("8_31_2", 0.000);
-                put("8_31_10", 0.000);
-                put("8_31_1", 0.000);
-                put("8_30_9", 0.000);
-                put("8_30_8", 0.000);
-                put("8_30_7", 0.000);
-                put("8_30_6", 0.000);
-                put("8_30_5", 0.000);
-                put("8_30_4", 0.000);
-                put("8_30_3", 0.000);
-                put("8_30_2", 0.000);
-                put("8_30_10", 0.000);
-                put("8_30_1", 0.000);
-                put("8_29_9", 0.000);
-                put("8_29_8", 0.000);
-                put("8_29_7", 0.000);
-                put("8_29_6", 0.000);
-                put("8_29_5", 0.000);
-                put("8_29_4", 0.000);
-                put("8_29_3", 0.000);
-                put("8_29_2", 0.000);
-                put("8_29_10", 0.014);
-                put("8_29_1", 0.000);
-                put("8_28_9", 0.000);
-                put("8_28_8", 0.188);
-                put("8_28_7", 0.000);
-                put("8_28_6", 0.000);
-                put("8_28_5", 0.000);
-                put("8_28_4", 0.000);
-                put("8_28_3", 0.000);
-                put("8_28_2", 0.000);
-                put("8_28_10", 0.021);
-                put("8_28_1", 0.001);
-                put("8_27_9", 0.000);
-                put("8_27_8", 1.000);
-                put("8_27_7", 0.000);
-                put("8_27_6", 0.000);
-                put("8_27_5", 0.000);
-                put("8_27_4", 0.000);
-                put("8_27_3", 0.000);
-                put("8_27_2", 0.000);
-                put("8_27_10", 0.019);
-                put("8_27_1", 0.001);
-                put("8_26_9", 0.001);
-                put("8_26_8", 0.000);
-                put("8_26_7", 0.000);
-                put("8_26_6", 0.000);
-                put("8_26_5", 0.000);
-                put("8_26_4", 0.000);
-                put("8_26_3", 0.000);
-                put("8_26_2", 0.000);
-                put("8_26_10", 0.000);
-                put("8_26_1", 0.002);
-                put("8_25_9", 0.000);
-                put("8_25_8", 0.001);
-                put("8_25_7", 0.000);
-                put("8_25_6", 0.000);
-                put("8_25_5", 0.000);
-                put("8_25_4", 0.000);
-                put("8_25_3", 0.000);
-                put("8_25_2", 0.001);
-                put("8_25_10", 0.000);
-                put("8_25_1", 0.018);
-                put("8_24_9", 0.000);
-                put("8_24_8", 0.000);
-                put("8_24_7", 0.000);
-                put("8_24_6", 0.000);
-                put("8_24_5", 0.000);
-                put("8_24_4", 0.000);
-                put("8_24_3", 0.001);
-                put("8_24_2", 0.001);
-                put("8_24_10", 1.000);
-                put("8_24_1", 0.005);
-                put("8_23_9", 0.004);
-                put("8_23_8", 0.000);
-                put("8_23_7", 0.000);
-                put("8_23_6", 0.000);
-                put("8_23_5", 0.000);
-                put("8_23_4", 0.001);
-                put("8_23_3", 0.003);
-                put("8_23_2", 0.005);
-                put("8_23_10", 0.667);
-                put("8_23_1", 0.009);
-                put("8_22_9", 0.331);
-                put("8_22_8", 0.000);
-                put("8_22_7", 0.000);
-                put("8_22_6", 0.001);
-                put("8_22_5", 0.001);
-                put("8_22_4", 0.003);
-                put("8_22_3", 0.007);
-                put("8_22_2", 0.026);
-                put("8_22_10", 0.000);
-                put("8_22_1", 0.412);
-                put("8_21_9", 0.016);
-                put("8_21_8", 0.095);
-                put("8_21_7", 0.667);
-                put("8_21_6", 0.061);
-                put("8_21_5", 0.001);
-                put("8_21_4", 0.001);
-                put("8_21_3", 0.001);
-                put("8_21_2", 0.667);
-                put("8_21_10", 0.061);
-                put("8_21_1", 0.400);
-                put("7_49_9", 0.000);
-                put("7_49_8", 0.000);
-                put("7_49_7", 0.000);
-                put("7_49_6", 0.000);
-                put("7_49_5", 0.000);
-                put("7_49_4", 0.000);
-                put("7_49_3", 0.000);
-                put("7_49_2", 0.000);
-                put("7_49_10", 0.000);
-                put("7_49_1", 0.003);
-                put("7_48_9", 0.000);
-                put("7_48_8", 0.000);
-                put("7_48_7", 0.000);
-                put("7_48_6", 0.000);
-                put("7_48_5", 0.000);
-                put("7_48_4", 0.000);
-                put("7_48_3", 0.000);
-                put("7_48_2", 0.000);
-                put("7_48_10", 0.000);
-                put("7_48_1", 0.001);
-                put("7_47_9", 0.000);
-                put("7_47_8", 0.000);
-                put("7_47_7", 0.000);
-                put("7_47_6", 0.000);
-                put("7_47_5", 0.000);
-                put("7_47_4", 0.000);
-                put("7_47_3", 0.000);
-                put("7_47_2", 0.000);
-                put("7_47_10", 0.000);
-                put("7_47_1", 0.002);
-                put("7_46_9", 0.000);
-                put("7_46_8", 0.000);
-                put("7_46_7", 0.000);
-                put("7_46_6", 0.000);
-                put("7_46_5", 0.000);
-                put("7_46_4", 0.000);
-                put("7_46_3", 0.000);
-                put("7_46_2", 0.000);
-                put("7_46_10", 0.000);
-                put("7_46_1", 0.001);
-                put("7_45_9", 0.000);
-                put("7_45_8", 0.000);
-                put("7_45_7", 0.000);
-                put("7_45_6", 0.000);
-                put("7_45_5", 0.000);
-                put("7_45_4", 0.000);
-                put("7_45_3", 0.000);
-                put("7_45_2", 0.000);
-                put("7_45_10", 0.000);
-                put("7_45_1", 0.000);
-                put("7_44_9", 0.000);
-                put("7_44_8", 0.000);
-                put("7_44_7", 0.000);
-                put("7_44_6", 0.000);
-                put("7_44_5", 0.000);
-                put("7_44_4", 0.000);
-                put("7_44_3", 0.000);
-                put("7_44_2", 0.000);
-                put("7_44_10", 0.000);
-                put("7_44_1", 0.001);
-                put("7_43_9", 0.000);
-                put("7_43_8", 0.000);
-                put("7_43_7", 0.000);
-                put("7_43_6", 0.000);
-                put("7_43_5", 0.000);
-                put("7_43_4", 0.000);
-                put("7_43_3", 0.000);
-                put("7_43_2", 0.000);
-                put("7_43_10", 0.000);
-                put("7_43_1", 0.000);
-                put("7_42_9", 0.000);
-                put("7_42_8", 0.000);
-                put("7_42_7", 0.000);
-                put("7_42_6", 0.000);
-                put("7_42_5", 0.000);
-                put("7_42_4", 0.000);
-                put("7_42_3", 0.000);
-                put("7_42_2", 0.000);
-                put("7_42_10", 0.000);
-                put("7_42_1", 0.000);
-                put("7_41_9", 0.000);
-                put("7_41_8", 0.000);
-                put("7_41_7", 0.000);
-                put("7_41_6", 0.000);
-                put("7_41_5", 0.000);
-                put("7_41_4", 0.000);
-                put("7_41_3", 0.000);
-                put("7_41_2", 0.000);
-                put("7_41_10", 0.000);
-                put("7_41_1", 0.000);
-                put("7_40_9", 0.000);
-                put("7_40_8", 0.000);
-                put("7_40_7", 0.000);
-                put("7_40_6", 0.000);
-                put("7_40_5", 0.000);
-                put("7_40_4", 0.000);
-                put("7_40_3", 0.000);
-                put("7_40_2", 0.000);
-                put("7_40_10", 0.000);
-                put("7_40_1", 0.000);
-                put("7_39_9", 0.000);
-                put("7_39_8", 0.000);
-                put("7_39_7", 0.000);
-                put("7_39_6", 0.000);
-                put("7_39_5", 0.000);
-                put("7_39_4", 0.000);
-                put("7_39_3", 0.000);
-                put("7_39_2", 0.000);
-                put("7_39_10", 0.000);
-                put("7_39_1", 0.000);
-                put("7_38_9", 0.000);
-                put("7_38_8", 0.000);
-                put("7_38_7", 0.000);
-                put("7_38_6", 0.000);
-                put("7_38_5", 0.000);
-                put("7_38_4", 0.000);
-                put("7_38_3", 0.000);
-                put("7_38_2", 0.000);
-                put("7_38_10", 0.000);
-                put("7_38_1", 0.000);
-                put("7_37_9", 0.000);
-                put("7_37_8", 0.000);
-                put("7_37_7", 0.000);
-                put("7_37_6", 0.000);
-                put("7_37_5", 0.000);
-                put("7_37_4", 0.000);
-                put("7_37_3", 0.000);
-                put("7_37_2", 0.000);
-                put("7_37_10", 0.000);
-                put("7_37_1", 0.000);
-                put("7_36_9", 0.000);
-                put("7_36_8", 0.000);
-                put("7_36_7", 0.000);
-                put("7_36_6", 0.000);
-                put("7_36_5", 0.000);
-                put("7_36_4", 0.000);
-                put("7_36_3", 0.000);
-                put("7_36_2", 0.000);
-                put("7_36_10", 0.000);
-                put("7_36_1", 0.000);
-                put("7_35_9", 0.000);
-                put("7_35_8", 0.000);
-                put("7_35_7", 0.000);
-                put("7_35_6", 0.000);
-                put("7_35_5", 0.000);
-                put("7_35_4", 0.000);
-                put("7_35_3", 0.000);
-                put("7_35_2", 0.000);
-                put("7_35_10", 0.000);
-                put("7_35_1", 0.000);
-                put("7_34_9", 0.000);
-                put("7_34_8", 0.000);
-                put("7_34_7", 0.000);
-                put("7_34_6", 0.000);
-                put("7_34_5", 0.000);
-                put("7_34_4", 0.000);
-                put("7_34_3", 0.000);
-                put("7_34_2", 0.000);
-                put("7_34_10", 0.000);
-                put("7_34_1", 0.000);
-                put("7_33_9", 0.000);
-                put("7_33_8", 0.000);
-                put("7_33_7", 0.000);
-                put("7_33_6", 0.000);
-                put("7_33_5", 0.000);
-                put("7_33_4", 0.000);
-                put("7_33_3", 0.000);
-                put("7_33_2", 0.000);
-                put("7_33_10", 0.000);
-                put("7_33_1", 0.000);
-                put("7_32_9", 0.000);
-                put("7_32_8", 0.000);
-                put("7_32_7", 0.000);
-                put("7_32_6", 0.000);
-                put("7_32_5", 0.000);
-                put("7_32_4", 0.000);
-                put("7_32_3", 0.000);
-                put("7_32_2", 0.000);
-                put("7_32_10", 0.000);
-                put("7_32_1", 0.000);
-                put("7_31_9", 0.000);
-                put("7_31_8", 0.001);
-                put("7_31_7", 0.000);
-                put("7_31_6", 0.000);
-                put("7_31_5", 0.000);
-                put("7_31_4", 0.000);
-                put("7_31_3", 0.000);
-                put("7_31_2", 0.000);
-                put("7_31_10", 0.000);
-                put("7_31_1", 0.000);
-                put("7_30_9", 0.000);
-                put("7_30_8", 0.004);
-                put("7_30_7", 0.000);
-                put("7_30_6", 0.000);
-                put("7_30_5", 0.000);
-                put("7_30_4", 0.000);
-                put("7_30_3", 0.000);
-                put("7_30_2", 0.000);
-                put("7_30_10", 0.000);
-                put("7_30_1", 0.000);
-                put("7_29_9", 0.001);
-                put("7_29_8", 0.000);
-                put("7_29_7", 0.000);
-                put("7_29_6", 0.000);
-                put("7_29_5", 0.000);
-                put("7_29_4", 0.000);
-                put("7_29_3", 0.000);
-                put("7_29_2", 0.000);
-                put("7_29_10", 0.000);
-                put("7_29_1", 0.000);
-                put("7_28_9", 0.001);
-                put("7_28_8", 0.000);
-                put("7_28_7", 0.000);
-                put("7_28_6", 0.000);
-                put("7_28_5", 0.000);
-                put("7_28_4", 0.000);
-                put("7_28_3", 0.000);
-                put("7_28_2", 0.000);
-                put("7_28_10", 0.000);
-                put("7_28_1", 0.002);
-                put("7_27_9", 0.001);
-                put("7_27_8", 0.000);
-                put("7_27_7", 0.000);
-                put("7_27_6", 0.000);
-                put("7_27_5", 0.000);
-                put("7_27_4", 0.000);
-                put("7_27_3", 0.000);
-                put("7_27_2", 0.000);
-                put("7_27_10", 0.000);
-                put("7_27_1", 0.001);
-                put("7_26_9", 0.040);
-                put("7_26_8", 0.004);
-                put("7_26_7", 0.000);
-                put("7_26_6", 0.000);
-                put("7_26_5", 0.000);
-                put("7_26_4", 0.000);
-                put("7_26_3", 0.000);
-                put("7_26_2", 0.001);
-                put("7_26_10", 0.000);
-                put("7_26_1", 0.004);
-                put("7_25_9", 1.000);
-                put("7_25_8", 0.000);
-                put("7_25_7", 0.000);
-                put("7_25_6", 0.000);
-                put("7_25_5", 0.000);
-                put("7_25_4", 0.000);
-                put("7_25_3", 0.000);
-                put("7_25_2", 0.001);
-                put("7_25_10", 0.017);
-                put("7_25_1", 0.003);
-                put("7_24_9", 0.000);
-                put("7_24_8", 0.000);
-                put("7_24_7", 0.000);
-                put("7_24_6", 0.000);
-                put("7_24_5", 0.000);
-                put("7_24_4", 0.000);
-                put("7_24_3", 0.001);
-                put("7_24_2", 0.002);
-                put("7_24_10", 1.000);
-                put("7_24_1", 0.008);
-                put("7_23_9", 0.000);
-                put("7_23_8", 0.741);
-                put("7_23_7", 0.000);
-                put("7_23_6", 0.000);
-                put("7_23_5", 0.001);
-                put("7_23_4", 0.001);
-                put("7_23_3", 0.003);
-                put("7_23_2", 0.007);
-                put("7_23_10", 0.000);
-                put("7_23_1", 0.031);
-                put("7_22_9", 0.008);
-                put("7_22_8", 0.000);
-                put("7_22_7", 0.001);
-                put("7_22_6", 0.001);
-                put("7_22_5", 0.001);
-                put("7_22_4", 0.004);
-                put("7_22_3", 0.008);
-                put("7_22_2", 0.017);
-                put("7_22_10", 0.361);
-                put("7_22_1", 0.384);
-                put("7_21_9", 0.001);
-                put("7_21_8", 0.001);
-                put("7_21_7", 0.001);
-                put("7_21_6", 0.001);
-                put("7_21_5", 0.001);
-                put("7_21_4", 1.000);
-                put("7_21_3", 0.001);
-                put("7_21_2", 0.001);
-                put("7_21_10", 0.000);
-                put("7_21_1", 0.001);
-                put("6_49_9", 0.000);
-                put("6_49_8", 0.000);
-                put("6_49_7", 0.000);
-                put("6_49_6", 0.000);
-                put("6_49_5", 0.000);
-                put("6_49_4", 0.000);
-                put("6_49_3", 0.000);
-                put("6_49_2", 0.000);
-                put("6_49_10", 0.000);
-                put("6_49_1", 0.001);
-                put("6_48_9", 0.000);
-                put("6_48_8", 0.000);
-                put("6_48_7", 0.000);
-                put("6_48_6", 0.000);
-                put("6_48_5", 0.000);
-                put("6_48_4", 0.000);
-                put("6_48_3", 0.000);
-                put("6_48_2", 0.000);
-                put("6_48_10", 0.000);
-                put("6_48_1", 0.001);
-                put("6_47_9", 0.000);
-                put("6_47_8", 0.000);
-                put("6_47_7", 0.000);
-                put("6_47_6", 0.000);
-                put("6_47_5", 0.000);
-                put("6_47_4", 0.000);
-                put("6_47_3", 0.000);
-                put("6_47_2", 0.000);
-                put("6_47_10", 0.000);
-                put("6_47_1", 0.001);
-                put("6_46_9", 0.000);
-                put("6_46_8", 0.000);
-                put("6_46_7", 0.000);
-                put("6_46_6", 0.000);
-                put("6_46_5", 0.000);
-                put("6_46_4", 0.000);
-                put("6_46_3", 0.000);
-                put("6_46_2", 0.000);
-                put("6_46_10", 0.000);
-                put("6_46_1", 0.000);
-                put("6_45_9", 0.000);
-                put("6_45_8", 0.000);
-                put("6_45_7", 0.000);
-                put("6_45_6", 0.000);
-                put("6_45_5", 0.000);
-                put("6_45_4", 0.000);
-                put("6_45_3", 0.000);
-                put("6_45_2", 0.000);
-                put("6_45_10", 0.000);
-                put("6_45_1", 0.001);
-                put("6_44_9", 0.000);
-                put("6_44_8", 0.000);
-                put("6_44_7", 0.000);
-                put("6_44_6", 0.000);
-                put("6_44_5", 0.000);
-                put("6_44_4", 0.000);
-                put("6_44_3", 0.000);
-                put("6_44_2", 0.000);
-                put("6_44_10", 0.000);
-                put("6_44_1", 0.000);
-                put("6_43_9", 0.000);
-                put("6_43_8", 0.000);
-                put("6_43_7", 0.000);
-                put("6_43_6", 0.000);
-                put("6_43_5", 0.000);
-                put("6_43_4", 0.000);
-                put("6_43_3", 0.000);
-                put("6_43_2", 0.000);
-                put("6_43_10", 0.000);
-                put("6_43_1", 0.000);
-                put("6_42_9", 0.000);
-                put("6_42_8", 0.000);
-                put("6_42_7", 0.000);
-                put("6_42_6", 0.000);
-                put("6_42_5", 0.000);
-                put("6_42_4", 0.000);
-                put("6_42_3", 0.000);
-                put("6_42_2", 0.000);
-                put("6_42_10", 0.000);
-                put("6_42_1", 0.000);
-                put("6_41_9", 0.000);
-                put("6_41_8", 0.000);
-                put("6_41_7", 0.000);
-                put("6_41_6", 0.000);
-                put("6_41_5", 0.000);
-                put("6_41_4", 0.000);
-                put("6_41_3", 0.000);
-                put("6_41_2", 0.000);
-                put("6_41_10", 0.000);
-                put("6_41_1", 0.000);
-                put("6_40_9", 0.000);
-                put("6_40_8", 0.000);
-                put("6_40_7", 0.000);
-                put("6_40_6", 0.000);
-                put("6_40_5", 0.000);
-                put("6_40_4", 0.000);
-                put("6_40_3", 0.000);
-                put("6_40_2", 0.000);
-                put("6_40_10", 0.000);
-                put("6_40_1", 0.000);
-                put("6_39_9", 0.000);
-                put("6_39_8", 0.000);
-                put("6_39_7", 0.000);
-                put("6_39_6", 0.000);
-                put("6_39_5", 0.000);
-                put("6_39_4", 0.000);
-                put("6_39_3", 0.000);
-                put("6_39_2", 0.000);
-                put("6_39_10", 0.000);
-                put("6_39_1", 0.000);
-                put("6_38_9", 0.000);
-                put("6_38_8", 0.000);
-                put("6_38_7", 0.000);
-                put("6_38_6", 0.000);
-                put("6_38_5", 0.000);
-                put("6_38_4", 0.000);
-                put("6_38_3", 0.000);
-                put("6_38_2", 0.000);
-                put("6_38_10", 0.000);
-                put("6_38_1", 0.000);
-                put("6_37_9", 0.000);
-                put("6_37_8", 0.000);
-                put("6_37_7", 0.000);
-                put("6_37_6", 0.000);
-                put("6_37_5", 0.000);
-                put("6_37_4", 0.000);
-                put("6_37_3", 0.000);
-                put("6_37_2", 0.000);
-                put("6_37_10", 0.000);
-                put("6_37_1", 0.000);
-                put("6_36_9", 0.000);
-                put("6_36_8", 0.000);
-                put("6_36_7", 0.000);
-                put("6_36_6", 0.000);
-                put("6_36_5", 0.000);
-                put("6_36_4", 0.000);
-                put("6_36_3", 0.000);
-                put("6_36_2", 0.000);
-                put("6_36_10", 0.000);
-                put("6_36_1", 0.000);
-                put("6_35_9", 0.000);
-                put("6_35_8", 0.000);
-                put("6_35_7", 0.000);
-                put("6_35_6", 0.000);
-                put("6_35_5", 0.000);
-                put("6_35_4", 0.000);
-                put("6_35_3", 0.000);
-                put("6_35_2", 0.000);
-                put("6_35_10", 0.000);
-                put("6_35_1", 0.000);
-                put("6_34_9", 0.000);
-                put("6_34_8", 0.000);
-                put("6_34_7", 0.000);
-                put("6_34_6", 0.000);
-                put("6_34_5", 0.000);
-                put("6_34_4", 0.000);
-                put("6_34_3", 0.000);
-                put("6_34_2", 0.000);
-                put("6_34_10", 0.000);
-                put("6_34_1", 0.000);
-                put("6_33_9", 0.000);
-                put("6_33_8", 0.000);
-                put("6_33_7", 0.000);
-                put("6_33_6", 0.000);
-                put("6_33_5", 0.000);
-                put("6_33_4", 0.000);
-                put("6_33_3", 0.000);
-                put("6_33_2", 0.000);
-                put("6_33_10", 0.000);
-                put("6_33_1", 0.000);
-                put("6_32_9", 0.000);
-                put("6_32_8", 0.000);
-                put("6_32_7", 0.000);
-                put("6_32_6", 0.000);
-                put("6_32_5", 0.000);
-                put("6_32_4", 0.000);
-                put("6_32_3", 0.000);
-                put("6_32_2", 0.000);
-                put("6_32_10", 0.000);
-                put("6_32_1", 0.000);
-                put("6_31_9", 0.000);
-                put("6_31_8", 0.000);
-                put("6_31_7", 0.002);
-                put("6_31_6", 0.000);
-                put("6_31_5", 0.000);
-                put("6_31_4", 0.000);
-                put("6_31_3", 0.000);
-                put("6_31_2", 0.000);
-                put("6_31_10", 0.000);
-                put("6_31_1", 0.000);
-                put("6_30_9", 0.667);
-                put("6_30_8", 0.000);
-                put("6_30_7", 0.000);
-                put("6_30_6", 0.000);
-                put("6_30_5", 0.000);
-                put("6_30_4", 0.000);
-                put("6_30_3", 0.000);
-                put("6_30_2", 0.000);
-                put("6_30_10", 0.000);
-                put("6_30_1", 0.000);
-                put("6_29_9", 0.000);
-                put("6_29_8", 0.004);
-                put("6_29_7", 0.000);
-                put("6_29_6", 0.000);
-                put("6_29_5", 0.000);
-                put("6_29_4", 0.000);
-                put("6_29_3", 0.000);
-                put("6_29_2", 0.000);
-                put("6_29_10", 0.000);
-                put("6_29_1", 0.001);
-                put("6_28_9", 0.002);
-                put("6_28_8", 0.000);
-                put("6_28_7", 0.000);
-                put("6_28_6", 0.000);
-                put("6_28_5", 0.000);
-                put("6_28_4", 0.000);
-                put("6_28_3", 0.000);
-                put("6_28_2", 0.000);
-                put("6_28_10", 0.000);
-                put("6_28_1", 0.001);
-                put("6_27_9", 0.000);
-                put("6_27_8", 0.255);
-                put("6_27_7", 0.000);
-                put("6_27_6", 0.000);
-                put("6_27_5", 0.000);
-                put("6_27_4", 0.000);
-                put("6_27_3", 0.000);
-                put("6_27_2", 0.000);
-                put("6_27_10", 0.147);
-                put("6_27_1", 0.001);
-                put("6_26_9", 0.007);
-                put("6_26_8", 0.000);
-                put("6_26_7", 0.000);
-                put("6_26_6", 0.000);
-                put("6_26_5", 0.000);
-                put("6_26_4", 0.000);
-                put("6_26_3", 0.000);
-                put("6_26_2", 0.001);
-                put("6_26_10", 0.030);
-                put("6_26_1", 0.005);
-                put("6_25_9", 0.000);
-                put("6_25_8", 0.022);
-                put("6_25_7", 0.000);
-                put("6_25_6", 0.000);
-                put("6_25_5", 0.000);
-                put("6_25_4", 0.000);
-                put("6_25_3", 0.000);
-                put("6_25_2", 0.001);
-                put("6_25_10", 0.000);
-                put("6_25_1", 0.003);
-                put("6_24_9", 0.005);
-                put("6_24_8", 0.000);
-                put("6_24_7", 0.000);
-                put("6_24_6", 0.000);
-                put("6_24_5", 0.000);
-                put("6_24_4", 0.000);
-                put("6_24_3", 0.001);
-                put("6_24_2", 0.002);
-                put("6_24_10", 0.000);
-                put("6_24_1", 0.012);
-                put("6_23_9", 0.000);
-                put("6_23_8", 0.000);
-                put("6_23_7", 0.000);
-                put("6_23_6", 0.000);
-                put("6_23_5", 0.001);
-                put("6_23_4", 0.001);
-                put("6_23_3", 0.003);
-                put("6_23_2", 0.112);
-                put("6_23_10", 0.157);
-                put("6_23_1", 0.027);
-                put("6_22_9", 0.000);
-                put("6_22_8", 0.000);
-                put("6_22_7", 0.085);
-                put("6_22_6", 0.001);
-                put("6_22_5", 0.002);
-                put("6_22_4", 0.003);
-                put("6_22_3", 0.021);
-                put("6_22_2", 0.083);
-                put("6_22_10", 0.039);
-                put("6_22_1", 0.259);
-                put("6_21_9", 0.500);
-                put("6_21_8", 0.001);
-                put("6_21_7", 0.001);
-                put("6_21_6", 0.004);
-                put("6_21_5", 0.001);
-                put("6_21_4", 0.002);
-                put("6_21_3", 0.002);
-                put("6_21_2", 1.000);
-                put("6_21_10", 0.000);
-                put("6_21_1", 0.106);
-                put("5_49_9", 0.000);
-                put("5_49_8", 0.000);
-                put("5_49_7", 0.000);
-                put("5_49_6", 0.000);
-                put("5_49_5", 0.000);
-                put("5_49_4", 0.000);
-                put("5_49_3", 0.000);
-                put("5_49_2", 0.000);
-                put("5_49_10", 0.000);
-                put("5_49_1", 0.000);
-                put("5_48_9", 0.000);
-                put("5_48_8", 0.000);
-                put("5_48_7", 0.000);
-                put("5_48_6", 0.000);
-                put("5_48_5", 0.000);
-                put("5_48_4", 0.000);
-                put("5_48_3", 0.000);
-                put("5_48_2", 0.000);
-                put("5_48_10", 0.000);
-                put("5_48_1", 0.001);
-                put("5_47_9", 0.000);
-                put("5_47_8", 0.000);
-                put("5_47_7", 0.000);
-                put("5_47_6", 0.000);
-                put("5_47_5", 0.000);
-                put("5_47_4", 0.000);
-                put("5_47_3", 0.000);
-                put("5_47_2", 0.000);
-                put("5_47_10", 0.000);
-                put("5_47_1", 0.000);
-                put("5_46_9", 0.000);
-                put("5_46_8", 0.000);
-                put("5_46_7", 0.000);
-                put("5_46_6", 0.000);
-                put("5_46_5", 0.000);
-                put("5_46_4", 0.000);
-                put("5_46_3", 0.000);
-                put("5_46_2", 0.000);
-                put("5_46_10", 0.000);
-                put("5_46_1", 0.000);
-                put("5_45_9", 0.000);
-                put("5_45_8", 0.000);
-                put("5_45_7", 0.000);
-                put("5_45_6", 0.000);
-                put("5_45_5", 0.000);
-                put("5_45_4", 0.000);
-                put("5_45_3", 0.000);
-                put("5_45_2", 0.000);
-                put("5_45_10", 0.000);
-                put("5_45_1", 0.000);
-                put("5_44_9", 0.000);
-                put("5_44_8", 0.000);
-                put("5_44_7", 0.000);
-                put("5_44_6", 0.000);
-                put("5_44_5", 0.000);
-                put("5_44_4", 0.000);
-                put("5_44_3", 0.000);
-                put("5_44_2", 0.000);
-                put("5_44_10", 0.000);
-                put("5_44_1", 0.000);
-                put("5_43_9", 0.000);
-                put("5_43_8", 0.000);
-                put("5_43_7", 0.000);
-                put("5_43_6", 0.000);
-                put("5_43_5", 0.000);
-                put("5_43_4", 0.000);
-                put("5_43_3", 0.000);
-                put("5_43_2", 0.000);
-                put("5_43_10", 0.000);
-                put("5_43_1", 0.000);
-                put("5_42_9", 0.000);
-                put("5_42_8", 0.000);
-                put("5_42_7", 0.000);
-                put("5_42_6", 0.000);
-                put("5_42_5", 0.000);
-                put("5_42_4", 0.000);
-                put("5_42_3", 0.000);
-                put("5_42_2", 0.000);
-                put("5_42_10", 0.000);
-                put("5_42_1", 0.000);
-                put("5_41_9", 0.000);
-                put("5_41_8", 0.000);
-                put("5_41_7", 0.000);
-                put("5_41_6", 0.000);
-                put("5_41_5", 0.000);
-                put("5_41_4", 0.000);
-                put("5_41_3", 0.000);
-                put("5_41_2", 0.000);
-                put("5_41_10", 0.000);
-                put("5_41_1", 0.000);
-                put("5_40_9", 0.000);
-                put("5_40_8", 0.000);
-                put("5_40_7", 0.000);
-                put("5_40_6", 0.000);
-                put("5_40_5", 0.000);
-                put("5_40_4", 0.000);
-                put("5_40_3", 0.000);
-                put("5_40_2", 0.000);
-                put("5_40_10", 0.000);
-                put("5_40_1", 0.000);
-                put("5_39_9", 0.000);
-                put("5_39_8", 0.000);
-                put("5_39_7", 0.000);
-                put("5_39_6", 0.000);
-                put("5_39_5", 0.000);
-                put("5_39_4", 0.000);
-                put("5_39_3", 0.000);
-                put("5_39_2", 0.000);
-                put("5_39_10", 0.000);
-                put("5_39_1", 0.000);
-                put("5_38_9", 0.000);
-                put("5_38_8", 0.000);
-                put("5_38_7", 0.000);
-                put("5_38_6", 0.000);
-                put("5_38_5", 0.000);
-                put("5_38_4", 0.000);
-                put("5_38_3", 0.000);
-                put("5_38_2", 0.000);
-                put("5_38_10", 0.000);
-                put("5_38_1", 0.000);
-                put("5_37_9", 0.000);
-                put("5_37_8", 0.000);
-                put("5_37_7", 0.000);
-                put("5_37_6", 0.000);
-                put("5_37_5", 0.000);
-                put("5_37_4", 0.000);
-                put("5_37_3", 0.000);
-                put("5_37_2", 0.000);
-                put("5_37_10", 0.000);
-                put("5_37_1", 0.000);
-                put("5_36_9", 0.000);
-                put("5_36_8", 0.000);
-                put("5_36_7", 0.000);
-                put("5_36_6", 0.000);
-                put("5_36_5", 0.000);
-                put("5_36_4", 0.000);
-                put("5_36_3", 0.000);
-                put("5_36_2", 0.000);
-                put("5_36_10", 0.000);
-                put("5_36_1", 0.000);
-                put("5_35_9", 0.000);
-                put("5_35_8", 0.000);
-                put("5_35_7", 0.000);
-                put("5_35_6", 0.000);
-                put("5_35_5", 0.000);
-                put("5_35_4", 0.000);
-                put("5_35_3", 0.000);
-                put("5_35_2", 0.000);
-                put("5_35_10", 0.000);
-                put("5_35_1", 0.000);
-                put("5_34_9", 0.000);
-                put("5_34_8", 0.000);
-                put("5_34_7", 0.000);
-                put("5_34_6", 0.000);
-                put("5_34_5", 0.000);
-                put("5_34_4", 0.000);
-                put("5_34_3", 0.000);
-                put("5_34_2", 0.000);
-                put("5_34_10", 0.000);
-                put("5_34_1", 0.000);
-                put("5_33_9", 0.000);
-                put("5_33_8", 0.000);
-                put("5_33_7", 0.000);
-                put("5_33_6", 0.000);
-                put("5_33_5", 0.000);
-                put("5_33_4", 0.000);
-                put("5_33_3", 0.000);
-                put("5_33_2", 0.000);
-                put("5_33_10", 0.000);
-                put("5_33_1", 0.000);
-                put("5_32_9", 0.000);
-                put("5_32_8", 0.000);
-                put("5_32_7", 0.000);
-                put("5_32_6", 0.000);
-                put("5_32_5", 0.000);
-                put("5_32_4", 0.000);
-                put("5_32_3", 0.000);
-                put("5_32_2", 0.000);
-                put("5_32_10", 0.000);
-                put("5_32_1", 0.000);
-                put("5_31_9", 0.000);
-                put("5_31_8", 0.000);
-                put("5_31_7", 0.000);
-                put("5_31_6", 0.000);
-                put("5_31_5", 0.000);
-                put("5_31_4", 0.000);
-                put("5_31_3", 0.000);
-                put("5_31_2", 0.000);
-                put("5_31_10", 0.000);
-                put("5_31_1", 0.000);
-                put("5_30_9", 0.000);
-                put("5_30_8", 0.000);
-                put("5_30_7", 0.000);
-                put("5_30_6", 0.000);
-                put("5_30_5", 0.000);
-                put("5_30_4", 0.000);
-                put("5_30_3", 0.000);
-                put("5_30_2", 0.000);
-                put("5_30_10", 0.000);
-                put("5_30_1", 0.000);
-                put("5_29_9", 0.000);
-                put("5_29_8", 0.000);
-                put("5_29_7", 0.000);
-                put("5_29_6", 0.000);
-                put("5_29_5", 0.000);
-                put("5_29_4", 0.000);
-                put("5_29_3", 0.000);
-                put("5_29_2", 0.000);
-                put("5_29_10", 0.000);
-                put("5_29_1", 0.000);
-                put("5_28_9", 0.000);
-                put("5_28_8", 0.000);
-                put("5_28_7", 0.000);
-                put("5_28_6", 0.000);
-                put("5_28_5", 0.000);
-                put("5_28_4", 0.000);
-                put("5_28_3", 0.000);
-                put("5_28_2", 0.000);
-                put("5_28_10", 0.000);
-                put("5_28_1", 0.002);
-                put("5_27_9", 0.000);
-                put("5_27_8", 0.000);
-                put("5_27_7", 0.000);
-                put("5_27_6", 0.000);
-                put("5_27_5", 0.000);
-                put("5_27_4", 0.000);
-                put("5_27_3", 0.000);
-                put("5_27_2", 0.000);
-                put("5_27_10", 0.000);
-                put("5_27_1", 0.004);
-                put("5_26_9", 0.000);
-                put("5_26_8", 0.000);
-                put("5_26_7", 0.000);
-                put("5_26_6", 0.000);
-                put("5_26_5", 0.000);
-                put("5_26_4", 0.000);
-                put("5_26_3", 0.000);
-                put("5_26_2", 0.000);
-                put("5_26_10", 0.000);
-                put("5_26_1", 0.002);
-                put("5_25_9", 0.000);
-                put("5_25_8", 0.000);
-                put("5_25_7", 0.000);
-                put("5_25_6", 0.000);
-                put("5_25_5", 0.000);
-                put("5_25_4", 0.000);
-                put("5_25_3", 0.000);
-                put("5_25_2", 0.001);
-                put("5_25_10", 0.000);
-                put("5_25_1", 0.005);
-                put("5_24_9", 0.000);
-                put("5_24_8", 0.000);
-                put("5_24_7", 0.000);
-                put("5_24_6", 0.000);
-                put("5_24_5", 0.000);
-                put("5_24_4", 0.000);
-                put("5_24_3", 0.001);
-                put("5_24_2", 0.002);
-                put("5_24_10", 0.000);
-                put("5_24_1", 0.028);
-                put("5_23_9", 0.000);
-                put("5_23_8", 0.000);
-                put("5_23_7", 0.000);
-                put("5_23_6", 0.000);
-                put("5_23_5", 0.001);
-                put("5_23_4", 0.001);
-                put("5_23_3", 0.007);
-                put("5_23_2", 0.007);
-                put("5_23_10", 1.000);
-                put("5_23_1", 0.105);
-                put("5_22_9", 0.000);
-                put("5_22_8", 0.000);
-                put("5_22_7", 0.001);
-                put("5_22_6", 0.002);
-                put("5_22_5", 0.003);
-                put("5_22_4", 0.054);
-                put("5_22_3", 0.011);
-                put("5_22_2", 0.144);
-                put("5_22_10", 0.323);
-                put("5_22_1", 0.224);
-                put("5_21_9", 0.001);
-                put("5_21_8", 0.001);
-                put("5_21_7", 0.002);
-                put("5_21_6", 0.001);
-                put("5_21_5", 0.002);
-                put("5_21_4", 0.003);
-                put("5_21_3", 0.002);
-                put("5_21_2", 0.002);
-                put("5_21_10", 0.000);
-                put("5_21_1", 0.003);
-                put("4_49_9", 0.000);
-                put("4_49_8", 0.000);
-                put("4_49_7", 0.000);
-                put("4_49_6", 0.000);
-                put("4_49_5", 0.000);
-                put("4_49_4", 0.000);
-                put("4_49_3", 0.000);
-                put("4_49_2", 0.000);
-                put("4_49_10", 0.000);
-                put("4_49_1", 0.000);
-                put("4_48_9", 0.000);
-                put("4_48_8", 0.000);
-                put("4_48_7", 0.000);
-                put("4_48_6", 0.000);
-                put("4_48_5", 0.000);
-                put("4_48_4", 0.000);
-                put("4_48_3", 0.000);
-                put("4_48_2", 0.000);
-                put("4_48_10", 0.000);
-                put("4_48_1", 0.000);
-                put("4_47_9", 0.000);
-                put("4_47_8", 0.000);
-                put("4_47_7", 0.000);
-                put("4_47_6", 0.000);
-                put("4_47_5", 0.000);
-                put("4_47_4", 0.000);
-                put("4_47_3", 0.000);
-                put("4_47_2", 0.000);
-                put("4_47_10", 0.000);
-                put("4_47_1", 0.000);
-                put("4_46_9", 0.000);
-                put("4_46_8", 0.000);
-                put("4_46_7", 0.000);
-                put("4_46_6", 0.000);
-                put("4_46_5", 0.000);
-                put("4_46_4", 0.000);
-                put("4_46_3", 0.000);
-                put("4_46_2", 0.000);
-                put("4_46_10", 0.000);
-                put("4_46_1", 0.000);
-                put("4_45_9", 0.000);
-                put("4_45_8", 0.000);
-                put("4_45_7", 0.000);
-                put("4_45_6", 0.000);
-                put("4_45_5", 0.000);
-                put("4_45_4", 0.000);
-                put("4_45_3", 0.000);
-                put("4_45_2", 0.000);
-                put("4_45_10", 0.000);
-                put("4_45_1", 0.000);
-                put("4_44_9", 0.000);
-                put("4_44_8", 0.000);
-                put("4_44_7", 0.000);
-                put("4_44_6", 0.000);
-                put("4_44_5", 0.000);
-                put("4_44_4", 0.000);
-                put("4_44_3", 0.000);
-                put("4_44_2", 0.000);
-                put("4_44_10", 0.000);
-                put("4_44_1", 0.000);
-                put("4_43_9", 0.000);
-                put("4_43_8", 0.000);
-                put("4_43_7", 0.000);
-                put("4_43_6", 0.000);
-                put("4_43_5", 0.000);
-                put("4_43_4", 0.000);
-                put("4_43_3", 0.000);
-                put("4_43_2", 0.000);
-                put("4_43_10", 0.000);
-                put("4_43_1", 0.000);
-                put("4_42_9", 0.000);
-                put("4_42_8", 0.000);
-                put("4_42_7", 0.000);
-                put("4_42_6", 0.000);
-                put("4_42_5", 0.000);
-                put("4_42_4", 0.000);
-                put("4_42_3", 0.000);
-                put("4_42_2", 0.000);
-                put("4_42_10", 0.000);
-                put("4_42_1", 0.000);
-                put("4_41_9", 0.000);
-                put("4_41_8", 0.000);
-                put("4_41_7", 0.000);
-                put("4_41_6", 0.000);
-                put("4_41_5", 0.000);
-                put("4_41_4", 0.000);
-                put("4_41_3", 0.000);
-                put("4_41_2", 0.000);
-                put("4_41_10", 0.000);
-                put("4_41_1", 0.000);
-                put("4_40_9", 0.000);
-                put("4_40_8", 0.000);
-                put("4_40_7", 0.000);
-                put("4_40_6", 0.000);
-                put("4_40_5", 0.000);
-                put("4_40_4", 0.000);
-                put("4_40_3", 0.000);
-                put("4_40_2", 0.000);
-                put("4_40_10", 0.000);
-                put("4_40_1", 0.000);
-                put("4_39_9", 0.000);
-                put("4_39_8", 0.000);
-                put("4_39_7", 0.000);
-                put("4_39_6", 0.000);
-                put("4_39_5", 0.000);
-                put("4_39_4", 0.000);
-                put("4_39_3", 0.000);
-                put("4_39_2", 0.000);
-                put("4_39_10", 0.000);
-                put("4_39_1", 0.000);
-                put("4_38_9", 0.000);
-                put("4_38_8", 0.000);
-                put("4_38_7", 0.000);
-                put("4_38_6", 0.000);
-                put("4_38_5", 0.000);
-                put("4_38_4", 0.000);
-                put("4_38_3", 0.000);
-                put("4_38_2", 0.000);
-                put("4_38_10", 0.000);
-                put("4_38_1", 0.000);
-                put("4_37_9", 0.000);
-                put("4_37_8", 0.000);
-                put("4_37_7", 0.000);
-                put("4_37_6", 0.000);
-                put("4_37_5", 0.000);
-                put("4_37_4", 0.000);
-                put("4_37_3", 0.000);
-                put("4_37_2", 0.000);
-                put("4_37_10", 0.000);
-                put("4_37_1", 0.000);
-                put("4_36_9", 0.000);
-                put("4_36_8", 0.000);
-                put("4_36_7", 0.000);
-                put("4_36_6", 0.000);
-                put("4_36_5", 0.000);
-                put("4_36_4", 0.000);
-                put("4_36_3", 0.000);
-                put("4_36_2", 0.000);
-                put("4_36_10", 0.000);
-                put("4_36_1", 0.000);
-                put("4_35_9", 0.000);
-                put("4_35_8", 0.000);
-                put("4_35_7", 0.000);
-                put("4_35_6", 0.000);
-                put("4_35_5", 0.000);
-                put("4_35_4", 0.000);
-                put("4_35_3", 0.000);
-                put("4_35_2", 0.000);
-                put("4_35_10", 0.000);
-                put("4_35_1", 0.000);
-                put("4_34_9", 0.000);
-                put("4_34_8", 0.000);
-                put("4_34_7", 0.000);
-                put("4_34_6", 0.000);
-                put("4_34_5", 0.000);
-                put("4_34_4", 0.000);
-                put("4_34_3", 0.000);
-                put("4_34_2", 0.000);
-                put("4_34_10", 0.000);
-                put("4_34_1", 0.000);
-                put("4_33_9", 0.000);
-                put("4_33_8", 0.000);
-                put("4_33_7", 0.000);
-                put("4_33_6", 0.000);
-                put("4_33_5", 0.000);
-                put("4_33_4", 0.000);
-                put("4_33_3", 0.000);
-                put("4_33_2", 0.000);
-                put("4_33_10", 0.000);
-                put("4_33_1", 0.000);
-                put("4_32_9", 0.000);
-                put("4_32_8", 0.000);
-                put("4_32_7", 0.000);
-                put("4_32_6", 0.000);
-                put("4_32_5", 0.000);
-                put("4_32_4", 0.000);
-                put("4_32_3", 0.000);
-                put("4_32_2", 0.000);
-                put("4_32_10", 0.000);
-                put("4_32_1", 0.000);
-                put("4_31_9", 0.000);
-                put("4_31_8", 0.000);
-                put("4_31_7", 0.000);
-                put("4_31_6", 0.000);
-                put("4_31_5", 0.000);
-                put("4_31_4", 0.000);
-                put("4_31_3", 0.000);
-                put("4_31_2", 0.000);
-                put("4_31_10", 0.000);
-                put("4_31_1", 0.000);
-                put("4_30_9", 0.000);
-                put("4_30_8", 0.000);
-                put("4_30_7", 0.000);
-                put("4_30_6", 0.000);
-                put("4_30_5", 0.000);
-                put("4_30_4", 0.000);
-                put("4_30_3", 0.000);
-                put("4_30_2", 0.000);
-                put("4_30_10", 0.000);
-                put("4_30_1", 0.000);
-                put("4_29_9", 0.000);
-                put("4_29_8", 0.000);
-                put("4_29_7", 0.000);
-                put("4_29_6", 0.000);
-                put("4_29_5", 0.000);
-                put("4_29_4", 0.000);
-                put("4_29_3", 0.000);
-                put("4_29_2", 0.000);
-                put("4_29_10", 0.000);
-                put("4_29_1", 0.000);
-                put("4_28_9", 0.000);
-                put("4_28_8", 0.000);
-                put("4_28_7", 0.000);
-                put("4_28_6", 0.000);
-                put("4_28_5", 0.000);
-                put("4_28_4", 0.000);
-                put("4_28_3", 0.000);
-                put("4_28_2", 0.000);
-                put("4_28_10", 0.000);
-                put("4_28_1", 0.001);
-                put("4_27_9", 0.000);
-                put("4_27_8", 0.000);
-                put("4_27_7", 0.000);
-                put("4_27_6", 0.000);
-                put("4_27_5", 0.000);
-                put("4_27_4", 0.000);
-                put("4_27_3", 0.000);
-                put("4_27_2", 0.000);
-                put("4_27_10", 0.000);
-                put("4_27_1", 0.001);
-                put("4_26_9", 0.000);
-                put("4_26_8", 0.000);
-                put("4_26_7", 0.000);
-                put("4_26_6", 0.000);
-                put("4_26_5", 0.000);
-                put("4_26_4", 0.000);
-                put("4_26_3", 0.000);
-                put("4_26_2", 0.000);
-                put("4_26_10", 0.000);
-                put("4_26_1", 0.004);
-                put("4_25_9", 0.000);
-                put("4_25_8", 0.000);
-                put("4_25_7", 0.000);
-                put("4_25_6", 0.000);
-                put("4_25_5", 0.000);
-                put("4_25_4", 0.000);
-                put("4_25_3", 0.000);
-                put("4_25_2", 0.001);
-                put("4_25_10", 0.000);
-                put("4_25_1", 0.003);
-                put("4_24_9", 0.000);
-                put("4_24_8", 0.000);
-                put("4_24_7", 0.000);
-                put("4_24_6", 0.000);
-                put("4_24_5", 0.000);
-                put("4_24_4", 0.000);
-                put("4_24_3", 0.001);
-                put("4_24_2", 0.002);
-                put("4_24_10", 0.000);
-                put("4_24_1", 0.005);
-                put("4_23_9", 0.000);
-                put("4_23_8", 0.000);
-                put("4_23_7", 0.000);
-                put("4_23_6", 0.000);
-                put("4_23_5", 0.001);
-                put("4_23_4", 0.002);
-                put("4_23_3", 0.003);
-                put("4_23_2", 0.010);
-                put("4_23_10", 0.000);
-                put("4_23_1", 0.110);
-                put("4_22_9", 0.000);
-                put("4_22_8", 0.000);
-                put("4_22_7", 0.001);
-                put("4_22_6", 0.001);
-                put("4_22_5", 0.074);
-                put("4_22_4", 0.007);
-                put("4_22_3", 0.018);
-                put("4_22_2", 0.029);
-                put("4_22_10", 0.000);
-                put("4_22_1", 0.188);
-                put("4_21_9", 0.001);
-                put("4_21_8", 0.001);
-                put("4_21_7", 0.001);
-                put("4_21_6", 0.002);
-                put("4_21_5", 0.002);
-                put("4_21_4", 0.341);
-                put("4_21_3", 0.003);
-                put("4_21_2", 0.004);
-                put("4_21_10", 0.000);
-                put("4_21_1", 0.054);
-                put("3_49_9", 0.000);
-                put("3_49_8", 0.000);
-                put("3_49_7", 0.000);
-                put("3_49_6", 0.000);
-                put("3_49_5", 0.000);
-                put("3_49_4", 0.000);
-                put("3_49_3", 0.000);
-                put("3_49_2", 0.000);
-                put("3_49_10", 0.000);
-                put("3_49_1", 0.001);
-                put("3_48_9", 0.000);
-                put("3_48_8", 0.000);
-                put("3_48_7", 0.000);
-                put("3_48_6", 0.000);
-                put("3_48_5", 0.000);
-                put("3_48_4", 0.001);
-                put("3_48_3", 0.000);
-                put("3_48_2", 0.000);
-                put("3_48_10", 0.000);
-                put("3_48_1", 0.000);
-                put("3_47_9", 0.000);
-                put("3_47_8", 0.000);
-                put("3_47_7", 0.000);
-                put("3_47_6", 0.000);
-                put("3_47_5", 0.000);
-                put("3_47_4", 0.000);
-                put("3_47_3", 0.000);
-                put("3_47_2", 0.000);
-                put("3_47_10", 0.000);
-                put("3_47_1", 0.000);
-                put("3_46_9", 0.000);
-                put("3_46_8", 0.000);
-                put("3_46_7", 0.000);
-                put("3_46_6", 0.000);
-                put("3_46_5", 0.000);
-                put("3_46_4", 0.000);
-                put("3_46_3", 0.000);
-                put("3_46_2", 0.000);
-                put("3_46_10", 0.000);
-                put("3_46_1", 0.000);
-                put("3_45_9", 0.000);
-                put("3_45_8", 0.000);
-                put("3_45_7", 0.000);
-                put("3_45_6", 0.000);
-                put("3_45_5", 0.000);
-                put("3_45_4", 0.000);
-                put("3_45_3", 0.000);
-                put("3_45_2", 0.000);
-                put("3_45_10", 0.000);
-                put("3_45_1", 0.000);
-                put("3_44_9", 0.000);
-                put("3_44_8", 0.000);
-                put("3_44_7", 0.000);
-                put("3_44_6", 0.000);
-                put("3_44_5", 0.000);
-                put("3_44_4", 0.000);
-                put("3_44_3", 0.000);
-                put("3_44_2", 0.000);
-                put("3_44_10", 0.000);
-                put("3_44_1", 0.000);
-                put("3_43_9", 0.000);
-                put("3_43_8", 0.000);
-                put("3_43_7", 0.000);
-                put("3_43_6", 0.000);
-                put("3_43_5", 0.000);
-                put("3_43_4", 0.000);
-                put("3_43_3", 0.000);
-                put("3_43_2", 0.000);
-                put("3_43_10", 0.000);
-                put("3_43_1", 0.000);
-                put("3_42_9", 0.000);
-                put("3_42_8", 0.000);
-                put("3_42_7", 0.000);
-                put("3_42_6", 0.000);
-                put("3_42_5", 0.000);
-                put("3_42_4", 0.000);
-                put("3_42_3", 0.000);
-                put("3_42_2", 0.000);
-                put("3_42_10", 0.000);
-                put("3_42_1", 0.000);
-                put("3_41_9", 0.000);
-                put("3_41_8", 0.000);
-                put("3_41_7", 0.000);
-                put("3_41_6", 0.000);
-                put("3_41_5", 0.000);
-                put("3_41_4", 0.000);
-                put("3_41_3", 0.000);
-                put("3_41_2", 0.000);
-                put("3_41_10", 0.000);
-                put("3_41_1", 0.000);
-                put("3_40_9", 0.000);
-                put("3_40_8", 0.000);
-                put("3_40_7", 0.000);
-                put("3_40_6", 0.000);
-                put("3_40_5", 0.000);
-                put("3_40_4", 0.000);
-                put("3_40_3", 0.000);
-                put("3_40_2", 0.000);
-                put("3_40_10", 0.000);
-                put("3_40_1", 0.000);
-                put("3_39_9", 0.000);
-                put("3_39_8", 0.000);
-                put("3_39_7", 0.000);
-                put("3_39_6", 0.000);
-                put("3_39_5", 0.000);
-                put("3_39_4", 0.000);
-                put("3_39_3", 0.000);
-                put("3_39_2", 0.000);
-                put("3_39_10", 0.000);
-                put("3_39_1", 0.000);
-                put("3_38_9", 0.000);
-                put("3_38_8", 0.000);
-                put("3_38_7", 0.000);
-                put("3_38_6", 0.000);
-                put("3_38_5", 0.000);
-                put("3_38_4", 0.000);
-                put("3_38_3", 0.000);
-                put("3_38_2", 0.000);
-                put("3_38_10", 0.000);
-                put("3_38_1", 0.000);
-                put("3_37_9", 0.000);
-                put("3_37_8", 0.000);
-                put("3_37_7", 0.000);
-                put("3_37_6", 0.000);
-                put("3_37_5", 0.000);
-                put("3_37_4", 0.000);
-                put("3_37_3", 0.000);
-                put("3_37_2", 0.000);
-                put("3_37_10", 0.000);
-                put("3_37_1", 0.000);
-                put("3_36_9", 0.000);
-                put("3_36_8", 0.000);
-                put("3_36_7", 0.000);
-                put("3_36_6", 0.000);
-                put("3_36_5", 0.000);
-                put("3_36_4", 0.000);
-                put("3_36_3", 0.000);
-                put("3_36_2", 0.000);
-                put("3_36_10", 0.000);
-                put("3_36_1", 0.000);
-                put("3_35_9", 0.000);
-                put("3_35_8", 0.000);
-                put("3_35_7", 0.000);
-                put("3_35_6", 0.000);
-                put("3_35_5", 0.000);
-                put("3_35_4", 0.000);
-                put("3_35_3", 0.000);
-                put("3_35_2", 0.000);
-                put("3_35_10", 0.000);
-                put("3_35_1", 0.000);
-                put("3_34_9", 0.000);
-                put("3_34_8", 0.000);
-                put("3_34_7", 0.000);
-                put("3_34_6", 0.000);
-                put("3_34_5", 0.000);
-                put("3_34_4", 0.000);
-                put("3_34_3", 0.000);
-                put("3_34_2", 0.000);
-                put("3_34_10", 0.000);
-                put("3_34_1", 0.000);
-                put("3_33_9", 0.000);
-                put("3_33_8", 0.000);
-                put("3_33_7", 0.000);
-                put("3_33_6", 0.000);
-                put("3_33_5", 0.000);
-                put("3_33_4", 0.000);
-                put("3_33_3", 0.000);
-                put("3_33_2", 0.000);
-                put("3_33_10", 0.000);
-                put("3_33_1", 0.000);
-                put("3_32_9", 0.000);
-                put("3_32_8", 0.000);
-                put("3_32_7", 0.000);
-                put("3_32_6", 0.000);
-                put("3_32_5", 0.000);
-                put("3_32_4", 0.000);
-                put("3_32_3", 0.000);
-                put("3_32_2", 0.000);
-                put("3_32_10", 0.000);
-                put("3_32_1", 0.000);
-                put("3_31_9", 0.000);
-                put("3_31_8", 0.000);
-                put("3_31_7", 0.000);
-                put("3_31_6", 0.000);
-                put("3_31_5", 0.000);
-                put("3_31_4", 0.000);
-                put("3_31_3", 0.000);
-                put("3_31_2", 0.000);
-                put("3_31_10", 0.000);
-                put("3_31_1", 0.000);
-                put("3_30_9", 0.000);
-                put("3_30_8", 0.000);
-                put("3_30_7", 0.000);
-                put("3_30_6", 0.000);
-                put("3_30_5", 0.000);
-                put("3_30_4", 0.000);
-                put("3_30_3", 0.000);
-                put("3_30_2", 0.000);
-                put("3_30_10", 0.000);
-                put("3_30_1", 0.000);
-                put("3_29_9", 0.000);
-                put("3_29_8", 0.000);
-                put("3_29_7", 0.000);
-                put("3_29_6", 0.000);
-                put("3_29_5", 0.000);
-                put("3_29_4", 0.000);
-                put("3_29_3", 0.000);
-                put("3_29_2", 0.000);
-                put("3_29_10", 0.000);
-                put("3_29_1", 0.000);
-                put("3_28_9", 0.000);
-                put("3_28_8", 0.000);
-                put("3_28_7", 0.000);
-                put("3_28_6", 0.000);
-                put("3_28_5", 0.000);
-                put("3_28_4", 0.000);
-                put("3_28_3", 0.000);
-                put("3_28_2", 0.000);
-                put("3_28_10", 0.000);
-                put("3_28_1", 0.001);
-                put("3_27_9", 0.000);
-                put("3_27_8", 0.000);
-                put("3_27_7", 0.000);
-                put("3_27_6", 0.000);
-                put("3_27_5", 0.000);
-                put("3_27_4", 0.000);
-                put("3_27_3", 0.000);
-                put("3_27_2", 0.000);
-                put("3_27_10", 0.000);
-                put("3_27_1", 0.001);
-                put("3_26_9", 0.000);
-                put("3_26_8", 0.000);
-                put("3_26_7", 0.000);
-                put("3_26_6", 0.000);
-                put("3_26_5", 0.000);
-                put("3_26_4", 0.000);
-                put("3_26_3", 0.000);
-                put("3_26_2", 0.000);
-                put("3_26_10", 0.000);
-                put("3_26_1", 0.001);
-                put("3_25_9", 0.000);
-                put("3_25_8", 0.000);
-                put("3_25_7", 0.000);
-                put("3_25_6", 0.000);
-                put("3_25_5", 0.000);
-                put("3_25_4", 0.000);
-                put("3_25_3", 0.000);
-                put("3_25_2", 0.001);
-                put("3_25_10", 0.000);
-                put("3_25_1", 0.004);
-                put("3_24_9", 0.000);
-                put("3_24_8", 0.000);
-                put("3_24_7", 0.000);
-                put("3_24_6", 0.000);
-                put("3_24_5", 0.000);
-                put("3_24_4", 0.000);
-                put("3_24_3", 0.001);
-                put("3_24_2", 0.002);
-                put("3_24_10", 0.000);
-                put("3_24_1", 0.018);
-                put("3_23_9", 0.000);
-                put("3_23_8", 0.000);
-                put("3_23_7", 0.000);
-                put("3_23_6", 0.000);
-                put("3_23_5", 0.001);
-                put("3_23_4", 0.002);
-                put("3_23_3", 0.003);
-                put("3_23_2", 0.008);
-                put("3_23_10", 0.000);
-                put("3_23_1", 0.027);
-                put("3_22_9", 0.000);
-                put("3_22_8", 0.001);
-                put("3_22_7", 0.001);
-                put("3_22_6", 0.001);
-                put("3_22_5", 0.002);
-                put("3_22_4", 0.009);
-                put("3_22_3", 0.020);
-                put("3_22_2", 0.012);
-                put("3_22_10", 0.000);
-                put("3_22_1", 0.651);
-                put("3_21_9", 0.001);
-                put("3_21_8", 0.001);
-                put("3_21_7", 0.002);
-                put("3_21_6", 0.002);
-                put("3_21_5", 0.002);
-                put("3_21_4", 0.667);
-                put("3_21_3", 0.003);
-                put("3_21_2", 0.004);
-                put("3_21_10", 0.000);
-                put("3_21_1", 0.004);
-                put("2_49_9", 0.000);
-                put("2_49_8", 0.000);
-                put("2_49_7", 0.000);
-                put("2_49_6", 0.000);
-                put("2_49_5", 0.000);
-                put("2_49_4", 0.000);
-                put("2_49_3", 0.000);
-                put("2_49_2", 0.000);
-                put("2_49_10", 0.000);
-                put("2_49_1", 0.000);
-                put("2_48_9", 0.000);
-                put("2_48_8", 0.000);
-                put("2_48_7", 0.000);
-                put("2_48_6", 0.000);
-                put("2_48_5", 0.000);
-                put("2_48_4", 0.000);
-                put("2_48_3", 0.000);
-                put("2_48_2", 0.000);
-                put("2_48_10", 0.000);
-                put("2_48_1", 0.000);
-                put("2_47_9", 0.000);
-                put("2_47_8", 0.000);
-                put("2_47_7", 0.000);
-                put("2_47_6", 0.000);
-                put("2_47_5", 0.000);
-                put("2_47_4", 0.000);
-                put("2_47_3", 0.000);
-                put("2_47_2", 0.000);
-                put("2_47_10", 0.000);
-                put("2_47_1", 0.000);
-                put("2_46_9", 0.000);
-                put("2_46_8", 0.000);
-                put("2_46_7", 0.000);
-                put("2_46_6", 0.000);
-                put("2_46_5", 0.000);
-                put("2_46_4", 0.000);
-                put("2_46_3", 0.000);
-                put("2_46_2", 0.000);
-                put("2_46_10", 0.000);
-                put("2_46_1", 0.000);
-                put("2_45_9", 0.000);
-                put("2_45_8", 0.000);
-                put("2_45_7", 0.000);
-                put("2_45_6", 0.000);
-                put("2_45_5", 0.000);
-                put("2_45_4", 0.000);
-                put("2_45_3", 0.000);
-                put("2_45_2", 0.000);
-                put("2_45_10", 0.000);
-                put("2_45_1", 0.000);
-                put("2_44_9", 0.000);
-                put("2_44_8", 0.000);
-                put("2_44_7", 0.000);
-                put("2_44_6", 0.000);
-                put("2_44_5", 0.000);
-                put("2_44_4", 0.000);
-                put("2_44_3", 0.000);
-                put("2_44_2", 0.000);
-                put("2_44_10", 0.000);
-                put("2_44_1", 0.000);
-                put("2_43_9", 0.000);
-                put("2_43_8", 0.000);
-                put("2_43_7", 0.000);
-                put("2_43_6", 0.000);
-                put("2_43_5", 0.000);
-                put("2_43_4", 0.000);
-                put("2_43_3", 0.000);
-                put("2_43_2", 0.000);
-                put("2_43_10", 0.000);
-                put("2_43_1", 0.000);
-                put("2_42_9", 0.000);
-                put("2_42_8", 0.000);
-                put("2_42_7", 0.000);
-                put("2_42_6", 0.000);
-                put("2_42_5", 0.000);
-                put("2_42_4", 0.000);
-                put("2_42_3", 0.000);
-                put("2_42_2", 0.000);
-                put("2_42_10", 0.000);
-                put("2_42_1", 0.000);
-                put("2_41_9", 0.000);
-                put("2_41_8", 0.000);
-                put("2_41_7", 0.000);
-                put("2_41_6", 0.000);
-                put("2_41_5", 0.000);
-                put("2_41_4", 0.000);
-                put("2_41_3", 0.000);
-                put("2_41_2", 0.000);
-                put("2_41_10", 0.000);
-                put("2_41_1", 0.000);
-                put("2_40_9", 0.000);
-                put("2_40_8", 0.000);
-                put("2_40_7", 0.000);
-                put("2_40_6", 0.000);
-                put("2_40_5", 0.000);
-                put("2_40_4", 0.000);
-                put("2_40_3", 0.000);
-                put("2_40_2", 0.000);
-                put("2_40_10", 0.000);
-                put("2_40_1", 0.000);
-                put("2_39_9", 0.000);
-                put("2_39_8", 0.000);
-                put("2_39_7", 0.000);
-                put("2_39_6", 0.000);
-                put("2_39_5", 0.000);
-                put("2_39_4", 0.000);
-                put("2_39_3", 0.000);
-                put("2_39_2", 0.000);
-                put("2_39_10", 0.000);
-                put("2_39_1", 0.000);
-                put("2_38_9", 0.000);
-                put("2_38_8", 0.000);
-                put("2_38_7", 0.000);
-                put("2_38_6", 0.000);
-                put("2_38_5", 0.000);
-                put("2_38_4", 0.000);
-                put("2_38_3", 0.000);
-                put("2_38_2", 0.000);
-                put("2_38_10", 0.000);
-                put("2_38_1", 0.000);
-                put("2_37_9", 0.000);
-                put("2_37_8", 0.000);
-                put("2_37_7", 0.000);
-                put("2_37_6", 0.000);
-                put("2_37_5", 0.000);
-                put("2_37_4", 0.000);
-                put("2_37_3", 0.000);
-                put("2_37_2", 0.000);
-                put("2_37_10", 0.000);
-                put("2_37_1", 0.000);
-                put("2_36_9", 0.000);
-                put("2_36_8", 0.000);
-                put("2_36_7", 0.000);
-                put("2_36_6", 0.000);
-                put("2_36_5", 0.000);
-                put("2_36_4", 0.000);
-                put("2_36_3", 0.000);
-                put("2_36_2", 0.000);
-                put("2_36_10", 0.000);
-                put("2_36_1", 0.000);
-                put("2_35_9", 0.000);
-                put("2_35_8", 0.000);
-                put("2_35_7", 0.000);
-                put("2_35_6", 0.000);
-                put("2_35_5", 0.000);
-                put("2_35_4", 0.000);
-                put("2_35_3", 0.000);
-                put("2_35_2", 0.000);
-                put("2_35_10", 0.000);
-                put("2_35_1", 0.000);
-                put("2_34_9", 0.000);
-                put("2_34_8", 0.000);
-                put("2_34_7", 0.000);
-                put("2_34_6", 0.000);
-                put("2_34_5", 0.000);
-                put("2_34_4", 0.000);
-                put("2_34_3", 0.000);
-                put("2_34_2", 0.000);
-                put("2_34_10", 0.000);
-                put("2_34_1", 0.000);
-                put("2_33_9", 0.000);
-                put("2_33_8", 0.000);
-                put("2_33_7", 0.000);
-                put("2_33_6", 0.000);
-                put("2_33_5", 0.000);
-                put("2_33_4", 0.000);
-                put("2_33_3", 0.000);
-                put("2_33_2", 0.000);
-                put("2_33_10", 0.000);
-                put("2_33_1", 0.000);
-                put("2_32_9", 0.000);
-                put("2_32_8", 0.000);
-                put("2_32_7", 0.000);
-                put("2_32_6", 0.000);
-                put("2_32_5", 0.000);
-                put("2_32_4", 0.000);
-                put("2_32_3", 0.000);
-                put("2_32_2", 0.000);
-                put("2_32_10", 0.000);
-                put("2_32_1", 0.000);
-                put("2_31_9", 0.000);
-                put("2_31_8", 0.000);
-                put("2_31_7", 0.000);
-                put("2_31_6", 0.000);
-                put("2_31_5", 0.000);
-                put("2_31_4", 0.000);
-                put("2_31_3", 0.000);
-                put("2_31_2", 0.000);
-                put("2_31_10", 0.000);
-                put("2_31_1", 0.000);
-                put("2_30_9", 0.000);
-                put("2_30_8", 0.000);
-                put("2_30_7", 0.000);
-                put("2_30_6", 0.000);
-                put("2_30_5", 0.000);
-                put("2_30_4", 0.000);
-                put("2_30_3", 0.000);
-                put("2_30_2", 0.000);
-                put("2_30_10", 0.000);
-                put("2_30_1", 0.000);
-                put("2_29_9", 0.000);
-                put("2_29_8", 0.000);
-                put("2_29_7", 0.000);
-                put("2_29_6", 0.000);
-                put("2_29_5", 0.000);
-                put("2_29_4", 0.000);
-                put("2_29_3", 0.000);
-                put("2_29_2", 0.000);
-                put("2_29_10", 0.000);
-                put("2_29_1", 0.000);
-                put("2_28_9", 0.000);
-                put("2_28_8", 0.000);
-                put("2_28_7", 0.000);
-                put("2_28_6", 0.000);
-                put("2_28_5", 0.000);
-                put("2_28_4", 0.000);
-                put("2_28_3", 0.000);
-                put("2_28_2", 0.000);
-                put("2_28_10", 0.000);
-                put("2_28_1", 0.000);
-                put("2_27_9", 0.000);
-                put("2_27_8", 0.000);
-                put("2_27_7", 0.000);
-                put("2_27_6", 0.000);
-                put("2_27_5", 0.000);
-                put("2_27_4", 0.000);
-                put("2_27_3", 0.000);
-                put("2_27_2", 0.000);
-                put("2_27_10", 0.000);
-                put("2_27_1", 0.000);
-                put("2_26_9", 0.000);
-                put("2_26_8", 0.000);
-                put("2_26_7", 0.000);
-                put("2_26_6", 0.000);
-                put("2_26_5", 0.000);
-                put("2_26_4", 0.000);
-                put("2_26_3", 0.000);
-                put("2_26_2", 0.000);
-                put("2_26_10", 0.000);
-                put("2_26_1", 0.001);
-                put("2_25_9", 0.000);
-                put("2_25_8", 0.000);
-                put("2_25_7", 0.000);
-                put("2_25_6", 0.000);
-                put("2_25_5", 0.000);
-                put("2_25_4", 0.000);
-                put("2_25_3", 0.000);
-                put("2_25_2", 0.001);
-                put("2_25_10", 0.000);
-                put("2_25_1", 0.002);
-                put("2_24_9", 0.000);
-                put("2_24_8", 0.000);
-                put("2_24_7", 0.000);
-                put("2_24_6", 0.000);
-                put("2_24_5", 0.000);
-                put("2_24_4", 0.000);
-                put("2_24_3", 0.001);
-                put("2_24_2", 0.002);
-                put("2_24_10", 0.000);
-                put("2_24_1", 0.010);
-                put("2_23_9", 0.000);
-                put("2_23_8", 0.000);
-                put("2_23_7", 0.000);
-                put("2_23_6", 0.000);
-                put("2_23_5", 0.000);
-                put("2_23_4", 0.001);
-                put("2_23_3", 0.002);
-                put("2_23_2", 0.005);
-                put("2_23_10", 0.000);
-                put("2_23_1", 0.048);
-                put("2_22_9", 0.000);
-                put("2_22_8", 0.001);
-                put("2_22_7", 0.001);
-                put("2_22_6", 0.001);
-                put("2_22_5", 0.001);
-                put("2_22_4", 0.004);
-                put("2_22_3", 0.008);
-                put("2_22_2", 0.024);
-                put("2_22_10", 0.000);
-                put("2_22_1", 0.269);
-                put("2_21_9", 0.001);
-                put("2_21_8", 0.001);
-                put("2_21_7", 0.001);
-                put("2_21_6", 0.002);
-                put("2_21_5", 0.002);
-                put("2_21_4", 0.002);
-                put("2_21_3", 0.003);
-                put("2_21_2", 0.422);
-                put("2_21_10", 1.000);
-                put("2_21_1", 0.004);
-                put("1_49_9", 0.000);
-                put("1_49_8", 0.000);
-                put("1_49_7", 0.000);
-                put("1_49_6", 0.000);
-                put("1_49_5", 0.000);
-                put("1_49_4", 0.000);
-                put("1_49_3", 0.000);
-                put("1_49_2", 0.000);
-                put("1_49_10", 0.000);
-                put("1_49_1", 0.000);
-                put("1_48_9", 0.000);
-                put("1_48_8", 0.000);
-                put("1_48_7", 0.000);
-                put("1_48_6", 0.000);
-                put("1_48_5", 0.000);
-                put("1_48_4", 0.000);
-                put("1_48_3", 0.000);
-                put("1_48_2", 0.000);
-                put("1_48_10", 0.000);
-                put("1_48_1", 0.000);
-                put("1_47_9", 0.000);
-                put("1_47_8", 0.000);
-                put("1_47_7", 0.000);
-                put("1_47_6", 0.000);
-                put("1_47_5", 0.000);
-                put("1_47_4", 0.000);
-                put("1_47_3", 0.000);
-                put("1_47_2", 0.000);
-                put("1_47_10", 0.000);
-                put("1_47_1", 0.000);
-                put("1_46_9", 0.000);
-                put("1_46_8", 0.000);
-                put("1_46_7", 0.000);
-                put("1_46_6", 0.000);
-                put("1_46_5", 0.000);
-                put("1_46_4", 0.000);
-                put("1_46_3", 0.000);
-                put("1_46_2", 0.000);
-                put("1_46_10", 0.000);
-                put("1_46_1", 0.000);
-                put("1_45_9", 0.000);
-                put("1_45_8", 0.000);
-                put("1_45_7", 0.000);
-                put("1_45_6", 0.000);
-                put("1_45_5", 0.000);
-                put("1_45_4", 0.000);
-                put("1_45_3", 0.000);
-                put("1_45_2", 0.000);
-                put("1_45_10", 0.000);
-                put("1_45_1", 0.000);
-                put("1_44_9", 0.000);
-                put("1_44_8", 0.000);
-                put("1_44_7", 0.000);
-                put("1_44_6", 0.000);
-                put("1_44_5", 0.000);
-                put("1_44_4", 0.000);
-                put("1_44_3", 0.000);
-                put("1_44_2", 0.000);
-                put("1_44_10", 0.000);
-                put("1_44_1", 0.000);
-                put("1_43_9", 0.000);
-                put("1_43_8", 0.000);
-                put("1_43_7", 0.000);
-                put("1_43_6", 0.000);
-                put("1_43_5", 0.000);
-                put("1_43_4", 0.000);
-                put("1_43_3", 0.000);
-                put("1_43_2", 0.000);
-                put("1_43_10", 0.000);
-                put("1_43_1", 0.000);
-                put("1_42_9", 0.000);
-                put("1_42_8", 0.000);
-                put("1_42_7", 0.000);
-                put("1_42_6", 0.000);
-                put("1_42_5", 0.000);
-                put("1_42_4", 0.000);
-                put("1_42_3", 0.000);
-                put("1_42_2", 0.000);
-                put("1_42_10", 0.000);
-                put("1_42_1", 0.000);
-                put("1_41_9", 0.000);
-                put("1_41_8", 0.000);
-                put("1_41_7", 0.000);
-                put("1_41_6", 0.000);
-                put("1_41_5", 0.000);
-                put("1_41_4", 0.000);
-                put("1_41_3", 0.000);
-                put("1_41_2", 0.000);
-                put("1_41_10", 0.000);
-                put("1_41_1", 0.000);
-                put("1_40_9", 0.000);
-                put("1_40_8", 0.000);
-                put("1_40_7", 0.000);
-                put("1_40_6", 0.000);
-                put("1_40_5", 0.000);
-                put("1_40_4", 0.000);
-                put("1_40_3", 0.000);
-                put("1_40_2", 0.000);
-                put("1_40_10", 0.000);
-                put("1_40_1", 0.000);
-                put("1_39_9", 0.000);
-                put("1_39_8", 0.000);
-                put("1_39_7", 0.000);
-                put("1_39_6", 0.000);
-                put("1_39_5", 0.000);
-                put("1_39_4", 0.000);
-                put("1_39_3", 0.000);
-                put("1_39_2", 0.000);
-                put("1_39_10", 0.000);
-                put("1_39_1", 0.000);
-                put("1_38_9", 0.000);
-                put("1_38_8", 0.000);
-                put("1_38_7", 0.000);
-                put("1_38_6", 0.000);
-                put("1_38_5", 0.000);
-                put("1_38_4", 0.000);
-                put("1_38_3", 0.000);
-                put("1_38_2", 0.000);
-                put("1_38_10", 0.000);
-                put("1_38_1", 0.000);
-                put("1_37_9", 0.000);
-                put("1_37_8", 0.000);
-                put("1_37_7", 0.000);
-                put("1_37_6", 0.000);
-                put("1_37_5", 0.000);
-                put("1_37_4", 0.000);
-                put("1_37_3", 0.000);
-                put("1_37_2", 0.000);
-                put("1_37_10", 0.000);
-                put("1_37_1", 0.000);
-                put("1_36_9", 0.000);
-                put("1_36_8", 0.000);
-                put("1_36_7", 0.000);
-                put("1_36_6", 0.000);
-                put("1_36_5", 0.000);
-                put("1_36_4", 0.000);
-                put("1_36_3", 0.000);
-                put("1_36_2", 0.000);
-                put("1_36_10", 0.000);
-                put("1_36_1", 0.000);
-                put("1_35_9", 0.000);
-                put("1_35_8", 0.000);
-                put("1_35_7", 0.000);
-                put("1_35_6", 0.000);
-                put("1_35_5", 0.000);
-                put("1_35_4", 0.000);
-                put("1_35_3", 0.000);
-                put("1_35_2", 0.000);
-                put("1_35_10", 0.000);
-                put("1_35_1", 0.000);
-                put("1_34_9", 0.000);
-                put("1_34_8", 0.000);
-                put("1_34_7", 0.000);
-                put("1_34_6", 0.000);
-                put("1_34_5", 0.000);
-                put("1_34_4", 0.000);
-                put("1_34_3", 0.000);
-                put("1_34_2", 0.000);
-                put("1_34_10", 0.000);
-                put("1_34_1", 0.000);
-                put("1_33_9", 0.000);
-                put("1_33_8", 0.000);
-                put("1_33_7", 0.000);
-                put("1_33_6", 0.000);
-                put("1_33_5", 0.000);
-                put("1_33_4", 0.000);
-                put("1_33_3", 0.000);
-                put("1_33_2", 0.000);
-                put("1_33_10", 0.000);
-                put("1_33_1", 0.000);
-                put("1_32_9", 0.000);
-                put("1_32_8", 0.000);
-                put("1_32_7", 0.000);
-                put("1_32_6", 0.000);
-                put("1_32_5", 0.000);
-                put("1_32_4", 0.000);
-                put("1_32_3", 0.000);
-                put("1_32_2", 0.000);
-                put("1_32_10", 0.000);
-                put("1_32_1", 0.000);
-                put("1_31_9", 0.000);
-                put("1_31_8", 0.000);
-                put("1_31_7", 0.000);
-                put("1_31_6", 0.000);
-                put("1_31_5", 0.000);
-                put("1_31_4", 0.000);
-                put("1_31_3", 0.000);
-                put("1_31_2", 0.000);
-                put("1_31_10", 0.000);
-                put("1_31_1", 0.000);
-                put("1_30_9", 0.000);
-                put("1_30_8", 0.000);
-                put("1_30_7", 0.000);
-                put("1_30_6", 0.000);
-                put("1_30_5", 0.000);
-                put("1_30_4", 0.000);
-                put("1_30_3", 0.000);
-                put("1_30_2", 0.000);
-                put("1_30_10", 0.000);
-                put("1_30_1", 0.000);
-                put("1_29_9", 0.000);
-                put("1_29_8", 0.000);
-                put("1_29_7", 0.000);
-                put("1_29_6", 0.000);
-                put("1_29_5", 0.000);
-                put("1_29_4", 0.000);
-                put("1_29_3", 0.000);
-                put("1_29_2", 0.000);
-                put("1_29_10", 0.000);
-                put("1_29_1", 0.000);
-                put("1_28_9", 0.000);
-                put("1_28_8", 0.000);
-                put("1_28_7", 0.000);
-                put("1_28_6", 0.000);
-                put("1_28_5", 0.000);
-                put("1_28_4", 0.000);
-                put("1_28_3", 0.000);
-                put("1_28_2", 0.000);
-                put("1_28_10", 0.000);
-                put("1_28_1", 0.000);
-                put("1_27_9", 0.000);
-                put("1_27_8", 0.000);
-                put("1_27_7", 0.000);
-                put("1_27_6", 0.000);
-                put("1_27_5", 0.000);
-                put("1_27_4", 0.000);
-                put("1_27_3", 0.000);
-                put("1_27_2", 0.000);
-                put("1_27_10", 0.000);
-                put("1_27_1", 0.000);
-                put("1_26_9", 0.000);
-                put("1_26_8", 0.000);
-                put("1_26_7", 0.000);
-                put("1_26_6", 0.000);
-                put("1_26_5", 0.000);
-                put("1_26_4", 0.000);
-                put("1_26_3", 0.000);
-                put("1_26_2", 0.000);
-                put("1_26_10", 0.000);
-                put("1_26_1", 0.001);
-                put("1_25_9", 0.000);
-                put("1_25_8", 0.000);
-                put("1_25_7", 0.000);
-                put("1_25_6", 0.000);
-                put("1_25_5", 0.000);
-                put("1_25_4", 0.000);
-                put("1_25_3", 0.000);
-                put("1_25_2", 0.000);
-                put("1_25_10", 0.000);
-                put("1_25_1", 0.002);
-                put("1_24_9", 0.000);
-                put("1_24_8", 0.000);
-                put("1_24_7", 0.000);
-                put("1_24_6", 0.000);
-                put("1_24_5", 0.000);
-                put("1_24_4", 0.000);
-                put("1_24_3", 0.000);
-                put("1_24_2", 0.001);
-                put("1_24_10", 0.000);
-                put("1_24_1", 0.009);
-                put("1_23_9", 0.000);
-                put("1_23_8", 0.000);
-                put("1_23_7", 0.000);
-                put("1_23_6", 0.000);
-                put("1_23_5", 0.000);
-                put("1_23_4", 0.001);
-                put("1_23_3", 0.001);
-                put("1_23_2", 0.005);
-                put("1_23_10", 0.000);
-                put("1_23_1", 0.035);
-                put("1_22_9", 0.000);
-                put("1_22_8", 0.000);
-                put("1_22_7", 0.001);
-                put("1_22_6", 0.001);
-                put("1_22_5", 0.001);
-                put("1_22_4", 0.003);
-                put("1_22_3", 0.006);
-                put("1_22_2", 0.016);
-                put("1_22_10", 0.000);
-                put("1_22_1", 0.082);
-                put("1_21_9", 0.001);
-                put("1_21_8", 0.001);
-                put("1_21_7", 0.001);
-                put("1_21_6", 0.002);
-                put("1_21_5", 0.002);
-                put("1_21_4", 0.051);
-                put("1_21_3", 0.002);
-                put("1_21_2", 0.003);
-                put("1_21_10", 0.000);
-                put("1_21_1", 0.004);
-                put("10_49_9", 0.000);
-                put("10_49_8", 0.000);
-                put("10_49_7", 0.000);
-                put("10_49_6", 0.000);
-                put("10_49_5", 0.000);
-                put("10_49_4", 0.000);
-                put("10_49_3", 0.001);
-                put("10_49_2", 0.007);
-                put("10_49_10", 0.000);
-                put("10_49_1", 0.014);
-                put("10_48_9", 0.000);
-                put("10_48_8", 0.000);
-                put("10_48_7", 0.000);
-                put("10_48_6", 0.000);
-                put("10_48_5", 0.000);
-                put("10_48_4", 0.000);
-                put("10_48_3", 0.002);
-                put("10_48_2", 0.004);
-                put("10_48_10", 0.000);
-                put("10_48_1", 0.038);
-                put("10_47_9", 0.000);
-                put("10_47_8", 0.000);
-                put("10_47_7", 0.000);
-                put("10_47_6", 0.000);
-                put("10_47_5", 0.000);
-                put("10_47_4", 0.000);
-                put("10_47_3", 0.002);
-                put("10_47_2", 0.001);
-                put("10_47_10", 0.000);
-                put("10_47_1", 0.009);
-                put("10_46_9", 0.000);
-                put("10_46_8", 0.000);
-                put("10_46_7", 0.000);
-                put("10_46_6", 0.000);
-                put("10_46_5", 0.000);
-                put("10_46_4", 0.000);
-                put("10_46_3", 0.000);
-                put("10_46_2", 0.002);
-                put("10_46_10", 0.000);
-                put("10_46_1", 0.004);
-                put("10_45_9", 0.000);
-                put("10_45_8", 0.000);
-                put("10_45_7", 0.000);
-                put("10_45_6", 0.000);
-                put("10_45_5", 0.000);
-                put("10_45_4", 0.000);
-                put("10_45_3", 0.000);
-                put("10_45_2", 0.001);
-                put("10_45_10", 0.000);
-                put("10_45_1", 0.006);
-                put("10_44_9", 0.000);
-                put("10_44_8", 0.000);
-                put("10_44_7", 0.000);
-                put("10_44_6", 0.000);
-                put("10_44_5", 0.000);
-                put("10_44_4", 0.000);
-                put("10_44_3", 0.000);
-                put("10_44_2", 0.000);
-                put("10_44_10", 0.000);
-                put("10_44_1", 0.001);
-                put("10_43_9", 0.000);
-                put("10_43_8", 0.000);
-                put("10_43_7", 0.000);
-                put("10_43_6", 0.000);
-                put("10_43_5", 0.000);
-                put("10_43_4", 0.000);
-                put("10_43_3", 0.000);
-                put("10_43_2", 0.000);
-                put("10_43_10", 0.000);
-                put("10_43_1", 0.001);
-                put("10_42_9", 0.000);
-                put("10_42_8", 0.000);
-                put("10_42_7", 0.000);
-                put("10_42_6", 0.000);
-                put("10_42_5", 0.000);
-                put("10_42_4", 0.000);
-                put("10_42_3", 0.000);
-                put("10_42_2", 0.000);
-                put("10_42_10", 0.000);
-                put("10_42_1", 0.001);
-                put("10_41_9", 0.000);
-                put("10_41_8", 0.000);
-                put("10_41_7", 0.000);
-                put("10_41_6", 0.000);
-                put("10_41_5", 0.000);
-                put("10_41_4", 0.000);
-                put("10_41_3", 0.000);
-                put("10_41_2", 0.000);
-                put("10_41_10", 0.000);
-                put("10_41_1", 0.001);
-                put("10_40_9", 0.000);
-                put("10_40_8", 0.000);
-                put("10_40_7", 0.000);
-                put("10_40_6", 0.000);
-                put("10_40_5", 0.000);
-                put("10_40_4", 0.000);
-                put("10_40_3", 0.000);
-                put("10_40_2", 0.000);
-                put("10_40_10", 0.000);
-                put("10_40_1", 0.001);
-                put("10_39_9", 0.000);
-                put("10_39_8", 0.000);
-                put("10_39_7", 0.000);
-                put("10_39_6", 0.000);
-                put("10_39_5", 0.000);
-                put("10_39_4", 0.000);
-                put("10_39_3", 0.000);
-                put("10_39_2", 0.000);
-                put("10_39_10", 0.000);
-                put("10_39_1", 0.000);
-                put("10_38_9", 0.000);
-                put("10_38_8", 0.000);
-                put("10_38_7", 0.000);
-                put("10_38_6", 0.000);
-                put("10_38_5", 0.000);
-                put("10_38_4", 0.000);
-                put("10_38_3", 0.000);
-                put("10_38_2", 0.000);
-                put("10_38_10", 0.000);
-                put("10_38_1", 0.000);
-                put("10_37_9", 0.000);
-                put("10_37_8", 0.000);
-                put("10_37_7", 0.000);
-                put("10_37_6", 0.000);
-                put("10_37_5", 0.000);
-                put("10_37_4", 0.000);
-                put("10_37_3", 0.000);
-                put("10_37_2", 0.000);
-                put("10_37_10", 0.000);
-                put("10_37_1", 0.000);
-                put("10_36_9", 0.000);
-                put("10_36_8", 0.000);
-                put("10_36_7", 0.000);
-                put("10_36_6", 0.000);
-                put("10_36_5", 0.000);
-                put("10_36_4", 0.000);
-                put("10_36_3", 0.000);
-                put("10_36_2", 0.000);
-                put("10_36_10", 0.000);
-                put("10_36_1", 0.000);
-                put("10_35_9", 0.000);
-                put("10_35_8", 0.000);
-                put("10_35_7", 0.000);
-                put("10_35_6", 0.000);
-                put("10_35_5", 0.000);
-                put("10_35_4", 0.000);
-                put("10_35_3", 0.000);
-                put("10_35_2", 0.000);
-                put("10_35_10", 0.000);
-                put("10_35_1", 0.000);
-                put("10_34_9", 0.000);
-                put("10_34_8", 0.000);
-                put("10_34_7", 0.000);
-                put("10_34_6", 0.000);
-                put("10_34_5", 0.000);
-                put("10_34_4", 0.000);
-                put("10_34_3", 0.000);
-                put("10_34_2", 0.000);
-                put("10_34_10", 0.000);
-                put("10_34_1", 0.000);
-                put("10_33_9", 0.000);
-                put("10_33_8", 0.000);
-                put("10_33_7", 0.000);
-                put("10_33_6", 0.000);
-                put("10_33_5", 0.000);
-                put("10_33_4", 0.000);
-                put("10_33_3", 0.000);
-                put("10_33_2", 0.000);
-                put("10_33_10", 0.000);
-                put("10_33_1", 0.000);
-                put("10_32_9", 0.000);
-                put("10_32_8", 0.000);
-                put("10_32_7", 0.000);
-                put("10_32_6", 0.000);
-                put("10_32_5", 0.000);
-                put("10_32_4", 0.000);
-                put("10_32_3", 0.000);
-                put("10_32_2", 0.000);
-                put("10_32_10", 0.000);
-                put("10_32_1", 0.000);
-                put("10_31_9", 0.277);
-                put("10_31_8", 0.000);
-                put("10_31_7", 0.000);
-                put("10_31_6", 0.000);
-                put("10_31_5", 0.000);
-                put("10_31_4", 0.000);
-                put("10_31_3", 0.000);
-                put("10_31_2", 0.000);
-                put("10_31_10", 0.000);
-                put("10_31_1", 0.000);
-                put("10_30_9", 0.154);
-                put("10_30_8", 0.001);
-                put("10_30_7", 0.000);
-                put("10_30_6", 0.000);
-                put("10_30_5", 0.000);
-                put("10_30_4", 0.000);
-                put("10_30_3", 0.000);
-                put("10_30_2", 0.000);
-                put("10_30_10", 0.000);
-                put("10_30_1", 0.000);
-                put("10_29_9", 0.022);
-                put("10_29_8", 0.000);
-                put("10_29_7", 0.000);
-                put("10_29_6", 0.000);
-                put("10_29_5", 0.000);
-                put("10_29_4", 0.000);
-                put("10_29_3", 0.000);
-                put("10_29_2", 0.000);
-                put("10_29_10", 0.001);
-                put("10_29_1", 0.001);
-                put("10_28_9", 0.007);
-                put("10_28_8", 0.000);
-                put("10_28_7", 0.000);
-                put("10_28_6", 0.000);
-                put("10_28_5", 0.000);
-                put("10_28_4", 0.000);
-                put("10_28_3", 0.000);
-                put("10_28_2", 0.000);
-                put("10_28_10", 0.000);
-                put("10_28_1", 0.001);
-                put("10_27_9", 1.000);
-                put("10_27_8", 0.000);
-                put("10_27_7", 0.000);
-                put("10_27_6", 0.000);
-                put("10_27_5", 0.000);
-                put("10_27_4", 0.000);
-                put("10_27_3", 0.000);
-                put("10_27_2", 0.000);
-                put("10_27_10", 0.282);
-                put("10_27_1", 0.002);
-                put("10_26_9", 0.030);
-                put("10_26_8", 0.022);
-                put("10_26_7", 0.000);
-                put("10_26_6", 0.000);
-                put("10_26_5", 0.000);
-                put("10_26_4", 0.000);
-                put("10_26_3", 0.000);
-                put("10_26_2", 0.001);
-                put("10_26_10", 0.380);
-                put("10_26_1", 0.004);
-                put("10_25_9", 0.000);
-                put("10_25_8", 1.000);
-                put("10_25_7", 0.000);
-                put("10_25_6", 0.000);
-                put("10_25_5", 0.000);
-                put("10_25_4", 0.000);
-                put("10_25_3", 0.000);
-                put("10_25_2", 0.001);
-                put("10_25_10", 0.000);
-                put("10_25_1", 0.003);
-                put("10_24_9", 0.026);
-                put("10_24_8", 0.000);
-                put("10_24_7", 0.000);
-                put("10_24_6", 0.000);
-                put("10_24_5", 0.000);
-                put("10_24_4", 0.000);
-                put("10_24_3", 0.001);
-                put("10_24_2", 0.002);
-                put("10_24_10", 0.000);
-                put("10_24_1", 0.014);
-                put("10_23_9", 0.001);
-                put("10_23_8", 0.133);
-                put("10_23_7", 0.000);
-                put("10_23_6", 0.000);
-                put("10_23_5", 0.000);
-                put("10_23_4", 0.001);
-                put("10_23_3", 0.002);
-                put("10_23_2", 0.009);
-                put("10_23_10", 0.000);
-                put("10_23_1", 0.034);
-                put("10_22_9", 0.000);
-                put("10_22_8", 0.000);
-                put("10_22_7", 0.000);
-                put("10_22_6", 0.001);
-                put("10_22_5", 0.001);
-                put("10_22_4", 0.002);
-                put("10_22_3", 0.013);
-                put("10_22_2", 0.006);
-                put("10_22_10", 0.313);
-                put("10_22_1", 0.036);
-                put("10_21_9", 0.000);
-                put("10_21_8", 0.004);
-                put("10_21_7", 0.017);
-                put("10_21_6", 0.583);
-                put("10_21_5", 1.000);
-                put("10_21_4", 0.000);
-                put("10_21_3", 0.084);
-                put("10_21_2", 0.004);
-                put("10_21_10", 0.194);
-                put("10_21_1", 0.029);
-
-            }
-        };
-
-        HashMap<String, Double> drawStrat = new HashMap<String, Double>() {
-            {
-                put("9_36_1", 0.500);
-                put("9_36_0", 0.500);
-                put("9_35_2", 0.500);
-                put("9_35_1", 0.500);
-                put("9_35_0", 0.245);
-                put("9_34_1", 1.000);
-                put("9_34_0", 0.000);
-                put("9_33_2", 0.500);
-                put("9_33_1", 0.500);
-                put("9_33_0", 0.000);
-                put("9_32_2", 0.000);
-                put("9_32_1", 0.260);
-                put("9_32_0", 0.602);
-                put("9_31_2", 0.849);
-                put("9_31_1", 0.236);
-                put("9_31_0", 0.384);
-                put("9_30_2", 0.000);
-                put("9_30_1", 0.980);
-                put("9_30_0", 1.000);
-                put("9_29_2", 1.000);
-                put("9_29_1", 0.649);
-                put("9_29_0", 0.586);
-                put("9_28_2", 0.429);
-                put("9_28_1", 0.494);
-                put("9_28_0", 1.000);
-                put("9_27_2", 0.655);
-                put("9_27_1", 0.264);
-                put("9_27_0", 0.922);
-                put("9_26_2", 1.000);
-                put("9_26_1", 0.616);
-                put("9_26_0", 0.408);
-                put("9_25_2", 0.481);
-                put("9_25_1", 0.030);
-                put("9_25_0", 0.100);
-                put("9_24_2", 0.138);
-                put("9_24_1", 0.957);
-                put("9_24_0", 0.703);
-                put("9_23_2", 0.348);
-                put("9_23_1", 0.426);
-                put("9_23_0", 0.406);
-                put("9_22_2", 0.388);
-                put("9_22_1", 0.114);
-                put("9_22_0", 0.381);
-                put("9_21_2", 0.003);
-                put("9_21_1", 0.000);
-                put("9_21_0", 0.330);
-                put("8_41_1", 0.500);
-                put("8_41_0", 0.500);
-                put("8_40_0", 0.500);
-                put("8_39_1", 0.500);
-                put("8_39_0", 0.500);
-                put("8_38_1", 0.500);
-                put("8_38_0", 1.000);
-                put("8_37_2", 0.500);
-                put("8_37_1", 0.500);
-                put("8_37_0", 0.428);
-                put("8_36_2", 0.424);
-                put("8_36_1", 0.600);
-                put("8_36_0", 0.621);
-                put("8_35_2", 0.391);
-                put("8_35_1", 0.000);
-                put("8_35_0", 0.597);
-                put("8_34_2", 0.000);
-                put("8_34_1", 0.144);
-                put("8_34_0", 0.482);
-                put("8_33_2", 0.785);
-                put("8_33_1", 0.922);
-                put("8_33_0", 0.000);
-                put("8_32_2", 0.136);
-                put("8_32_1", 0.056);
-                put("8_32_0", 0.006);
-                put("8_31_2", 0.653);
-                put("8_31_1", 0.010);
-                put("8_31_0", 0.391);
-                put("8_30_2", 0.064);
-                put("8_30_1", 0.283);
-                put("8_30_0", 1.000);
-                put("8_29_2", 1.000);
-                put("8_29_1", 0.151);
-                put("8_29_0", 0.490);
-                put("8_28_2", 0.405);
-                put("8_28_1", 0.715);
-                put("8_28_0", 0.971);
-                put("8_27_2", 0.032);
-                put("8_27_1", 0.563);
-                put("8_27_0", 0.588);
-                put("8_26_2", 0.068);
-                put("8_26_1", 0.682);
-                put("8_26_0", 0.228);
-                put("8_25_2", 0.394);
-                put("8_25_1", 0.184);
-                put("8_25_0", 0.200);
-                put("8_24_2", 0.132);
-                put("8_24_1", 0.420);
-                put("8_24_0", 0.129);
-                put("8_23_2", 0.269);
-                put("8_23_1", 0.374);
-                put("8_23_0", 0.721);
-                put("8_22_2", 0.434);
-                put("8_22_1", 0.462);
-                put("8_22_0", 0.214);
-                put("8_21_2", 0.005);
-                put("8_21_1", 0.010);
-                put("8_21_0", 0.015);
-                put("7_44_1", 0.500);
-                put("7_44_0", 0.000);
-                put("7_43_1", 0.500);
-                put("7_42_0", 0.500);
-                put("7_41_1", 0.500);
-                put("7_41_0", 1.000);
-                put("7_40_2", 0.500);
-                put("7_40_1", 0.556);
-                put("7_40_0", 0.000);
-                put("7_39_2", 0.500);
-                put("7_39_1", 0.500);
-                put("7_39_0", 0.921);
-                put("7_38_2", 0.000);
-                put("7_38_1", 0.000);
-                put("7_38_0", 0.471);
-                put("7_37_2", 1.000);
-                put("7_37_1", 0.680);
-                put("7_37_0", 0.601);
-                put("7_36_2", 0.852);
-                put("7_36_1", 0.286);
-                put("7_36_0", 0.804);
-                put("7_35_2", 0.147);
-                put("7_35_1", 0.084);
-                put("7_35_0", 0.955);
-                put("7_34_2", 0.026);
-                put("7_34_1", 0.135);
-                put("7_34_0", 0.490);
-                put("7_33_2", 0.004);
-                put("7_33_1", 0.344);
-                put("7_33_0", 0.387);
-                put("7_32_2", 0.987);
-                put("7_32_1", 0.016);
-                put("7_32_0", 0.158);
-                put("7_31_2", 0.736);
-                put("7_31_1", 0.031);
-                put("7_31_0", 0.016);
-                put("7_30_2", 0.168);
-                put("7_30_1", 0.843);
-                put("7_30_0", 0.347);
-                put("7_29_2", 0.940);
-                put("7_29_1", 0.404);
-                put("7_29_0", 0.322);
-                put("7_28_2", 0.314);
-                put("7_28_1", 0.250);
-                put("7_28_0", 0.464);
-                put("7_27_2", 0.169);
-                put("7_27_1", 0.024);
-                put("7_27_0", 0.609);
-                put("7_26_2", 0.734);
-                put("7_26_1", 0.338);
-                put("7_26_0", 0.606);
-                put("7_25_2", 0.308);
-                put("7_25_1", 0.064);
-                put("7_25_0", 0.297);
-                put("7_24_2", 0.937);
-                put("7_24_1", 0.213);
-                put("7_24_0", 0.014);
-                put("7_23_2", 0.858);
-                put("7_23_1", 0.996);
-                put("7_23_0", 0.337);
-                put("7_22_2", 0.423);
-                put("7_22_1", 0.594);
-                put("7_22_0", 0.999);
-                put("7_21_2", 0.017);
-                put("7_21_1", 0.006);
-                put("7_21_0", 0.795);
-                put("6_47_1", 0.500);
-                put("6_47_0", 1.000);
-                put("6_46_0", 0.000);
-                put("6_45_1", 0.500);
-                put("6_45_0", 0.000);
-                put("6_44_1", 0.500);
-                put("6_44_0", 0.247);
-                put("6_43_1", 0.500);
-                put("6_43_0", 0.493);
-                put("6_42_2", 0.500);
-                put("6_42_1", 0.984);
-                put("6_42_0", 0.972);
-                put("6_41_2", 0.500);
-                put("6_41_1", 0.000);
-                put("6_41_0", 0.682);
-                put("6_40_2", 0.456);
-                put("6_40_1", 0.851);
-                put("6_40_0", 0.468);
-                put("6_39_2", 0.859);
-                put("6_39_1", 0.996);
-                put("6_39_0", 0.599);
-                put("6_38_2", 0.750);
-                put("6_38_1", 0.104);
-                put("6_38_0", 0.096);
-                put("6_37_2", 0.614);
-                put("6_37_1", 0.640);
-                put("6_37_0", 0.487);
-                put("6_36_2", 0.314);
-                put("6_36_1", 0.158);
-                put("6_36_0", 0.097);
-                put("6_35_2", 0.802);
-                put("6_35_1", 0.249);
-                put("6_35_0", 0.082);
-                put("6_34_2", 0.728);
-                put("6_34_1", 0.487);
-                put("6_34_0", 0.725);
-                put("6_33_2", 0.931);
-                put("6_33_1", 0.239);
-                put("6_33_0", 0.809);
-                put("6_32_2", 0.020);
-                put("6_32_1", 0.006);
-                put("6_32_0", 0.055);
-                put("6_31_2", 0.055);
-                put("6_31_1", 0.813);
-                put("6_31_0", 0.536);
-                put("6_30_2", 0.244);
-                put("6_30_1", 0.285);
-                put("6_30_0", 0.992);
-                put("6_29_2", 0.018);
-                put("6_29_1", 0.519);
-                put("6_29_0", 0.499);
-                put("6_28_2", 0.927);
-                put("6_28_1", 0.359);
-                put("6_28_0", 0.937);
-                put("6_27_2", 0.175);
-                put("6_27_1", 0.018);
-                put("6_27_0", 0.391);
-                put("6_26_2", 0.570);
-                put("6_26_1", 0.353);
-                put("6_26_0", 0.778);
-                put("6_25_2", 0.441);
-                put("6_25_1", 0.374);
-                put("6_25_0", 0.933);
-                put("6_24_2", 0.463);
-                put("6_24_1", 0.640);
-                put("6_24_0", 0.612);
-                put("6_23_2", 0.484);
-                put("6_23_1", 0.259);
-                put("6_23_0", 0.836);
-                put("6_22_2", 0.442);
-                put("6_22_1", 0.885);
-                put("6_22_0", 0.005);
-                put("6_21_2", 0.000);
-                put("6_21_1", 0.000);
-                put("6_21_0", 0.976);
-                put("5_49_2", 0.500);
-                put("5_49_1", 0.500);
-                put("5_49_0", 0.500);
-                put("5_48_2", 0.500);
-                put("5_48_1", 1.000);
-                put("5_48_0", 0.000);
-                put("5_47_2", 0.500);
-                put("5_47_1", 0.500);
-                put("5_47_0", 0.914);
-                put("5_46_2", 0.792);
-                put("5_46_1", 0.000);
-                put("5_46_0", 0.903);
-                put("5_45_2", 1.000);
-                put("5_45_1", 0.230);
-                put("5_45_0", 0.602);
-                put("5_44_2", 0.000);
-                put("5_44_1", 0.466);
-                put("5_44_0", 0.481);
-                put("5_43_2", 0.614);
-                put("5_43_1", 0.181);
-                put("5_43_0", 0.651);
-                put("5_42_2", 1.000);
-                put("5_42_1", 0.227);
-                put("5_42_0", 0.116);
-                put("5_41_2", 0.517);
-                put("5_41_1", 0.171);
-                put("5_41_0", 0.424);
-                put("5_40_2", 0.633);
-                put("5_40_1", 0.696);
-                put("5_40_0", 0.358);
-                put("5_39_2", 0.117);
-                put("5_39_1", 0.087);
-                put("5_39_0", 0.623);
-                put("5_38_2", 0.936);
-                put("5_38_1", 0.973);
-                put("5_38_0", 0.580);
-                put("5_37_2", 0.543);
-                put("5_37_1", 0.963);
-                put("5_37_0", 0.521);
-                put("5_36_2", 0.014);
-                put("5_36_1", 0.030);
-                put("5_36_0", 0.844);
-                put("5_35_2", 0.150);
-                put("5_35_1", 0.264);
-                put("5_35_0", 0.773);
-                put("5_34_2", 0.015);
-                put("5_34_1", 0.045);
-                put("5_34_0", 0.637);
-                put("5_33_2", 0.049);
-                put("5_33_1", 0.685);
-                put("5_33_0", 0.532);
-                put("5_32_2", 0.792);
-                put("5_32_1", 0.351);
-                put("5_32_0", 0.992);
-                put("5_31_2", 0.370);
-                put("5_31_1", 0.493);
-                put("5_31_0", 0.321);
-                put("5_30_2", 0.156);
-                put("5_30_1", 0.038);
-                put("5_30_0", 0.902);
-                put("5_29_2", 0.092);
-                put("5_29_1", 0.013);
-                put("5_29_0", 0.100);
-                put("5_28_2", 0.093);
-                put("5_28_1", 0.151);
-                put("5_28_0", 0.136);
-                put("5_27_2", 0.047);
-                put("5_27_1", 0.012);
-                put("5_27_0", 0.897);
-                put("5_26_2", 0.001);
-                put("5_26_1", 0.025);
-                put("5_26_0", 0.422);
-                put("5_25_2", 0.223);
-                put("5_25_1", 0.016);
-                put("5_25_0", 1.000);
-                put("5_24_2", 0.012);
-                put("5_24_1", 0.288);
-                put("5_24_0", 0.977);
-                put("5_23_2", 0.002);
-                put("5_23_1", 0.042);
-                put("5_23_0", 0.009);
-                put("5_22_2", 0.421);
-                put("5_22_1", 0.126);
-                put("5_22_0", 0.998);
-                put("5_21_2", 0.001);
-                put("5_21_1", 0.000);
-                put("5_21_0", 0.997);
-                put("4_49_2", 0.500);
-                put("4_49_1", 0.500);
-                put("4_49_0", 0.000);
-                put("4_48_2", 0.500);
-                put("4_48_1", 0.183);
-                put("4_48_0", 0.410);
-                put("4_47_2", 0.500);
-                put("4_47_1", 0.368);
-                put("4_47_0", 0.988);
-                put("4_46_2", 0.811);
-                put("4_46_1", 0.968);
-                put("4_46_0", 0.920);
-                put("4_45_2", 1.000);
-                put("4_45_1", 0.411);
-                put("4_45_0", 0.331);
-                put("4_44_2", 0.332);
-                put("4_44_1", 0.333);
-                put("4_44_0", 0.621);
-                put("4_43_2", 0.687);
-                put("4_43_1", 0.625);
-                put("4_43_0", 0.776);
-                put("4_42_2", 0.282);
-                put("4_42_1", 0.461);
-                put("4_42_0", 0.021);
-                put("4_41_2", 0.262);
-                put("4_41_1", 0.452);
-                put("4_41_0", 0.087);
-                put("4_40_2", 0.797);
-                put("4_40_1", 0.297);
-                put("4_40_0", 0.539);
-                put("4_39_2", 0.058);
-                put("4_39_1", 0.015);
-                put("4_39_0", 0.640);
-                put("4_38_2", 0.093);
-                put("4_38_1", 0.567);
-                put("4_38_0", 0.649);
-                put("4_37_2", 0.785);
-                put("4_37_1", 0.094);
-                put("4_37_0", 0.970);
-                put("4_36_2", 0.453);
-                put("4_36_1", 0.045);
-                put("4_36_0", 0.915);
-                put("4_35_2", 0.096);
-                put("4_35_1", 0.041);
-                put("4_35_0", 0.581);
-                put("4_34_2", 0.080);
-                put("4_34_1", 0.006);
-                put("4_34_0", 0.143);
-                put("4_33_2", 0.037);
-                put("4_33_1", 0.254);
-                put("4_33_0", 0.269);
-                put("4_32_2", 0.110);
-                put("4_32_1", 0.001);
-                put("4_32_0", 0.865);
-                put("4_31_2", 0.254);
-                put("4_31_1", 0.082);
-                put("4_31_0", 0.830);
-                put("4_30_2", 0.389);
-                put("4_30_1", 0.025);
-                put("4_30_0", 0.336);
-                put("4_29_2", 0.032);
-                put("4_29_1", 0.105);
-                put("4_29_0", 0.200);
-                put("4_28_2", 0.004);
-                put("4_28_1", 0.001);
-                put("4_28_0", 0.360);
-                put("4_27_2", 0.058);
-                put("4_27_1", 0.022);
-                put("4_27_0", 0.994);
-                put("4_26_2", 0.001);
-                put("4_26_1", 0.012);
-                put("4_26_0", 0.009);
-                put("4_25_2", 0.048);
-                put("4_25_1", 0.017);
-                put("4_25_0", 0.999);
-                put("4_24_2", 0.007);
-                put("4_24_1", 0.149);
-                put("4_24_0", 0.979);
-                put("4_23_2", 0.000);
-                put("4_23_1", 0.107);
-                put("4_23_0", 0.926);
-                put("4_22_2", 0.084);
-                put("4_22_1", 0.003);
-                put("4_22_0", 0.985);
-                put("4_21_2", 0.000);
-                put("4_21_1", 0.000);
-                put("4_21_0", 0.995);
-                put("3_49_2", 0.000);
-                put("3_49_1", 0.000);
-                put("3_49_0", 0.072);
-                put("3_48_2", 0.000);
-                put("3_48_1", 0.577);
-                put("3_48_0", 0.087);
-                put("3_47_2", 0.683);
-                put("3_47_1", 0.329);
-                put("3_47_0", 0.004);
-                put("3_46_2", 0.537);
-                put("3_46_1", 0.975);
-                put("3_46_0", 0.355);
-                put("3_45_2", 0.194);
-                put("3_45_1", 0.158);
-                put("3_45_0", 0.211);
-                put("3_44_2", 0.221);
-                put("3_44_1", 0.000);
-                put("3_44_0", 0.595);
-                put("3_43_2", 0.305);
-                put("3_43_1", 0.018);
-                put("3_43_0", 0.097);
-                put("3_42_2", 0.704);
-                put("3_42_1", 0.009);
-                put("3_42_0", 0.265);
-                put("3_41_2", 0.253);
-                put("3_41_1", 0.211);
-                put("3_41_0", 0.991);
-                put("3_40_2", 0.560);
-                put("3_40_1", 0.245);
-                put("3_40_0", 0.557);
-                put("3_39_2", 0.357);
-                put("3_39_1", 0.062);
-                put("3_39_0", 0.730);
-                put("3_38_2", 0.322);
-                put("3_38_1", 0.275);
-                put("3_38_0", 0.162);
-                put("3_37_2", 0.191);
-                put("3_37_1", 0.395);
-                put("3_37_0", 0.085);
-                put("3_36_2", 0.311);
-                put("3_36_1", 0.148);
-                put("3_36_0", 0.724);
-                put("3_35_2", 0.190);
-                put("3_35_1", 0.706);
-                put("3_35_0", 0.739);
-                put("3_34_2", 0.046);
-                put("3_34_1", 0.089);
-                put("3_34_0", 0.130);
-                put("3_33_2", 0.007);
-                put("3_33_1", 0.402);
-                put("3_33_0", 0.990);
-                put("3_32_2", 0.031);
-                put("3_32_1", 0.056);
-                put("3_32_0", 0.418);
-                put("3_31_2", 0.007);
-                put("3_31_1", 0.142);
-                put("3_31_0", 0.712);
-                put("3_30_2", 0.012);
-                put("3_30_1", 0.012);
-                put("3_30_0", 0.168);
-                put("3_29_2", 0.000);
-                put("3_29_1", 0.257);
-                put("3_29_0", 0.001);
-                put("3_28_2", 0.011);
-                put("3_28_1", 0.013);
-                put("3_28_0", 0.319);
-                put("3_27_2", 0.020);
-                put("3_27_1", 0.013);
-                put("3_27_0", 0.375);
-                put("3_26_2", 0.000);
-                put("3_26_1", 0.009);
-                put("3_26_0", 0.024);
-                put("3_25_2", 0.003);
-                put("3_25_1", 0.014);
-                put("3_25_0", 1.000);
-                put("3_24_2", 0.000);
-                put("3_24_1", 0.047);
-                put("3_24_0", 0.995);
-                put("3_23_2", 0.004);
-                put("3_23_1", 0.008);
-                put("3_23_0", 0.604);
-                put("3_22_2", 0.000);
-                put("3_22_1", 0.004);
-                put("3_22_0", 0.825);
-                put("3_21_2", 0.001);
-                put("3_21_1", 0.001);
-                put("3_21_0", 1.000);
-                put("2_49_2", 0.267);
-                put("2_49_1", 0.000);
-                put("2_49_0", 0.001);
-                put("2_48_2", 0.162);
-                put("2_48_1", 0.003);
-                put("2_48_0", 0.207);
-                put("2_47_2", 0.700);
-                put("2_47_1", 0.018);
-                put("2_47_0", 0.541);
-                put("2_46_2", 0.263);
-                put("2_46_1", 0.598);
-                put("2_46_0", 0.044);
-                put("2_45_2", 0.978);
-                put("2_45_1", 0.318);
-                put("2_45_0", 0.110);
-                put("2_44_2", 0.048);
-                put("2_44_1", 0.964);
-                put("2_44_0", 0.051);
-                put("2_43_2", 0.618);
-                put("2_43_1", 0.024);
-                put("2_43_0", 0.201);
-                put("2_42_2", 0.363);
-                put("2_42_1", 0.170);
-                put("2_42_0", 0.218);
-                put("2_41_2", 0.072);
-                put("2_41_1", 0.427);
-                put("2_41_0", 0.536);
-                put("2_40_2", 0.282);
-                put("2_40_1", 0.065);
-                put("2_40_0", 0.584);
-                put("2_39_2", 0.688);
-                put("2_39_1", 0.144);
-                put("2_39_0", 0.029);
-                put("2_38_2", 0.007);
-                put("2_38_1", 0.352);
-                put("2_38_0", 0.658);
-                put("2_37_2", 0.034);
-                put("2_37_1", 0.170);
-                put("2_37_0", 0.892);
-                put("2_36_2", 0.402);
-                put("2_36_1", 0.000);
-                put("2_36_0", 0.154);
-                put("2_35_2", 0.549);
-                put("2_35_1", 0.072);
-                put("2_35_0", 0.658);
-                put("2_34_2", 0.003);
-                put("2_34_1", 0.006);
-                put("2_34_0", 0.876);
-                put("2_33_2", 0.027);
-                put("2_33_1", 0.020);
-                put("2_33_0", 0.001);
-                put("2_32_2", 0.062);
-                put("2_32_1", 0.008);
-                put("2_32_0", 0.826);
-                put("2_31_2", 0.003);
-                put("2_31_1", 0.013);
-                put("2_31_0", 0.305);
-                put("2_30_2", 0.006);
-                put("2_30_1", 0.000);
-                put("2_30_0", 0.056);
-                put("2_29_2", 0.001);
-                put("2_29_1", 0.000);
-                put("2_29_0", 0.098);
-                put("2_28_2", 0.016);
-                put("2_28_1", 0.004);
-                put("2_28_0", 0.091);
-                put("2_27_2", 0.006);
-                put("2_27_1", 0.004);
-                put("2_27_0", 0.091);
-                put("2_26_2", 0.003);
-                put("2_26_1", 0.009);
-                put("2_26_0", 0.001);
-                put("2_25_2", 0.006);
-                put("2_25_1", 0.001);
-                put("2_25_0", 0.982);
-                put("2_24_2", 0.015);
-                put("2_24_1", 0.015);
-                put("2_24_0", 0.891);
-                put("2_23_2", 0.015);
-                put("2_23_1", 0.008);
-                put("2_23_0", 0.001);
-                put("2_22_2", 0.018);
-                put("2_22_1", 0.004);
-                put("2_22_0", 0.181);
-                put("2_21_2", 0.000);
-                put("2_21_1", 0.000);
-                put("2_21_0", 0.940);
-                put("1_49_2", 0.074);
-                put("1_49_1", 0.216);
-                put("1_49_0", 0.000);
-                put("1_48_2", 0.012);
-                put("1_48_1", 0.120);
-                put("1_48_0", 0.000);
-                put("1_47_2", 0.859);
-                put("1_47_1", 0.046);
-                put("1_47_0", 0.813);
-                put("1_46_2", 0.087);
-                put("1_46_1", 0.076);
-                put("1_46_0", 0.282);
-                put("1_45_2", 0.092);
-                put("1_45_1", 0.000);
-                put("1_45_0", 0.062);
-                put("1_44_2", 0.037);
-                put("1_44_1", 0.646);
-                put("1_44_0", 0.267);
-                put("1_43_2", 0.123);
-                put("1_43_1", 0.085);
-                put("1_43_0", 0.191);
-                put("1_42_2", 0.766);
-                put("1_42_1", 0.964);
-                put("1_42_0", 0.046);
-                put("1_41_2", 0.005);
-                put("1_41_1", 0.001);
-                put("1_41_0", 0.466);
-                put("1_40_2", 0.117);
-                put("1_40_1", 0.217);
-                put("1_40_0", 0.236);
-                put("1_39_2", 0.024);
-                put("1_39_1", 0.000);
-                put("1_39_0", 0.053);
-                put("1_38_2", 0.000);
-                put("1_38_1", 0.036);
-                put("1_38_0", 0.165);
-                put("1_37_2", 0.279);
-                put("1_37_1", 0.049);
-                put("1_37_0", 0.998);
-                put("1_36_2", 0.001);
-                put("1_36_1", 0.094);
-                put("1_36_0", 0.168);
-                put("1_35_2", 0.007);
-                put("1_35_1", 0.003);
-                put("1_35_0", 0.005);
-                put("1_34_2", 0.071);
-                put("1_34_1", 0.037);
-                put("1_34_0", 0.631);
-                put("1_33_2", 0.003);
-                put("1_33_1", 0.028);
-                put("1_33_0", 0.461);
-                put("1_32_2", 0.007);
-                put("1_32_1", 0.030);
-                put("1_32_0", 0.001);
-                put("1_31_2", 0.002);
-                put("1_31_1", 0.101);
-                put("1_31_0", 0.358);
-                put("1_30_2", 0.006);
-                put("1_30_1", 0.012);
-                put("1_30_0", 0.002);
-                put("1_29_2", 0.006);
-                put("1_29_1", 0.191);
-                put("1_29_0", 0.001);
-                put("1_28_2", 0.003);
-                put("1_28_1", 0.071);
-                put("1_28_0", 0.003);
-                put("1_27_2", 0.002);
-                put("1_27_1", 0.040);
-                put("1_27_0", 0.013);
-                put("1_26_2", 0.015);
-                put("1_26_1", 0.028);
-                put("1_26_0", 0.033);
-                put("1_25_2", 0.001);
-                put("1_25_1", 0.000);
-                put("1_25_0", 0.009);
-                put("1_24_2", 0.006);
-                put("1_24_1", 0.005);
-                put("1_24_0", 0.001);
-                put("1_23_2", 0.001);
-                put("1_23_1", 0.032);
-                put("1_23_0", 0.022);
-                put("1_22_2", 0.000);
-                put("1_22_1", 0.021);
-                put("1_22_0", 0.051);
-                put("1_21_2", 0.000);
-                put("1_21_1", 0.009);
-                put("1_21_0", 0.833);
-
-            }
-        };
-
         /*
          * Order of strategy parameters:
          *
@@ -3669,7 +82,7 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
          * minPickupDifference
          * canteloupe
          */
-        generalStrategy = new GeneralStrategy(MyGinRummyUtil.decoded("344662"), knockStrat, drawStrat);
+        generalStrategy = new GeneralStrategy(MyGinRummyUtil.decoded("344662"));
 
     }
 
@@ -3757,9 +170,7 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
             /*
              * If the above heuristics don't settle things, turn to the CFR-informed strategy.
              */
-            String infoset = improvement + "_" + state.getTopCard() + "_" + minDrawsToMeld;
-
-            double prob = generalStrategy.getDrawAt(infoset);
+            double prob = generalStrategy.getDrawAt(improvement, state.getTopCard(), minDrawsToMeld);
             return random.nextDouble() < prob;
 
 			/*
@@ -3835,13 +246,8 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
     @Override
     public ArrayList<ArrayList<Card>> getFinalMelds() {
 
-        ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets;
-        int deadwood;
-
-        bestMeldSets = MyGinRummyUtil.cardsToBestMeldSets(MyGinRummyUtil.bitstringToCards(state.getHand()));
-        deadwood = bestMeldSets.isEmpty() ?
-                MyGinRummyUtil.getDeadwoodPoints(MyGinRummyUtil.bitstringToCards(state.getHand())) :
-                MyGinRummyUtil.getDeadwoodPoints(bestMeldSets.get(0), MyGinRummyUtil.bitstringToCards(state.getHand()));
+        boolean canMeld = MeldSolver.bestMeldMask(state.getHand()) != 0L;
+        int deadwood = MeldSolver.bestDeadwood(state.getHand());
 
         // Check if deadwood of maximal meld is low enough to go out.
 
@@ -3849,128 +255,90 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
         //Only knock if deadwood is both less than or equal to 10 and strategy.getMaxKnockDeadwood() [0].
 
         if (!opponentKnocked &&
-                (bestMeldSets.isEmpty() || deadwood > MyGinRummyUtil.MAX_DEADWOOD))
+                (!canMeld || deadwood > MyGinRummyUtil.MAX_DEADWOOD))
             return null;
         else if (!opponentKnocked) {
-            String k = state.getFaceUpPrevious() == -1? "" : deadwood + "_" + state.getTopCard() + "_" + GinRummyUtil.getDeadwoodPoints(Card.getCard(state.getFaceUpPrevious()));
-            double prob = generalStrategy.getKnockAt(k);
+            int faceUpDeadwood = state.getFaceUpPrevious() == -1? 0 : GinRummyUtil.getDeadwoodPoints(Card.getCard(state.getFaceUpPrevious()));
+            double prob = generalStrategy.getKnockAt(deadwood, state.getTopCard(), faceUpDeadwood);
             if(deadwood == 0 || random.nextDouble() < prob) {
                 //Select the meld configuration to submit.
-                ArrayList<ArrayList<Card>> bestMeldSet = null;
-                double minExpectedLayoff = Double.MAX_VALUE;
-                for(ArrayList<ArrayList<Card>> meldSet : bestMeldSets) {
-                    ArrayList<Card> layoff = new ArrayList<>();
-
-                    // Add all cards to layoff who could be inserted into our hand
-                    for (ArrayList<Card> meld : meldSet) {
-                        // Meld of cards of same rank
-                        if (meld.get(0).getRank() == meld.get(1).getRank()) {
-                            layoff.addAll(
-                                    MyGinRummyUtil.getSameRank(MyGinRummyUtil.bitstringToCards(
-                                            MyGinRummyUtil.addAll(state.getOppHand(), state.getUnaccounted())), meld.get(0)));
-                        }
-
-                        // Cards of same suit
-                        else {
-                            layoff.addAll(MyGinRummyUtil.getSameSuit(MyGinRummyUtil.bitstringToCards(
-                                    MyGinRummyUtil.addAll(state.getOppHand(), state.getUnaccounted())),
-                                    meld.get(0), 1));
-                            layoff.addAll(MyGinRummyUtil.getSameSuit(MyGinRummyUtil.bitstringToCards(
-                                    MyGinRummyUtil.addAll(state.getOppHand(), state.getUnaccounted())),
-                                    meld.get(meld.size() - 1), 1));
-                        }
-                    }
-
-                    /*
-                     * The sum of the deadwood of each layoff card * the probability that the opponent has said card
-                     * is expectedLayoff. If expectedLayoff < minExpectedLayoff, it is the new minimum, so assign
-                     * bestMeldSet to the current meld set. In the end, return the meld set with the lowest expectedLayoff.
-                     */
-                    double expectedLayoff = 0d;
-                    for(Card card : layoff) {
-                        //If the card is in an opponent meld, we don't expect them to try to lay it off.
-                        if(MyGinRummyUtil.canOpponentMeld(card, state)) continue;
-                        expectedLayoff += GinRummyUtil.getDeadwoodPoints(card) *
-                                MyGinRummyUtil.getProbabilityThatOpponentHasUnseenCard(card, state);
-                    }
-
-                    if(expectedLayoff < minExpectedLayoff) {
-                        minExpectedLayoff = expectedLayoff;
-                        bestMeldSet = meldSet;
-                    }
-
-                }
-
-                return bestMeldSet;
+                return MyGinRummyUtil.getBestBestMeldSet(state);
             }
             else return null;
         }
 
 
         else {
-            ArrayList<Card> layoff = new ArrayList<>();
-
-            if(bestMeldSets.isEmpty()) return new ArrayList<>();
+            if(!canMeld) return new ArrayList<>();
 
             //Add all cards to layoff who could be inserted into opponent hand
-            for(ArrayList<Card> meld : oppMelds) {
-                //Meld of cards of same rank
-                if(meld.get(0).getRank() == meld.get(1).getRank()) {
-                    layoff.addAll(MyGinRummyUtil.getSameRank(MyGinRummyUtil.bitstringToCards(state.getHand()), meld.get(0)));
-                }
-
-                //Cards of same suit
-                else {
-                    layoff.addAll(MyGinRummyUtil.getSameSuit(MyGinRummyUtil.bitstringToCards(state.getHand()), meld.get(0), 1));
-                    layoff.addAll(MyGinRummyUtil.getSameSuit(MyGinRummyUtil.bitstringToCards(state.getHand()), meld.get(meld.size() - 1), 1));
-                }
-            }
+            long layoff = 0L;
+            for(ArrayList<Card> meld : oppMelds)
+                layoff |= MyGinRummyUtil.getLayoffBitstring(MyGinRummyUtil.cardsToBitstring(meld));
+            layoff &= state.getHand();
 
             /*
              * Deadwood cards will be laid off no matter what, so check potential layoffs in melds to see if
              * a better config is available.
              */
+            long bestHand = state.getHand();
+            if(layoff != 0L)
+                bestHand = findBestLayoff(state.getHand(), layoff, deadwood);
 
-            ArrayList<Card> temp;
-            ArrayList<ArrayList<Card>> bestMeldSet = bestMeldSets.get(0);
-            int minDeadwood = deadwood;
-
-            if(layoff.isEmpty()) return bestMeldSet;
-
-            //Go through EVERY permutation of potential layoffs to find the one that leaves the best deadwood
-            for(int i = 0; i < Math.pow(2, layoff.size()); i++) {
-                String bString = Integer.toBinaryString(i);
-                temp = MyGinRummyUtil.bitstringToCards(state.getHand());
-
-                for(int j = 0; j < bString.length(); j++) {
-                    if(bString.charAt(bString.length() - 1 - j) == '1') {
-                        temp.remove(layoff.get(j));
-                    }
-                }
-
-                ArrayList<ArrayList<ArrayList<Card>>> meldSets = MyGinRummyUtil.cardsToBestMeldSets(temp);
-
-                if(meldSets.isEmpty()) {
-                    if(MyGinRummyUtil.getDeadwoodPoints(temp) < minDeadwood) {
-                        minDeadwood = MyGinRummyUtil.getDeadwoodPoints(temp);
-                        bestMeldSet = new ArrayList<>();
-                    }
-                }
-
-                else {
-                    if(MyGinRummyUtil.getDeadwoodPoints(meldSets.get(0), temp) < minDeadwood) {
-                        minDeadwood = MyGinRummyUtil.getDeadwoodPoints(meldSets.get(0), temp);
-                        bestMeldSet = meldSets.get(0);
-                    }
-                }
-            }
-
+            ArrayList<ArrayList<Card>> bestMeldSet = new ArrayList<>();
+            MyGinRummyUtil.visitBestMeldSets(bestHand, (melds, numMelds) -> {
+                bestMeldSet.addAll(MyGinRummyUtil.meldSetToCards(melds, numMelds));
+                return false;
+            });
             return bestMeldSet;
 
         }
 
     }
 
+    /**
+     * Search the subsets of potential layoffs for the one whose removal leaves the least deadwood. Removing a
+     * card lowers deadwood by at most that card's points, so a branch is pruned as soon as removing all of its
+     * remaining candidates could not beat the best deadwood found so far.
+     *
+     * @param hand    our hand
+     * @param layoff  the cards of our hand that could be laid off on the opponent's melds
+     * @param deadwood the deadwood of our hand
+     * @return our hand without the best subset of layoffs (hand itself if no subset lowers deadwood)
+     */
+    private static long findBestLayoff(long hand, long layoff, int deadwood) {
+        long[] best = {hand, deadwood};
+        findBestLayoff(hand, layoff, MeldSolver.getDeadwoodPoints(layoff), best);
+        return best[0];
+    }
+
+    /**
+     * @param hand       our hand without the layoffs decided so far
+     * @param candidates the layoffs still to decide
+     * @param candidatePoints the deadwood points of candidates
+     * @param best       the best hand found so far and its deadwood
+     */
+    private static void findBestLayoff(long hand, long candidates, int candidatePoints, long[] best) {
+        if(candidates == 0L) return;
+        long card = Long.highestOneBit(candidates);
+        candidates &= ~card;
+        int points = MeldSolver.getDeadwoodPoints(card);
+
+        // Lay the card off...
+        long temp = hand & ~card;
+        int tempDeadwood = layoffDeadwoodCache.bestDeadwood(temp);
+        if(tempDeadwood < best[1]) {
+            best[0] = temp;
+            best[1] = tempDeadwood;
+        }
+        if(tempDeadwood - (candidatePoints - points) < best[1])
+            findBestLayoff(temp, candidates, candidatePoints - points, best);
+
+        // ...or keep it
+        if(layoffDeadwoodCache.bestDeadwood(hand) - (candidatePoints - points) < best[1])
+            findBestLayoff(hand, candidates, candidatePoints - points, best);
+    }
+
     @Override
     public void reportFinalMelds(int playerNum, ArrayList<ArrayList<Card>> melds) {
         // Melds ignored by simple player, but could affect which melds to make for complex player.
@@ -4077,6 +445,44 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
             topCard = 20;
         }
 
+        /**
+         * Number of longs and ints written by saveTo
+         */
+        static final int SAVED_LONGS = 5, SAVED_INTS = 5;
+
+        /**
+         * Copy the fields of this state into longs[longOffset..] and ints[intOffset..], so that a game tree
+         * traversal can undo changes to the state without allocating a new one per node
+         */
+        void saveTo(long[] longs, int longOffset, int[] ints, int intOffset) {
+            longs[longOffset] = hand;
+            longs[longOffset + 1] = seen;
+            longs[longOffset + 2] = oppHand;
+            longs[longOffset + 3] = oppDiscard;
+            longs[longOffset + 4] = oppForwent;
+            ints[intOffset] = faceUpPrevious;
+            ints[intOffset + 1] = faceUp;
+            ints[intOffset + 2] = topCard;
+            ints[intOffset + 3] = turn;
+            ints[intOffset + 4] = num_remaining;
+        }
+
+        /**
+         * Restore the fields written by saveTo
+         */
+        void restoreFrom(long[] longs, int longOffset, int[] ints, int intOffset) {
+            hand = longs[longOffset];
+            seen = longs[longOffset + 1];
+            oppHand = longs[longOffset + 2];
+            oppDiscard = longs[longOffset + 3];
+            oppForwent = longs[longOffset + 4];
+            faceUpPrevious = ints[intOffset];
+            faceUp = ints[intOffset + 1];
+            topCard = ints[intOffset + 2];
+            turn = ints[intOffset + 3];
+            num_remaining = ints[intOffset + 4];
+        }
+
         // <editor-fold desc="Methods to add and remove cards from the lists recorded in
         // this class">
         /**
@@ -4621,57 +1027,84 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
 
         public static ArrayList<ArrayList<Card>> getBestBestMeldSet(State state) {
 
-            ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets;
-
-            bestMeldSets = MyGinRummyUtil.cardsToBestMeldSets(MyGinRummyUtil.bitstringToCards(state.getHand()));
-
-            //Select the meld configuration to submit.
-            ArrayList<ArrayList<Card>> bestMeldSet = null;
-            double minExpectedLayoff = Double.MAX_VALUE;
-            for(ArrayList<ArrayList<Card>> meldSet : bestMeldSets) {
-                ArrayList<Card> layoff = new ArrayList<>();
-
-                // Add all cards to layoff who could be inserted into our hand
-                for (ArrayList<Card> meld : meldSet) {
-                    // Meld of cards of same rank
-                    if (meld.get(0).getRank() == meld.get(1).getRank()) {
-                        layoff.addAll(
-                                MyGinRummyUtil.getSameRank(MyGinRummyUtil.bitstringToCards(
-                                        MyGinRummyUtil.addAll(state.getOppHand(), state.getUnaccounted())), meld.get(0)));
-                    }
-
-                    // Cards of same suit
-                    else {
-                        layoff.addAll(MyGinRummyUtil.getSameSuit(MyGinRummyUtil.bitstringToCards(
-                                MyGinRummyUtil.addAll(state.getOppHand(), state.getUnaccounted())),
-                                meld.get(0), 1));
-                        layoff.addAll(MyGinRummyUtil.getSameSuit(MyGinRummyUtil.bitstringToCards(
-                                MyGinRummyUtil.addAll(state.getOppHand(), state.getUnaccounted())),
-                                meld.get(meld.size() - 1), 1));
-                    }
-                }
-
+            //Select the meld configuration to submit, only building card lists for the chosen one.
+            long[][] bestMeldSet = {null};
+            double[] minExpectedLayoff = {Double.MAX_VALUE};
+            MyGinRummyUtil.visitBestMeldSets(state.getHand(), (melds, numMelds) -> {
                 /*
-                 * The sum of the deadwood of each layoff card * the probability that the opponent has said card
-                 * is expectedLayoff. If expectedLayoff < minExpectedLayoff, it is the new minimum, so assign
-                 * bestMeldSet to the current meld set. In the end, return the meld set with the lowest expectedLayoff.
+                 * If expectedLayoff < minExpectedLayoff, it is the new minimum, so assign bestMeldSet to the
+                 * current meld set. In the end, return the meld set with the lowest expectedLayoff.
                  */
-                double expectedLayoff = 0d;
-                for(Card card : layoff) {
-                    //If the card is in an opponent meld, we don't expect them to try to lay it off.
-                    if(MyGinRummyUtil.canOpponentMeld(card, state)) continue;
-                    expectedLayoff += GinRummyUtil.getDeadwoodPoints(card) *
-                            MyGinRummyUtil.getProbabilityThatOpponentHasUnseenCard(card, state);
+                double expectedLayoff = getExpectedLayoff(melds, numMelds, state);
+                if(expectedLayoff < minExpectedLayoff[0]) {
+                    minExpectedLayoff[0] = expectedLayoff;
+                    bestMeldSet[0] = Arrays.copyOf(melds, numMelds);
                 }
+                return true;
+            });
+
+            return bestMeldSet[0] == null ? null : meldSetToCards(bestMeldSet[0], bestMeldSet[0].length);
+        }
 
-                if(expectedLayoff < minExpectedLayoff) {
-                    minExpectedLayoff = expectedLayoff;
-                    bestMeldSet = meldSet;
+        /**
+         * The sum of the deadwood of each card the opponent could lay off on our melds * the probability that
+         * the opponent has said card.
+         *
+         * @param melds   meld bitstrings of a meld set
+         * @param numMelds the number of melds in the meld set
+         * @param state   the current state of the game
+         * @return the expected layoff deadwood
+         */
+        static double getExpectedLayoff(long[] melds, int numMelds, State state) {
+            long candidates = MyGinRummyUtil.addAll(state.getOppHand(), state.getUnaccounted());
+            double expectedLayoff = 0d;
+
+            // Add all cards to layoff who could be inserted into our hand
+            for (int i = 0; i < numMelds; i++) {
+                int first = Long.numberOfTrailingZeros(melds[i]);
+                int second = Long.numberOfTrailingZeros(melds[i] & (melds[i] - 1));
+
+                // Meld of cards of same rank
+                if (first % Card.NUM_RANKS == second % Card.NUM_RANKS) {
+                    long sameRank = (1L | 1L << Card.NUM_RANKS | 1L << 2 * Card.NUM_RANKS | 1L << 3 * Card.NUM_RANKS)
+                            << first % Card.NUM_RANKS;
+                    expectedLayoff += getExpectedLayoff(candidates & sameRank & ~(1L << first), state);
                 }
 
+                // Cards of same suit
+                else {
+                    int last = 63 - Long.numberOfLeadingZeros(melds[i]);
+                    expectedLayoff += getExpectedLayoff(candidates & getAdjacent(first), state);
+                    expectedLayoff += getExpectedLayoff(candidates & getAdjacent(last), state);
+                }
             }
 
-            return bestMeldSet;
+            return expectedLayoff;
+        }
+
+        /**
+         * @param c a card id
+         * @return the cards of the same suit as c whose rank is one away from c's
+         */
+        private static long getAdjacent(int c) {
+            long adjacent = 0L;
+            if (c % Card.NUM_RANKS > 0)
+                adjacent |= 1L << (c - 1);
+            if (c % Card.NUM_RANKS < Card.NUM_RANKS - 1)
+                adjacent |= 1L << (c + 1);
+            return adjacent;
+        }
+
+        private static double getExpectedLayoff(long layoff, State state) {
+            double expectedLayoff = 0d;
+            for (; layoff != 0; layoff &= layoff - 1) {
+                Card card = Card.getCard(Long.numberOfTrailingZeros(layoff));
+                //If the card is in an opponent meld, we don't expect them to try to lay it off.
+                if(MyGinRummyUtil.canOpponentMeld(card, state)) continue;
+                expectedLayoff += GinRummyUtil.getDeadwoodPoints(card) *
+                        MyGinRummyUtil.getProbabilityThatOpponentHasUnseenCard(card, state);
+            }
+            return expectedLayoff;
         }
 
         /**
@@ -4685,22 +1118,10 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
             if (exclude != null)
                 temp.removeAll(exclude);
 
-            ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = cardsToBestMeldSets(temp);
-            if (bestMeldSets.size() == 0)
-                return temp;
-
-            ArrayList<ArrayList<Card>> bestMeldSet = bestMeldSets.get(0);
-
-            ArrayList<Card> unmelded = new ArrayList<>(temp);
+            long melded = MeldSolver.bestMeldMask(cardsToBitstring(temp));
+            temp.removeIf(card -> contains(melded, card.getId()));
 
-            unmelded.removeIf(card -> {
-                for (ArrayList<Card> meld : bestMeldSet)
-                    if (meld.contains(card))
-                        return true;
-                return false;
-            });
-
-            return unmelded;
+            return temp;
 
         }
 
@@ -4710,7 +1131,8 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
          * @return all cards not in melds
          */
         public static long getUnmelded(long cards, long exclude) {
-            return cardsToBitstring(getUnmelded(bitstringToCards(cards), bitstringToCards(exclude)));
+            cards = removeAll(cards, exclude);
+            return removeAll(cards, MeldSolver.bestMeldMask(cards));
         }
 
         /**
@@ -5208,19 +1630,7 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
          * @return true if the added card makes a new meld
          */
         public static boolean makesNewMeld(ArrayList<Card> hand, Card c) {
-            ArrayList<Card> newHand = new ArrayList<>(hand);
-            newHand.add(c);
-
-            ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = MyGinRummyUtil.cardsToBestMeldSets(newHand);
-            if (bestMeldSets.size() == 0)
-                return false;
-
-            for (ArrayList<Card> meld : bestMeldSets.get(0)) {
-                if (meld.contains(c))
-                    return true;
-            }
-
-            return false;
+            return makesNewMeld(cardsToBitstring(hand), c.getId());
         }
 
         /**
@@ -5229,7 +1639,7 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
          * @return true if the added card makes a new meld
          */
         public static boolean makesNewMeld(long hand, int id) {
-            return makesNewMeld(MyGinRummyUtil.bitstringToCards(hand), Card.getCard(id));
+            return contains(MeldSolver.bestMeldMask(add(hand, id)), id);
         }
 
         /**
@@ -5240,26 +1650,7 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
          *         deadwood of our hand.
          */
         public static int getImprovement(ArrayList<Card> hand, Card c) {
-            int minDeadwood = Integer.MAX_VALUE;
-            ArrayList<Card> newCards = new ArrayList<>(hand);
-            newCards.add(c);
-
-            // Find all cards whose removal would reduce the hand's deadwood by the max
-            // amount
-            for (Card card : newCards) {
-                ArrayList<Card> remainingCards = new ArrayList<>(newCards);
-                remainingCards.remove(card);
-
-                ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = cardsToBestMeldSets(remainingCards);
-
-                int deadwood = bestMeldSets.isEmpty() ? getDeadwoodPoints(remainingCards)
-                        : getDeadwoodPoints(bestMeldSets.get(0), remainingCards);
-                if (deadwood < minDeadwood)
-                    minDeadwood = deadwood;
-            }
-
-            return cardsToBestMeldSets(hand).isEmpty() ? getDeadwoodPoints(hand) - minDeadwood
-                    : getDeadwoodPoints(cardsToBestMeldSets(hand).get(0), getUnmelded(hand, null)) - minDeadwood;
+            return getImprovement(cardsToBitstring(hand), c.getId());
         }
 
         /**
@@ -5270,7 +1661,13 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
          *         deadwood of our hand.
          */
         public static int getImprovement(long hand, int c_id) {
-            return getImprovement(bitstringToCards(hand), Card.getCard(c_id));
+            long newCards = add(hand, c_id);
+
+            // Find the card whose removal would reduce the hand's deadwood by the max
+            // amount, evaluating every removal in a single meld search
+            int minDeadwood = MeldSolver.bestDeadwoodAfterDiscard(newCards, newCards);
+
+            return MeldSolver.bestDeadwood(hand) - minDeadwood;
         }
 
         /**
@@ -5413,6 +1810,9 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
             HashMap<Integer, ArrayList<Card>> candidateLog = new HashMap<>();
 
             int minDeadwood = Integer.MAX_VALUE;
+            long handBitstring = cardsToBitstring(hand);
+            int[] deadwoods = new int[hand.size()];
+            MeldSolver.bestDeadwoodAfterEachDiscard(handBitstring, deadwoods);
 
             // Find all cards whose removal would reduce the hand's deadwood by the max
             // amount
@@ -5421,11 +1821,7 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
                 if (drawnCard != null && (card == drawnCard && drawnCard == face_up))
                     continue;
 
-                ArrayList<Card> remainingCards = new ArrayList<>(hand);
-                remainingCards.remove(card);
-                ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = cardsToBestMeldSets(remainingCards);
-                int deadwood = bestMeldSets.isEmpty() ? getDeadwoodPoints(remainingCards)
-                        : getDeadwoodPoints(bestMeldSets.get(0), remainingCards);
+                int deadwood = deadwoods[size(handBitstring & ((1L << card.getId()) - 1))];
                 if (deadwood <= minDeadwood) {
                     if (deadwood < minDeadwood) {
 
@@ -5467,8 +1863,13 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
             ArrayList<Card> unaccounted = bitstringToCards(state.getUnaccounted()); // Cards which have not been seen
             double sum = 0;
 
-            for (Card card : unaccounted)
-                sum += 1d / unaccounted.size() * getImprovement(bitstringToCards(state.getHand()), card);
+            MeldState hand = new MeldState(state.getHand());
+            int deadwood = hand.bestDeadwood();
+            for (Card card : unaccounted) {
+                hand.push(card.getId());
+                sum += 1d / unaccounted.size() * (deadwood - hand.bestDeadwoodAfterDiscard());
+                hand.pop();
+            }
 
             return sum;
         }
@@ -6048,16 +2449,573 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
      */
     static class GeneralStrategy {
 
-        // <editor-fold desc="Instance Variables">
         /**
-         * A map from the information set to the probability that we will knock
-         */
-        private HashMap<String, Double> knockStrat;
+         * The probability that we will knock, indexed by our deadwood (1-10), the top card (21-49) and the
+         * deadwood of the opponent's last discard (1-10).  Each row lists the probabilities of one deadwood and
+         * top card, in thousandths.
+         */
+        private static final StrategyTable KNOCK_STRAT = new StrategyTable(new int[] {1, 21, 1}, new int[] {10, 49, 10},
+                "4 3 2 51 2 2 1 1 1 0\n" + // 1_21
+                "82 16 6 3 1 1 1 0 0 0\n" + // 1_22
+                "35 5 1 1 0 0 0 0 0 0\n" + // 1_23
+                "9 1 0 0 0 0 0 0 0 0\n" + // 1_24
+                "2 0 0 0 0 0 0 0 0 0\n" + // 1_25
+                "1 0 0 0 0 0 0 0 0 0\n" + // 1_26
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_27
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_28
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_29
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_30
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_31
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_32
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_33
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_34
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_35
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_36
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_37
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_38
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_39
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_40
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_41
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_42
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_43
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_44
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_45
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_46
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_47
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_48
+                "0 0 0 0 0 0 0 0 0 0\n" + // 1_49
+                "4 422 3 2 2 2 1 1 1 1000\n" + // 2_21
+                "269 24 8 4 1 1 1 1 0 0\n" + // 2_22
+                "48 5 2 1 0 0 0 0 0 0\n" + // 2_23
+                "10 2 1 0 0 0 0 0 0 0\n" + // 2_24
+                "2 1 0 0 0 0 0 0 0 0\n" + // 2_25
+                "1 0 0 0 0 0 0 0 0 0\n" + // 2_26
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_27
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_28
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_29
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_30
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_31
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_32
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_33
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_34
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_35
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_36
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_37
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_38
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_39
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_40
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_41
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_42
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_43
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_44
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_45
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_46
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_47
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_48
+                "0 0 0 0 0 0 0 0 0 0\n" + // 2_49
+                "4 4 3 667 2 2 2 1 1 0\n" + // 3_21
+                "651 12 20 9 2 1 1 1 0 0\n" + // 3_22
+                "27 8 3 2 1 0 0 0 0 0\n" + // 3_23
+                "18 2 1 0 0 0 0 0 0 0\n" + // 3_24
+                "4 1 0 0 0 0 0 0 0 0\n" + // 3_25
+                "1 0 0 0 0 0 0 0 0 0\n" + // 3_26
+                "1 0 0 0 0 0 0 0 0 0\n" + // 3_27
+                "1 0 0 0 0 0 0 0 0 0\n" + // 3_28
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_29
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_30
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_31
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_32
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_33
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_34
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_35
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_36
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_37
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_38
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_39
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_40
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_41
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_42
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_43
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_44
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_45
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_46
+                "0 0 0 0 0 0 0 0 0 0\n" + // 3_47
+                "0 0 0 1 0 0 0 0 0 0\n" + // 3_48
+                "1 0 0 0 0 0 0 0 0 0\n" + // 3_49
+                "54 4 3 341 2 2 1 1 1 0\n" + // 4_21
+                "188 29 18 7 74 1 1 0 0 0\n" + // 4_22
+                "110 10 3 2 1 0 0 0 0 0\n" + // 4_23
+                "5 2 1 0 0 0 0 0 0 0\n" + // 4_24
+                "3 1 0 0 0 0 0 0 0 0\n" + // 4_25
+                "4 0 0 0 0 0 0 0 0 0\n" + // 4_26
+                "1 0 0 0 0 0 0 0 0 0\n" + // 4_27
+                "1 0 0 0 0 0 0 0 0 0\n" + // 4_28
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_29
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_30
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_31
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_32
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_33
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_34
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_35
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_36
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_37
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_38
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_39
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_40
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_41
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_42
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_43
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_44
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_45
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_46
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_47
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_48
+                "0 0 0 0 0 0 0 0 0 0\n" + // 4_49
+                "3 2 2 3 2 1 2 1 1 0\n" + // 5_21
+                "224 144 11 54 3 2 1 0 0 323\n" + // 5_22
+                "105 7 7 1 1 0 0 0 0 1000\n" + // 5_23
+                "28 2 1 0 0 0 0 0 0 0\n" + // 5_24
+                "5 1 0 0 0 0 0 0 0 0\n" + // 5_25
+                "2 0 0 0 0 0 0 0 0 0\n" + // 5_26
+                "4 0 0 0 0 0 0 0 0 0\n" + // 5_27
+                "2 0 0 0 0 0 0 0 0 0\n" + // 5_28
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_29
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_30
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_31
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_32
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_33
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_34
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_35
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_36
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_37
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_38
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_39
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_40
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_41
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_42
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_43
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_44
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_45
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_46
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_47
+                "1 0 0 0 0 0 0 0 0 0\n" + // 5_48
+                "0 0 0 0 0 0 0 0 0 0\n" + // 5_49
+                "106 1000 2 2 1 4 1 1 500 0\n" + // 6_21
+                "259 83 21 3 2 1 85 0 0 39\n" + // 6_22
+                "27 112 3 1 1 0 0 0 0 157\n" + // 6_23
+                "12 2 1 0 0 0 0 0 5 0\n" + // 6_24
+                "3 1 0 0 0 0 0 22 0 0\n" + // 6_25
+                "5 1 0 0 0 0 0 0 7 30\n" + // 6_26
+                "1 0 0 0 0 0 0 255 0 147\n" + // 6_27
+                "1 0 0 0 0 0 0 0 2 0\n" + // 6_28
+                "1 0 0 0 0 0 0 4 0 0\n" + // 6_29
+                "0 0 0 0 0 0 0 0 667 0\n" + // 6_30
+                "0 0 0 0 0 0 2 0 0 0\n" + // 6_31
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_32
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_33
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_34
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_35
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_36
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_37
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_38
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_39
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_40
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_41
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_42
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_43
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_44
+                "1 0 0 0 0 0 0 0 0 0\n" + // 6_45
+                "0 0 0 0 0 0 0 0 0 0\n" + // 6_46
+                "1 0 0 0 0 0 0 0 0 0\n" + // 6_47
+                "1 0 0 0 0 0 0 0 0 0\n" + // 6_48
+                "1 0 0 0 0 0 0 0 0 0\n" + // 6_49
+                "1 1 1 1000 1 1 1 1 1 0\n" + // 7_21
+                "384 17 8 4 1 1 1 0 8 361\n" + // 7_22
+                "31 7 3 1 1 0 0 741 0 0\n" + // 7_23
+                "8 2 1 0 0 0 0 0 0 1000\n" + // 7_24
+                "3 1 0 0 0 0 0 0 1000 17\n" + // 7_25
+                "4 1 0 0 0 0 0 4 40 0\n" + // 7_26
+                "1 0 0 0 0 0 0 0 1 0\n" + // 7_27
+                "2 0 0 0 0 0 0 0 1 0\n" + // 7_28
+                "0 0 0 0 0 0 0 0 1 0\n" + // 7_29
+                "0 0 0 0 0 0 0 4 0 0\n" + // 7_30
+                "0 0 0 0 0 0 0 1 0 0\n" + // 7_31
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_32
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_33
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_34
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_35
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_36
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_37
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_38
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_39
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_40
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_41
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_42
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_43
+                "1 0 0 0 0 0 0 0 0 0\n" + // 7_44
+                "0 0 0 0 0 0 0 0 0 0\n" + // 7_45
+                "1 0 0 0 0 0 0 0 0 0\n" + // 7_46
+                "2 0 0 0 0 0 0 0 0 0\n" + // 7_47
+                "1 0 0 0 0 0 0 0 0 0\n" + // 7_48
+                "3 0 0 0 0 0 0 0 0 0\n" + // 7_49
+                "400 667 1 1 1 61 667 95 16 61\n" + // 8_21
+                "412 26 7 3 1 1 0 0 331 0\n" + // 8_22
+                "9 5 3 1 0 0 0 0 4 667\n" + // 8_23
+                "5 1 1 0 0 0 0 0 0 1000\n" + // 8_24
+                "18 1 0 0 0 0 0 1 0 0\n" + // 8_25
+                "2 0 0 0 0 0 0 0 1 0\n" + // 8_26
+                "1 0 0 0 0 0 0 1000 0 19\n" + // 8_27
+                "1 0 0 0 0 0 0 188 0 21\n" + // 8_28
+                "0 0 0 0 0 0 0 0 0 14\n" + // 8_29
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_30
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_31
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_32
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_33
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_34
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_35
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_36
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_37
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_38
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_39
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_40
+                "1 0 0 0 0 0 0 0 0 0\n" + // 8_41
+                "1 0 0 0 0 0 0 0 0 0\n" + // 8_42
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_43
+                "0 0 0 0 0 0 0 0 0 0\n" + // 8_44
+                "1 0 0 0 0 0 0 0 0 0\n" + // 8_45
+                "1 0 0 0 0 0 0 0 0 0\n" + // 8_46
+                "1 0 0 0 0 0 0 0 0 0\n" + // 8_47
+                "2 0 0 0 0 0 0 0 0 0\n" + // 8_48
+                "3 1 0 0 0 0 0 0 0 0\n" + // 8_49
+                "223 1 63 1 500 1 24 75 0 1000\n" + // 9_21
+                "42 10 21 2 1 1 0 0 0 452\n" + // 9_22
+                "18 5 2 1 0 0 0 0 1000 0\n" + // 9_23
+                "6 1 0 0 0 0 0 19 5 36\n" + // 9_24
+                "46 0 0 0 0 0 0 0 1 0\n" + // 9_25
+                "3 0 0 0 0 0 15 0 0 0\n" + // 9_26
+                "1 0 0 0 0 0 0 0 81 200\n" + // 9_27
+                "2 0 0 0 0 0 0 147 1 0\n" + // 9_28
+                "1 0 0 0 0 0 0 1 3 1000\n" + // 9_29
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_30
+                "1 0 0 0 0 0 0 0 0 0\n" + // 9_31
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_32
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_33
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_34
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_35
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_36
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_37
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_38
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_39
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_40
+                "1 0 0 0 0 0 0 0 0 0\n" + // 9_41
+                "1 0 0 0 0 0 0 0 0 0\n" + // 9_42
+                "1 0 0 0 0 0 0 0 0 0\n" + // 9_43
+                "1 0 0 0 0 0 0 0 0 0\n" + // 9_44
+                "3 0 0 0 0 0 0 0 0 0\n" + // 9_45
+                "0 0 0 0 0 0 0 0 0 0\n" + // 9_46
+                "2 1 0 0 0 0 0 0 0 0\n" + // 9_47
+                "1 1 1 0 0 0 0 0 0 0\n" + // 9_48
+                "2 1 0 0 0 0 0 0 0 0\n" + // 9_49
+                "29 4 84 0 1000 583 17 4 0 194\n" + // 10_21
+                "36 6 13 2 1 1 0 0 0 313\n" + // 10_22
+                "34 9 2 1 0 0 0 133 1 0\n" + // 10_23
+                "14 2 1 0 0 0 0 0 26 0\n" + // 10_24
+                "3 1 0 0 0 0 0 1000 0 0\n" + // 10_25
+                "4 1 0 0 0 0 0 22 30 380\n" + // 10_26
+                "2 0 0 0 0 0 0 0 1000 282\n" + // 10_27
+                "1 0 0 0 0 0 0 0 7 0\n" + // 10_28
+                "1 0 0 0 0 0 0 0 22 1\n" + // 10_29
+                "0 0 0 0 0 0 0 1 154 0\n" + // 10_30
+                "0 0 0 0 0 0 0 0 277 0\n" + // 10_31
+                "0 0 0 0 0 0 0 0 0 0\n" + // 10_32
+                "0 0 0 0 0 0 0 0 0 0\n" + // 10_33
+                "0 0 0 0 0 0 0 0 0 0\n" + // 10_34
+                "0 0 0 0 0 0 0 0 0 0\n" + // 10_35
+                "0 0 0 0 0 0 0 0 0 0\n" + // 10_36
+                "0 0 0 0 0 0 0 0 0 0\n" + // 10_37
+                "0 0 0 0 0 0 0 0 0 0\n" + // 10_38
+                "0 0 0 0 0 0 0 0 0 0\n" + // 10_39
+                "1 0 0 0 0 0 0 0 0 0\n" + // 10_40
+                "1 0 0 0 0 0 0 0 0 0\n" + // 10_41
+                "1 0 0 0 0 0 0 0 0 0\n" + // 10_42
+                "1 0 0 0 0 0 0 0 0 0\n" + // 10_43
+                "1 0 0 0 0 0 0 0 0 0\n" + // 10_44
+                "6 1 0 0 0 0 0 0 0 0\n" + // 10_45
+                "4 2 0 0 0 0 0 0 0 0\n" + // 10_46
+                "9 1 2 0 0 0 0 0 0 0\n" + // 10_47
+                "38 4 2 0 0 0 0 0 0 0\n" + // 10_48
+                "14 7 1 0 0 0 0 0 0 0\n"); // 10_49
+
+        /**
+         * The probability that we will draw the face-up card, indexed by its improvement to our deadwood (1-9),
+         * the top card (21-49) and the minimum number of draws it would take to meld it (0-2).  Each row lists
+         * the probabilities of one improvement and top card, in thousandths; - marks an infoset never reached in
+         * training.
+         */
+        private static final StrategyTable DRAW_STRAT = new StrategyTable(new int[] {1, 21, 0}, new int[] {9, 49, 2},
+                "833 9 0\n" + // 1_21
+                "51 21 0\n" + // 1_22
+                "22 32 1\n" + // 1_23
+                "1 5 6\n" + // 1_24
+                "9 0 1\n" + // 1_25
+                "33 28 15\n" + // 1_26
+                "13 40 2\n" + // 1_27
+                "3 71 3\n" + // 1_28
+                "1 191 6\n" + // 1_29
+                "2 12 6\n" + // 1_30
+                "358 101 2\n" + // 1_31
+                "1 30 7\n" + // 1_32
+                "461 28 3\n" + // 1_33
+                "631 37 71\n" + // 1_34
+                "5 3 7\n" + // 1_35
+                "168 94 1\n" + // 1_36
+                "998 49 279\n" + // 1_37
+                "165 36 0\n" + // 1_38
+                "53 0 24\n" + // 1_39
+                "236 217 117\n" + // 1_40
+                "466 1 5\n" + // 1_41
+                "46 964 766\n" + // 1_42
+                "191 85 123\n" + // 1_43
+                "267 646 37\n" + // 1_44
+                "62 0 92\n" + // 1_45
+                "282 76 87\n" + // 1_46
+                "813 46 859\n" + // 1_47
+                "0 120 12\n" + // 1_48
+                "0 216 74\n" + // 1_49
+                "940 0 0\n" + // 2_21
+                "181 4 18\n" + // 2_22
+                "1 8 15\n" + // 2_23
+                "891 15 15\n" + // 2_24
+                "982 1 6\n" + // 2_25
+                "1 9 3\n" + // 2_26
+                "91 4 6\n" + // 2_27
+                "91 4 16\n" + // 2_28
+                "98 0 1\n" + // 2_29
+                "56 0 6\n" + // 2_30
+                "305 13 3\n" + // 2_31
+                "826 8 62\n" + // 2_32
+                "1 20 27\n" + // 2_33
+                "876 6 3\n" + // 2_34
+                "658 72 549\n" + // 2_35
+                "154 0 402\n" + // 2_36
+                "892 170 34\n" + // 2_37
+                "658 352 7\n" + // 2_38
+                "29 144 688\n" + // 2_39
+                "584 65 282\n" + // 2_40
+                "536 427 72\n" + // 2_41
+                "218 170 363\n" + // 2_42
+                "201 24 618\n" + // 2_43
+                "51 964 48\n" + // 2_44
+                "110 318 978\n" + // 2_45
+                "44 598 263\n" + // 2_46
+                "541 18 700\n" + // 2_47
+                "207 3 162\n" + // 2_48
+                "1 0 267\n" + // 2_49
+                "1000 1 1\n" + // 3_21
+                "825 4 0\n" + // 3_22
+                "604 8 4\n" + // 3_23
+                "995 47 0\n" + // 3_24
+                "1000 14 3\n" + // 3_25
+                "24 9 0\n" + // 3_26
+                "375 13 20\n" + // 3_27
+                "319 13 11\n" + // 3_28
+                "1 257 0\n" + // 3_29
+                "168 12 12\n" + // 3_30
+                "712 142 7\n" + // 3_31
+                "418 56 31\n" + // 3_32
+                "990 402 7\n" + // 3_33
+                "130 89 46\n" + // 3_34
+                "739 706 190\n" + // 3_35
+                "724 148 311\n" + // 3_36
+                "85 395 191\n" + // 3_37
+                "162 275 322\n" + // 3_38
+                "730 62 357\n" + // 3_39
+                "557 245 560\n" + // 3_40
+                "991 211 253\n" + // 3_41
+                "265 9 704\n" + // 3_42
+                "97 18 305\n" + // 3_43
+                "595 0 221\n" + // 3_44
+                "211 158 194\n" + // 3_45
+                "355 975 537\n" + // 3_46
+                "4 329 683\n" + // 3_47
+                "87 577 0\n" + // 3_48
+                "72 0 0\n" + // 3_49
+                "995 0 0\n" + // 4_21
+                "985 3 84\n" + // 4_22
+                "926 107 0\n" + // 4_23
+                "979 149 7\n" + // 4_24
+                "999 17 48\n" + // 4_25
+                "9 12 1\n" + // 4_26
+                "994 22 58\n" + // 4_27
+                "360 1 4\n" + // 4_28
+                "200 105 32\n" + // 4_29
+                "336 25 389\n" + // 4_30
+                "830 82 254\n" + // 4_31
+                "865 1 110\n" + // 4_32
+                "269 254 37\n" + // 4_33
+                "143 6 80\n" + // 4_34
+                "581 41 96\n" + // 4_35
+                "915 45 453\n" + // 4_36
+                "970 94 785\n" + // 4_37
+                "649 567 93\n" + // 4_38
+                "640 15 58\n" + // 4_39
+                "539 297 797\n" + // 4_40
+                "87 452 262\n" + // 4_41
+                "21 461 282\n" + // 4_42
+                "776 625 687\n" + // 4_43
+                "621 333 332\n" + // 4_44
+                "331 411 1000\n" + // 4_45
+                "920 968 811\n" + // 4_46
+                "988 368 500\n" + // 4_47
+                "410 183 500\n" + // 4_48
+                "0 500 500\n" + // 4_49
+                "997 0 1\n" + // 5_21
+                "998 126 421\n" + // 5_22
+                "9 42 2\n" + // 5_23
+                "977 288 12\n" + // 5_24
+                "1000 16 223\n" + // 5_25
+                "422 25 1\n" + // 5_26
+                "897 12 47\n" + // 5_27
+                "136 151 93\n" + // 5_28
+                "100 13 92\n" + // 5_29
+                "902 38 156\n" + // 5_30
+                "321 493 370\n" + // 5_31
+                "992 351 792\n" + // 5_32
+                "532 685 49\n" + // 5_33
+                "637 45 15\n" + // 5_34
+                "773 264 150\n" + // 5_35
+                "844 30 14\n" + // 5_36
+                "521 963 543\n" + // 5_37
+                "580 973 936\n" + // 5_38
+                "623 87 117\n" + // 5_39
+                "358 696 633\n" + // 5_40
+                "424 171 517\n" + // 5_41
+                "116 227 1000\n" + // 5_42
+                "651 181 614\n" + // 5_43
+                "481 466 0\n" + // 5_44
+                "602 230 1000\n" + // 5_45
+                "903 0 792\n" + // 5_46
+                "914 500 500\n" + // 5_47
+                "0 1000 500\n" + // 5_48
+                "500 500 500\n" + // 5_49
+                "976 0 0\n" + // 6_21
+                "5 885 442\n" + // 6_22
+                "836 259 484\n" + // 6_23
+                "612 640 463\n" + // 6_24
+                "933 374 441\n" + // 6_25
+                "778 353 570\n" + // 6_26
+                "391 18 175\n" + // 6_27
+                "937 359 927\n" + // 6_28
+                "499 519 18\n" + // 6_29
+                "992 285 244\n" + // 6_30
+                "536 813 55\n" + // 6_31
+                "55 6 20\n" + // 6_32
+                "809 239 931\n" + // 6_33
+                "725 487 728\n" + // 6_34
+                "82 249 802\n" + // 6_35
+                "97 158 314\n" + // 6_36
+                "487 640 614\n" + // 6_37
+                "96 104 750\n" + // 6_38
+                "599 996 859\n" + // 6_39
+                "468 851 456\n" + // 6_40
+                "682 0 500\n" + // 6_41
+                "972 984 500\n" + // 6_42
+                "493 500 -\n" + // 6_43
+                "247 500 -\n" + // 6_44
+                "0 500 -\n" + // 6_45
+                "0 - -\n" + // 6_46
+                "1000 500 -\n" + // 6_47
+                "- - -\n" + // 6_48
+                "- - -\n" + // 6_49
+                "795 6 17\n" + // 7_21
+                "999 594 423\n" + // 7_22
+                "337 996 858\n" + // 7_23
+                "14 213 937\n" + // 7_24
+                "297 64 308\n" + // 7_25
+                "606 338 734\n" + // 7_26
+                "609 24 169\n" + // 7_27
+                "464 250 314\n" + // 7_28
+                "322 404 940\n" + // 7_29
+                "347 843 168\n" + // 7_30
+                "16 31 736\n" + // 7_31
+                "158 16 987\n" + // 7_32
+                "387 344 4\n" + // 7_33
+                "490 135 26\n" + // 7_34
+                "955 84 147\n" + // 7_35
+                "804 286 852\n" + // 7_36
+                "601 680 1000\n" + // 7_37
+                "471 0 0\n" + // 7_38
+                "921 500 500\n" + // 7_39
+                "0 556 500\n" + // 7_40
+                "1000 500 -\n" + // 7_41
+                "500 - -\n" + // 7_42
+                "- 500 -\n" + // 7_43
+                "0 500 -\n" + // 7_44
+                "- - -\n" + // 7_45
+                "- - -\n" + // 7_46
+                "- - -\n" + // 7_47
+                "- - -\n" + // 7_48
+                "- - -\n" + // 7_49
+                "15 10 5\n" + // 8_21
+                "214 462 434\n" + // 8_22
+                "721 374 269\n" + // 8_23
+                "129 420 132\n" + // 8_24
+                "200 184 394\n" + // 8_25
+                "228 682 68\n" + // 8_26
+                "588 563 32\n" + // 8_27
+                "971 715 405\n" + // 8_28
+                "490 151 1000\n" + // 8_29
+                "1000 283 64\n" + // 8_30
+                "391 10 653\n" + // 8_31
+                "6 56 136\n" + // 8_32
+                "0 922 785\n" + // 8_33
+                "482 144 0\n" + // 8_34
+                "597 0 391\n" + // 8_35
+                "621 600 424\n" + // 8_36
+                "428 500 500\n" + // 8_37
+                "1000 500 -\n" + // 8_38
+                "500 500 -\n" + // 8_39
+                "500 - -\n" + // 8_40
+                "500 500 -\n" + // 8_41
+                "- - -\n" + // 8_42
+                "- - -\n" + // 8_43
+                "- - -\n" + // 8_44
+                "- - -\n" + // 8_45
+                "- - -\n" + // 8_46
+                "- - -\n" + // 8_47
+                "- - -\n" + // 8_48
+                "- - -\n" + // 8_49
+                "330 0 3\n" + // 9_21
+                "381 114 388\n" + // 9_22
+                "406 426 348\n" + // 9_23
+                "703 957 138\n" + // 9_24
+                "100 30 481\n" + // 9_25
+                "408 616 1000\n" + // 9_26
+                "922 264 655\n" + // 9_27
+                "1000 494 429\n" + // 9_28
+                "586 649 1000\n" + // 9_29
+                "1000 980 0\n" + // 9_30
+                "384 236 849\n" + // 9_31
+                "602 260 0\n" + // 9_32
+                "0 500 500\n" + // 9_33
+                "0 1000 -\n" + // 9_34
+                "245 500 500\n" + // 9_35
+                "500 500 -\n" + // 9_36
+                "- - -\n" + // 9_37
+                "- - -\n" + // 9_38
+                "- - -\n" + // 9_39
+                "- - -\n" + // 9_40
+                "- - -\n" + // 9_41
+                "- - -\n" + // 9_42
+                "- - -\n" + // 9_43
+                "- - -\n" + // 9_44
+                "- - -\n" + // 9_45
+                "- - -\n" + // 9_46
+                "- - -\n" + // 9_47
+                "- - -\n" + // 9_48
+                "- - -\n"); // 9_49
 
-        /**
-         * A map from the information set to the probability that we will draw
-         */
-        private HashMap<String, Double> drawStrat;
+        // <editor-fold desc="Instance Variables">
 
         /**
          * Max deadwood a card can contribute to a hand while not being able to be
@@ -6118,10 +3076,7 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
          * Constructor
          */
 
-        GeneralStrategy(int[] strategy, HashMap<String, Double> knockStrat, HashMap<String, Double> drawStrat) {
-
-            this.knockStrat = knockStrat;
-            this.drawStrat = drawStrat;
+        GeneralStrategy(int[] strategy) {
 
             this.maxIsolatedSingleDeadwood = strategy[1] <= 10 && strategy[1] > 0 ? strategy[1] : 10;
             this.minIsolatedSingleDiscardTurn = Math.max(strategy[2], 0);
@@ -6143,75 +3098,24 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
         }
 
         // <editor-fold desc="Getters and Setters">
-        public HashMap<String, Double> getKnockStrat() {
-            return knockStrat;
-        }
-
-        public double getKnockAt(String s) {
-            return getAt(knockStrat, s);
-        }
-
-        public double getDrawAt(String s) {
-            return getAt(drawStrat, s);
+        /**
+         * @param deadwood Our deadwood
+         * @param topCard The index of the top card of the draw pile
+         * @param faceUpDeadwood The deadwood of the opponent's last discard, or 0 if there was none
+         * @return The probability that we will knock
+         */
+        public double getKnockAt(int deadwood, int topCard, int faceUpDeadwood) {
+            return KNOCK_STRAT.get(deadwood, topCard, faceUpDeadwood);
         }
 
-        public double getAt(HashMap<String, Double> strat, String s) {
-            try {
-                return strat.get(s);
-            } catch (Exception e) {
-
-                //If the infoset doesn't exist, find the closest one
-
-                double maxStringSimilarity = Double.MIN_VALUE;
-                double minValueDifference = Double.MAX_VALUE;
-                String similar = "";
-                for(String str : strat.keySet()) {
-                    boolean sLonger = s.length() >= str.length();
-
-                    String[] longer = sLonger? s.split("_") : str.split("_");
-                    String[] shorter = !sLonger? s.split("_") : str.split("_");
-
-                    boolean[] intersect = new boolean[longer.length];
-                    int union = longer.length + shorter.length;
-
-                    for(int i = 0; i < longer.length; i++)
-                        intersect[i] = i < shorter.length && longer[i].equals(shorter[i]);
-
-                    double strOverlap = ((double)intersect.length)/union;
-
-                    //If the string has an overlap at least that of the recorded max, check distance between numeric values
-                    if(strOverlap >= maxStringSimilarity) {
-                        double valOverlap = 0d;
-                        for(int i = 0; i < intersect.length; i++) {
-                            if(!intersect[i]) {
-                                double v1, v2;
-                                try {
-                                    v1 = Double.parseDouble(longer[i]);
-                                    v2 = i < shorter.length? Double.parseDouble(shorter[i]) : 0d;
-                                } catch (NumberFormatException ex) {
-                                    continue;
-                                }
-
-                                valOverlap += Math.pow(v1 - v2, 2);
-                            }
-                        }
-
-                        if(Math.sqrt(valOverlap) < minValueDifference) {
-                            maxStringSimilarity = strOverlap;
-                            minValueDifference = valOverlap;
-                            similar = str;
-                        }
-
-                    }
-
-                }
-
-                double h = -1d;
-                if(strat.containsKey(similar))
-                    h = strat.get(similar);
-
-                return h;
-            }
+        /**
+         * @param improvement The improvement to our deadwood from drawing the face-up card
+         * @param topCard The index of the top card of the draw pile
+         * @param minDrawsToMeld The minimum number of draws it would take to meld the face-up card
+         * @return The probability that we will draw the face-up card
+         */
+        public double getDrawAt(int improvement, int topCard, int minDrawsToMeld) {
+            return DRAW_STRAT.get(improvement, topCard, minDrawsToMeld);
         }
 
         int getMaxIsolatedSingleDeadwood() {
@@ -6289,6 +3193,73 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
         // </editor-fold>
     }
 
+    /**
+     * An immutable table of probabilities over infosets of three indices, stored densely in thousandths and
+     * shared by every player.  An infoset missing from the table takes the value of the nearest infoset present,
+     * and an infoset outside the table takes the value at the nearest edge.
+     */
+    static class StrategyTable {
+
+        private final int[] min;
+        private final int[] size;
+        private final short[] thousandths;
+
+        /**
+         * @param min The smallest value of each index
+         * @param max The largest value of each index
+         * @param rows The probabilities in thousandths, separated by whitespace, with the last index varying
+         *             fastest. - marks a missing infoset.
+         */
+        StrategyTable(int[] min, int[] max, String rows) {
+            this.min = min;
+            this.size = new int[] {max[0] - min[0] + 1, max[1] - min[1] + 1, max[2] - min[2] + 1};
+            this.thousandths = new short[size[0] * size[1] * size[2]];
+
+            String[] values = rows.trim().split("\\s+");
+            if (values.length != thousandths.length)
+                throw new IllegalArgumentException("Expected " + thousandths.length + " probabilities, got " + values.length);
+            for (int i = 0; i < values.length; i++)
+                thousandths[i] = values[i].equals("-") ? -1 : Short.parseShort(values[i]);
+
+            short[] present = thousandths.clone();
+            for (int i = 0; i < thousandths.length; i++) {
+                if (present[i] < 0)
+                    thousandths[i] = present[nearest(present, i)];
+            }
+        }
+
+        /**
+         * @return The probability at the given infoset
+         */
+        double get(int a, int b, int c) {
+            return thousandths[(index(a, 0) * size[1] + index(b, 1)) * size[2] + index(c, 2)] / 1000.0;
+        }
+
+        private int index(int value, int dimension) {
+            return Math.min(Math.max(value - min[dimension], 0), size[dimension] - 1);
+        }
+
+        /**
+         * @return The present entry closest to entry i, by squared distance between indices
+         */
+        private int nearest(short[] present, int i) {
+            int a = i / size[2] / size[1], b = i / size[2] % size[1], c = i % size[2];
+            int nearest = -1;
+            int minDistance = Integer.MAX_VALUE;
+            for (int j = 0; j < present.length; j++) {
+                if (present[j] < 0)
+                    continue;
+                int da = j / size[2] / size[1] - a, db = j / size[2] % size[1] - b, dc = j % size[2] - c;
+                int distance = da * da + db * db + dc * dc;
+                if (distance < minDistance) {
+                    minDistance = distance;
+                    nearest = j;
+                }
+            }
+            return nearest;
+        }
+    }
+
 
     /***************************************************************************************************
      *
@@ -6439,16 +3410,17 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
         ArrayList<Card> cards = MyGinRummyUtil.bitstringToCards(state.getHand());
 
         ArrayList<DiscardMetric> metrics = new ArrayList<>();
+        // Deadwood after each discard, in the same (increasing id) order as cards
+        int[] deadwoods = new int[cards.size()];
+        MeldSolver.bestDeadwoodAfterEachDiscard(state.getHand(), deadwoods);
         // Check for gin...
-        for (Card discard: cards) {
+        for (int i = 0; i < cards.size(); i++) {
+            Card discard = cards.get(i);
             if (discard.getId() != state.getFaceUp()) {
                 @SuppressWarnings("unchecked")
                 ArrayList<Card> nextHand = (ArrayList<Card>) cards.clone();
                 nextHand.remove(discard);
-                ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = GinRummyUtil.cardsToBestMeldSets(nextHand);
-                int deadwood = bestMeldSets.isEmpty() ? GinRummyUtil.getDeadwoodPoints(nextHand)
-                        : GinRummyUtil.getDeadwoodPoints(bestMeldSets.get(0), nextHand);
-                metrics.add(new DiscardMetric(discard, deadwood, nextHand));
+                metrics.add(new DiscardMetric(discard, deadwoods[i], nextHand));
             }
         }
         metrics.sort((DiscardMetric o1, DiscardMetric o2) -> o1.immediateDeadwood - o2.immediateDeadwood);
@@ -6494,28 +3466,38 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
      * @return
      */
     static int estimateBestDeadwoodAfterDiscard(ArrayList<Card> cards) {
-        ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = GinRummyUtil.cardsToBestMeldSets(cards);
-        HashSet<Card> melded = new HashSet<>();
-        if (!bestMeldSets.isEmpty()) {
-            for (int i = 0; i < bestMeldSets.get(0).size(); i++) {
-                for (int j = 0; j < bestMeldSets.get(0).get(i).size(); j++) {
-                    melded.add(bestMeldSets.get(0).get(i).get(j));
-                }
-            }
-        }
+        return estimateBestDeadwoodAfterDiscard(MyGinRummyUtil.cardsToBitstring(cards));
+    }
+
+    /**
+     * Estimate the deadwood of an 11-card hand, but making melds out of the 11 cards,
+     * and then discarding the highest value deadwood card
+     * @param cards the hand as a bitstring
+     * @return
+     */
+    static int estimateBestDeadwoodAfterDiscard(long cards) {
+        long unmelded = MyGinRummyUtil.removeAll(cards, MeldSolver.bestMeldMask(cards));
         int maxCard = 0;
         int deadwood = 0;
-        for (Card card: cards) {
-            if (!melded.contains(card)) {
-                int d = GinRummyUtil.getDeadwoodPoints(card);
-                deadwood += d;
-                maxCard = Math.max(maxCard, d);
-            }
+        for (; unmelded != 0; unmelded &= unmelded - 1) {
+            int d = MeldSolver.getDeadwoodPoints(Long.lowestOneBit(unmelded));
+            deadwood += d;
+            maxCard = Math.max(maxCard, d);
         }
         return deadwood - maxCard;
 
     }
 
+    /**
+     * Estimate the deadwood of an 11-card hand, but making melds out of the 11 cards,
+     * and then discarding the highest value deadwood card
+     * @param hand the hand as an incrementally updated meld state
+     * @return
+     */
+    static int estimateBestDeadwoodAfterDiscard(MeldState hand) {
+        return hand.bestDeadwood() - hand.maxUnmeldedPoints();
+    }
+
     /**
      * Get metrics that can be used to evaluate all discards
      * @param state the current game state
@@ -6547,15 +3529,15 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
 
         // Estimate ev of deadwood after 1 turn
         for (DiscardMetric dm : metrics) {
+            MeldState hand = new MeldState(MyGinRummyUtil.cardsToBitstring(dm.hand));
             for (int c = 0; c < 52; c++) {
                 long cardBitstring = 1L << c;
                 if ((cardBitstring & state.getUnseen()) != 0) {
-                    Card card = Card.getCard(c);
-                    dm.hand.add(card);
-                    int deadwood = estimateBestDeadwoodAfterDiscard(dm.hand);
+                    hand.push(c);
+                    int deadwood = estimateBestDeadwoodAfterDiscard(hand);
                     dm.deadwood_1.put(deadwood, dm.deadwood_1.getOrDefault(deadwood, 0) + 1);
                     dm.deadwood_1_size++;
-                    dm.hand.remove(dm.hand.size() - 1);
+                    hand.pop();
                 }
             }
         }
@@ -6607,23 +3589,22 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
 
         // Estimate ev of deadwood after 1 turn
         for (DiscardMetric dm : metrics) {
+            MeldState hand = new MeldState(MyGinRummyUtil.cardsToBitstring(dm.hand));
             for (int c = 0; c < 52; c++) {
                 long cardBitstring = 1L << c;
                 if ((cardBitstring & state.getUnseen()) != 0) {
-                    Card card = Card.getCard(c);
-                    dm.hand.add(card);
+                    hand.push(c);
                     for (int c2 = 0; c2 < 52; c2++) {
                         long card2Bitstring = 1L << c2;
                         if ((card2Bitstring & state.getUnseen()) != 0) {
-                            Card card2 = Card.getCard(c2);
-                            dm.hand.add(card2);
-                            int deadwood = estimateBestDeadwoodAfterDiscard(dm.hand);
+                            hand.push(c2);
+                            int deadwood = estimateBestDeadwoodAfterDiscard(hand);
                             dm.deadwood_2.put(deadwood, dm.deadwood_2.getOrDefault(deadwood, 0) + 1);
                             dm.deadwood_2_size++;
-                            dm.hand.remove(dm.hand.size() - 1);
+                            hand.pop();
                         }
                     }
-                    dm.hand.remove(dm.hand.size() - 1);
+                    hand.pop();
                 }
             }
         }
@@ -6858,9 +3839,7 @@ public class GinRummyAndTonic_Player implements GinRummyPlayer {
         synchronized(GinRummyAndTonic_Player.class) {
             ArrayList<DiscardMetric> metrics = getDiscardMetrics(state);
 
-            ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = GinRummyUtil.cardsToBestMeldSets(opponentCards);
-            int oppDeadwood = bestMeldSets.isEmpty() ? GinRummyUtil.getDeadwoodPoints(opponentCards)
-                    : GinRummyUtil.getDeadwoodPoints(bestMeldSets.get(0), opponentCards);
+            int oppDeadwood = MeldSolver.bestDeadwood(GinRummyUtil.cardsToBitstring(opponentCards));
 
             for (DiscardMetric dm: metrics) {
                 double oppEv = dm.getExpectedOpponentImprovement(state);
@@ -1,5 +1,4 @@
 import java.util.ArrayList;
-import java.util.Random;
 import java.util.Stack;
 
 
@@ -30,12 +29,6 @@ Software Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA
  */
 public class GinRummyGame {
 
-	/**
-	 * Random number generator
-	 *
-	 */
-	private static final Random RANDOM = new Random();
-
 	/**
 	 * Hand size (before and after turn). After draw and before discard there is one extra card.
 	 */
@@ -78,14 +71,14 @@ public class GinRummyGame {
 		ArrayList<ArrayList<Card>> hands = new ArrayList<ArrayList<Card>>();
 		hands.add(new ArrayList<Card>());
 		hands.add(new ArrayList<Card>());
-		int startingPlayer = RANDOM.nextInt(2);
+		int startingPlayer = RandomStreams.current().nextInt(2);
 
 		while (scores[0] < GinRummyUtil.GOAL_SCORE && scores[1] < GinRummyUtil.GOAL_SCORE) { // while game not over
 			int currentPlayer = startingPlayer;
 			int opponent = (currentPlayer == 0) ? 1 : 0;
 
 			// get shuffled deck and deal cards
-			Stack<Card> deck = Card.getShuffle(RANDOM.nextInt());
+			Stack<Card> deck = Card.getShuffle(RandomStreams.current().nextInt());
 			hands.get(0).clear();
 			hands.get(1).clear();
 			for (int i = 0; i < 2 * HAND_SIZE; i++)
@@ -175,9 +168,11 @@ public class GinRummyGame {
 				// check legality of knocking meld
 				long handBitstring = GinRummyUtil.cardsToBitstring(hands.get(currentPlayer));
 				long unmelded = handBitstring;
-				for (ArrayList<Card> meld : knockMelds) {
-					long meldBitstring = GinRummyUtil.cardsToBitstring(meld);
-					if (!GinRummyUtil.getAllMeldBitstrings().contains(meldBitstring) // non-meld ...
+				long[] knockMeldBitstrings = new long[knockMelds.size()];
+				for (int i = 0; i < knockMelds.size(); i++) {
+					long meldBitstring = GinRummyUtil.cardsToBitstring(knockMelds.get(i));
+					knockMeldBitstrings[i] = meldBitstring;
+					if (!GinRummyUtil.isMeld(meldBitstring) // non-meld ...
 							|| (meldBitstring & unmelded) != meldBitstring) { // ... or meld not in hand
 						if (playVerbose)
 							System.out.printf("Player %d melds %s illegally and forfeits.\n", currentPlayer, knockMelds);
@@ -186,7 +181,7 @@ public class GinRummyGame {
 					unmelded &= ~meldBitstring; // remove successfully melded cards from
 				}
 				// compute knocking deadwood
-				int knockingDeadwood = GinRummyUtil.getDeadwoodPoints(knockMelds, hands.get(currentPlayer));
+				int knockingDeadwood = MeldSolver.getDeadwoodPoints(unmelded);
 				if (knockingDeadwood > GinRummyUtil.MAX_DEADWOOD) {
 					if (playVerbose)
 						System.out.printf("Player %d melds %s with greater than %d deadwood and forfeits.\n", currentPlayer, knockMelds, knockingDeadwood);
@@ -217,7 +212,7 @@ public class GinRummyGame {
 				long opponentUnmelded = opponentHandBitstring;
 				for (ArrayList<Card> meld : opponentMelds) {
 					long meldBitstring = GinRummyUtil.cardsToBitstring(meld);
-					if (!GinRummyUtil.getAllMeldBitstrings().contains(meldBitstring) // non-meld ...
+					if (!GinRummyUtil.isMeld(meldBitstring) // non-meld ...
 							|| (meldBitstring & opponentUnmelded) != meldBitstring) { // ... or meld not in hand
 						if (playVerbose)
 							System.out.printf("Player %d melds %s illegally and forfeits.\n", opponent, opponentMelds);
@@ -229,41 +224,17 @@ public class GinRummyGame {
 					System.out.printf("Player %d melds %s.\n", opponent, opponentMelds);
 
 				// lay off on knocking meld (if not gin)
-				ArrayList<Card> unmeldedCards = GinRummyUtil.bitstringToCards(opponentUnmelded);
 				if (knockingDeadwood > 0) { // knocking player didn't go gin
-					boolean cardWasLaidOff;
-					do { // attempt to lay each card off
-						cardWasLaidOff = false;
-						Card layOffCard = null;
-						ArrayList<Card> layOffMeld = null;
-						for (Card card : unmeldedCards) {
-							for (ArrayList<Card> meld : knockMelds) {
-								ArrayList<Card> newMeld = (ArrayList<Card>) meld.clone();
-								newMeld.add(card);
-								long newMeldBitstring = GinRummyUtil.cardsToBitstring(newMeld);
-								if (GinRummyUtil.getAllMeldBitstrings().contains(newMeldBitstring)) {
-									layOffCard = card;
-									layOffMeld = meld;
-									break;
-								}
-							}
-							if (layOffCard != null) {
-								if (playVerbose)
-									System.out.printf("Player %d lays off %s on %s.\n", opponent, layOffCard, layOffMeld);
-								unmeldedCards.remove(layOffCard);
-								layOffMeld.add(layOffCard);
-								cardWasLaidOff = true;
-								break;
-							}
-
-						}
-					} while (cardWasLaidOff);
+					long[] layOffMelds = knockMeldBitstrings.clone();
+					opponentUnmelded = GinRummyUtil.layOff(layOffMelds, opponentUnmelded);
+					if (playVerbose)
+						for (int i = 0; i < layOffMelds.length; i++)
+							for (Card layOffCard : GinRummyUtil.bitstringToCards(layOffMelds[i] & ~knockMeldBitstrings[i]))
+								System.out.printf("Player %d lays off %s on %s.\n", opponent, layOffCard, knockMelds.get(i));
 				}
-				int opponentDeadwood = 0;
-				for (Card card : unmeldedCards)
-					opponentDeadwood += GinRummyUtil.getDeadwoodPoints(card);
+				int opponentDeadwood = MeldSolver.getDeadwoodPoints(opponentUnmelded);
 				if (playVerbose)
-					System.out.printf("Player %d has %d deadwood with %s\n", opponent, opponentDeadwood, unmeldedCards);
+					System.out.printf("Player %d has %d deadwood with %s\n", opponent, opponentDeadwood, GinRummyUtil.bitstringToCards(opponentUnmelded));
 
 				// compare deadwood and compute new scores
 				if (knockingDeadwood == 0) { // gin round win
@@ -305,6 +276,8 @@ public class GinRummyGame {
 	 * @param args (unused)
 	 */
 	public static void main(String[] args) {
+		// an optional master seed makes the games reproducible
+		if (args.length >= 1) RandomStreams.setMasterSeed(Long.parseLong(args[0]));
 
 		GinRummyPlayer p1;
 
@@ -2,8 +2,6 @@
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
-import java.util.Queue;
 import java.util.Set;
 
 /**
@@ -73,6 +71,22 @@ public class GinRummyUtil {
 	 * Map from meld bitstrings to corresponding lists of cards
 	 */
 	private static HashMap<Long, ArrayList<Card>> meldBitstringToCardsMap;
+	/**
+	 * meldBitstrings as primitive arrays, for the allocation-free meld set visitors
+	 */
+	private static long[][] meldBitstringArrays;
+	/**
+	 * The most pairwise disjoint melds that fit in a deck
+	 */
+	private static final int MAX_MELDS_PER_SET = Card.NUM_CARDS / 3;
+	/**
+	 * Card set bitstring of the whole deck
+	 */
+	private static final long ALL_CARDS_BITSTRING = (1L << Card.NUM_CARDS) - 1;
+	/**
+	 * Card set bitstring of the aces; shifted left by a rank it selects all cards of that rank
+	 */
+	private static final long ALL_RANK_BITSTRING = 1L | 1L << Card.NUM_RANKS | 1L << 2 * Card.NUM_RANKS | 1L << 3 * Card.NUM_RANKS;
 
 	static {
 		// initialize DEADWOOD_POINTS
@@ -130,6 +144,13 @@ public class GinRummyUtil {
 				meldBitstrings.add(bitstringList);
 			}
 		}
+
+		meldBitstringArrays = new long[meldBitstrings.size()][];
+		for (int i = 0; i < meldBitstrings.size(); i++) {
+			meldBitstringArrays[i] = new long[meldBitstrings.get(i).size()];
+			for (int j = 0; j < meldBitstringArrays[i].length; j++)
+				meldBitstringArrays[i][j] = meldBitstrings.get(i).get(j);
+		}
 	}
 	
 	/**
@@ -196,47 +217,97 @@ public class GinRummyUtil {
 	 */
 	public static ArrayList<ArrayList<ArrayList<Card>>> cardsToAllMaximalMeldSets(ArrayList<Card> cards) {
 		ArrayList<ArrayList<ArrayList<Card>>> maximalMeldSets = new ArrayList<ArrayList<ArrayList<Card>>>();
-		ArrayList<Long> meldBitstrings = cardsToAllMeldBitstrings(cards);
-		HashSet<HashSet<Integer>> closed = new HashSet<HashSet<Integer>>();
-		Queue<HashSet<Integer>> queue = new LinkedList<HashSet<Integer>>();
-		HashSet<Integer> allIndices = new HashSet<Integer>();
-		for (int i = 0; i < meldBitstrings.size(); i++) { 
-			HashSet<Integer> meldIndexSet = new HashSet<Integer>();
-			meldIndexSet.add(i);
-			allIndices.add(i);
-			queue.add(meldIndexSet);
-		}
-		while (!queue.isEmpty()) {
-			HashSet<Integer> meldIndexSet = queue.poll();
-//			System.out.println(meldSet);
-			if (closed.contains(meldIndexSet))
+		visitMaximalMeldSets(cardsToBitstring(cards), (melds, numMelds) -> maximalMeldSets.add(meldSetToCards(melds, numMelds)));
+		return maximalMeldSets;
+	}
+	
+	/**
+	 * Stream all meld sets to which another meld cannot be added (see cardsToAllMaximalMeldSets) to a visitor,
+	 * each as an array of meld bitstrings.  Nothing is allocated per meld set.
+	 * @param cards card set bitstring
+	 * @param visitor receives each maximal meld set, and may stop the enumeration by returning false
+	 * @return false if the visitor stopped the enumeration, true otherwise
+	 */
+	public static boolean visitMaximalMeldSets(long cards, MeldSetVisitor visitor) {
+		int numMelds = 0;
+		for (long[] meldBitstringList : meldBitstringArrays)
+			for (long meldBitstring : meldBitstringList)
+				if ((meldBitstring & cards) == meldBitstring)
+					numMelds++;
+				else
+					break;
+		if (numMelds == 0)
+			return true;
+
+		long[] melds = new long[numMelds];
+		numMelds = 0;
+		for (long[] meldBitstringList : meldBitstringArrays)
+			for (long meldBitstring : meldBitstringList)
+				if ((meldBitstring & cards) == meldBitstring)
+					melds[numMelds++] = meldBitstring;
+				else
+					break;
+		return visitMaximalMeldSets(melds, 0, 0L, new long[MAX_MELDS_PER_SET], 0, visitor);
+	}
+	
+	/**
+	 * Extend a set of disjoint melds with melds of increasing index, so that each set is reached exactly once,
+	 * and visit it if no meld at all can be added.
+	 * @param melds all melds of the hand
+	 * @param start index of the first meld that may be added
+	 * @param meldSetBitstring cards used by the melds of the set
+	 * @param meldSet melds of the set
+	 * @param numMelds number of melds in the set
+	 * @param visitor receives each maximal meld set
+	 * @return false if the visitor stopped the enumeration, true otherwise
+	 */
+	private static boolean visitMaximalMeldSets(long[] melds, int start, long meldSetBitstring, long[] meldSet, int numMelds, MeldSetVisitor visitor) {
+		boolean isMaximal = true;
+		for (int i = 0; i < melds.length; i++) {
+			if ((melds[i] & meldSetBitstring) != 0)
 				continue;
-			long meldSetBitstring = 0L;
-			for (int meldIndex : meldIndexSet)
-				meldSetBitstring |= meldBitstrings.get(meldIndex);
-			closed.add(meldIndexSet);
-			boolean isMaximal = true;
-			for (int i = 0; i < meldBitstrings.size(); i++) { 
-				if (meldIndexSet.contains(i))
-					continue;
-				long meldBitstring = meldBitstrings.get(i);
-				if ((meldSetBitstring & meldBitstring) == 0) { // meld has no overlap with melds in set
-					isMaximal = false;
-					HashSet<Integer> newMeldIndexSet = (HashSet<Integer>) meldIndexSet.clone();
-					newMeldIndexSet.add(i);
-					queue.add(newMeldIndexSet);
-				}
-			}
-			if (isMaximal) {
-				ArrayList<ArrayList<Card>> cardSets = new ArrayList<ArrayList<Card>>();
-				for (int meldIndex : meldIndexSet) {
-					long meldBitstring  = meldBitstrings.get(meldIndex);
-					cardSets.add(bitstringToCards(meldBitstring));
-				}
-				maximalMeldSets.add(cardSets);
+			isMaximal = false; // meld has no overlap with melds in set
+			if (i >= start) {
+				meldSet[numMelds] = melds[i];
+				if (!visitMaximalMeldSets(melds, i + 1, meldSetBitstring | melds[i], meldSet, numMelds + 1, visitor))
+					return false;
 			}
 		}
-		return maximalMeldSets;
+		return !isMaximal || visitor.visit(meldSet, numMelds);
+	}
+	
+	/**
+	 * Stream the meld sets that leave a minimal deadwood count (see cardsToBestMeldSets) to a visitor, each as an
+	 * array of meld bitstrings.  Nothing is allocated per meld set.
+	 * @param cards card set bitstring
+	 * @param visitor receives each best meld set, and may stop the enumeration by returning false
+	 * @return false if the visitor stopped the enumeration, true otherwise
+	 */
+	public static boolean visitBestMeldSets(long cards, MeldSetVisitor visitor) {
+		// the table-driven solver gives the minimum up front, so hands without melds skip the enumeration
+		long bestMeldMask = MeldSolver.bestMeldMask(cards);
+		if (bestMeldMask == 0L)
+			return true;
+		int maxMeldedPoints = MeldSolver.getDeadwoodPoints(bestMeldMask);
+		return visitMaximalMeldSets(cards, (melds, numMelds) -> {
+			long meldSetBitstring = 0L;
+			for (int i = 0; i < numMelds; i++)
+				meldSetBitstring |= melds[i];
+			return MeldSolver.getDeadwoodPoints(meldSetBitstring) != maxMeldedPoints || visitor.visit(melds, numMelds);
+		});
+	}
+	
+	/**
+	 * Given meld bitstrings, return the corresponding lists of cards
+	 * @param melds meld bitstrings
+	 * @param numMelds the number of melds to convert, starting from melds[0]
+	 * @return a list of the melds as lists of cards
+	 */
+	public static ArrayList<ArrayList<Card>> meldSetToCards(long[] melds, int numMelds) {
+		ArrayList<ArrayList<Card>> cardSets = new ArrayList<ArrayList<Card>>();
+		for (int i = 0; i < numMelds; i++)
+			cardSets.add(bitstringToCards(melds[i]));
+		return cardSets;
 	}
 	
 	/**
@@ -285,19 +356,8 @@ public class GinRummyUtil {
 	 */
 	// Note: This is actually a "weighted maximum coverage problem". See https://en.wikipedia.org/wiki/Maximum_coverage_problem
 	public static ArrayList<ArrayList<ArrayList<Card>>> cardsToBestMeldSets(ArrayList<Card> cards) {
-		int minDeadwoodPoints = Integer.MAX_VALUE;
-		ArrayList<ArrayList<ArrayList<Card>>> maximalMeldSets = cardsToAllMaximalMeldSets(cards);
 		ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = new ArrayList<ArrayList<ArrayList<Card>>>();
-		for (ArrayList<ArrayList<Card>> melds : maximalMeldSets) {
-			int deadwoodPoints = getDeadwoodPoints(melds, cards);
-			if (deadwoodPoints <= minDeadwoodPoints) {
-				if (deadwoodPoints < minDeadwoodPoints) {
-					minDeadwoodPoints = deadwoodPoints;
-					bestMeldSets.clear();
-				}
-				bestMeldSets.add(melds);
-			}
-		}
+		visitBestMeldSets(cardsToBitstring(cards), (melds, numMelds) -> bestMeldSets.add(meldSetToCards(melds, numMelds)));
 		return bestMeldSets;
 	}
 	
@@ -309,4 +369,83 @@ public class GinRummyUtil {
 		return meldBitstringToCardsMap.keySet();
 	}
 	
+	/**
+	 * Return whether a card set bitstring is a meld, i.e. three or four cards of one rank, or three or more cards
+	 * of consecutive ranks in one suit.  Unlike a lookup in getAllMeldBitstrings, nothing is boxed or hashed.
+	 * @param bitstring card set bitstring
+	 * @return true if the cards form a meld
+	 */
+	public static boolean isMeld(long bitstring) {
+		if ((bitstring & ~ALL_CARDS_BITSTRING) != 0 || Long.bitCount(bitstring) < 3)
+			return false;
+		int lowest = Long.numberOfTrailingZeros(bitstring);
+		if ((bitstring & ~(ALL_RANK_BITSTRING << lowest % Card.NUM_RANKS)) == 0) // set
+			return true;
+		long run = bitstring >>> lowest; // run: consecutive ranks not wrapping into the next suit
+		return (run & (run + 1)) == 0 && lowest % Card.NUM_RANKS + Long.bitCount(bitstring) <= Card.NUM_RANKS;
+	}
+	
+	/**
+	 * Return whether meld bitstrings form a legal set of melds for a hand: every one a meld, pairwise disjoint
+	 * and all within the hand.
+	 * @param melds meld bitstrings
+	 * @param hand card set bitstring of the hand
+	 * @return true if the melds can be laid down from hand
+	 */
+	public static boolean isLegalMeldSet(long[] melds, long hand) {
+		for (long meld : melds) {
+			if (!isMeld(meld) || (meld & hand) != meld)
+				return false;
+			hand &= ~meld;
+		}
+		return true;
+	}
+	
+	/**
+	 * Given a meld bitstring, return the bitstring of the cards that could be laid off on it: the missing card of
+	 * a three card set, or the cards just below and above a run.
+	 * @param meldBitstring meld bitstring
+	 * @return the bitstring of the cards that would extend the meld to a larger meld
+	 */
+	public static long getLayoffBitstring(long meldBitstring) {
+		int lowest = Long.numberOfTrailingZeros(meldBitstring);
+		int highest = 63 - Long.numberOfLeadingZeros(meldBitstring);
+		int lowestRank = lowest % Card.NUM_RANKS;
+		if (lowestRank == Long.numberOfTrailingZeros(meldBitstring & (meldBitstring - 1)) % Card.NUM_RANKS) // set
+			return (ALL_RANK_BITSTRING << lowestRank) & ~meldBitstring;
+		long layoffBitstring = 0L; // run
+		if (lowestRank > 0)
+			layoffBitstring |= cardBitstrings[lowest - 1];
+		if (highest % Card.NUM_RANKS < Card.NUM_RANKS - 1)
+			layoffBitstring |= cardBitstrings[highest + 1];
+		return layoffBitstring;
+	}
+	
+	/**
+	 * Lay off unmelded cards on a knocking player's melds as the rules allow, repeatedly laying off the lowest
+	 * card that extends a meld onto the first meld it extends, until no card can be laid off.
+	 * @param melds meld bitstrings of the knocking player, extended in place by the laid off cards
+	 * @param unmelded card set bitstring of the opponent's unmelded cards
+	 * @return the card set bitstring of the cards that could not be laid off
+	 */
+	public static long layOff(long[] melds, long unmelded) {
+		long layoffBitstring = 0L;
+		for (long meld : melds)
+			layoffBitstring |= getLayoffBitstring(meld);
+		while ((unmelded & layoffBitstring) != 0) {
+			long card = Long.lowestOneBit(unmelded & layoffBitstring);
+			unmelded &= ~card;
+			layoffBitstring = 0L;
+			boolean laidOff = false;
+			for (int i = 0; i < melds.length; i++) {
+				if (!laidOff && (getLayoffBitstring(melds[i]) & card) != 0) {
+					melds[i] |= card;
+					laidOff = true;
+				}
+				layoffBitstring |= getLayoffBitstring(melds[i]);
+			}
+		}
+		return unmelded;
+	}
+	
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A table of doubles or longs indexed by infoset and action id (see Strategy).  The entries are kept in chunks
+ * of at most CHUNK_ENTRIES (1 GB), so a table is not limited to the 2 GB of a single buffer.  The chunks are
+ * arrays on the heap, direct buffers outside it, or regions of a file mapped into memory (see
+ * Strategy.TableStorage).  Entries are only read and written at absolute indices.
+ */
+public abstract class InfosetTable {
+	public static final int ENTRY_BYTES = 8;
+	private static final int CHUNK_SHIFT = 27;
+	public static final int CHUNK_ENTRIES = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_MASK = CHUNK_ENTRIES - 1;
+
+	private final int size;
+	private final ByteBuffer[] buffers; // the chunks outside the heap, or null
+
+	private InfosetTable(int size, ByteBuffer[] buffers) {
+		this.size = size;
+		this.buffers = buffers;
+	}
+
+	/**
+	 * @return the number of entries
+	 */
+	public final int size() {
+		return size;
+	}
+
+	/**
+	 * @return the bytes a table of size entries takes
+	 */
+	public static long bytes(int size) {
+		return (long) size * ENTRY_BYTES;
+	}
+
+	/**
+	 * Write the changes to a mapped table out to its file
+	 */
+	public final void force() {
+		if (buffers == null) return;
+		for (ByteBuffer buffer : buffers) {
+			if (buffer instanceof MappedByteBuffer) ((MappedByteBuffer) buffer).force();
+		}
+	}
+
+	/**
+	 * Write the entries to a buffer, advancing its position
+	 */
+	public abstract void write(ByteBuffer buffer);
+
+	/**
+	 * Read the entries written by write, advancing the position of buffer
+	 */
+	public abstract void read(ByteBuffer buffer);
+
+	/**
+	 * @return the number of chunks of a table of size entries
+	 */
+	private static int numChunks(int size) {
+		return (int) (((long) size + CHUNK_MASK) >>> CHUNK_SHIFT);
+	}
+
+	/**
+	 * @return the number of entries of chunk c of a table of size entries
+	 */
+	private static int chunkEntries(int size, int c) {
+		return Math.min(CHUNK_ENTRIES, size - (c << CHUNK_SHIFT));
+	}
+
+	/**
+	 * @return the chunks of a table of size entries in direct buffers
+	 */
+	private static ByteBuffer[] allocateDirect(int size) {
+		ByteBuffer[] buffers = new ByteBuffer[numChunks(size)];
+		for (int c = 0; c < buffers.length; c++) {
+			buffers[c] = ByteBuffer.allocateDirect(chunkEntries(size, c) * ENTRY_BYTES).order(ByteOrder.nativeOrder());
+		}
+		return buffers;
+	}
+
+	/**
+	 * @return the chunks of a table of size entries mapped from a file, starting at offset
+	 */
+	private static ByteBuffer[] map(int size, FileChannel file, long offset) throws IOException {
+		ByteBuffer[] buffers = new ByteBuffer[numChunks(size)];
+		for (int c = 0; c < buffers.length; c++) {
+			long position = offset + bytes(c << CHUNK_SHIFT);
+			buffers[c] = file.map(FileChannel.MapMode.READ_WRITE, position, bytes(chunkEntries(size, c))).order(ByteOrder.nativeOrder());
+		}
+		return buffers;
+	}
+
+	/**
+	 * @return count bytes of buffer from its position, in its byte order
+	 */
+	private static ByteBuffer slice(ByteBuffer buffer, int count) {
+		ByteBuffer slice = buffer.duplicate();
+		slice.limit(slice.position() + count);
+		return slice.slice().order(buffer.order());
+	}
+
+	/**
+	 * A table of doubles
+	 */
+	public static final class Doubles extends InfosetTable {
+		private final DoubleBuffer[] chunks;
+
+		private Doubles(int size, ByteBuffer[] buffers) {
+			super(size, buffers);
+			chunks = new DoubleBuffer[numChunks(size)];
+			for (int c = 0; c < chunks.length; c++) {
+				chunks[c] = buffers == null ? DoubleBuffer.wrap(new double[chunkEntries(size, c)]) : buffers[c].asDoubleBuffer();
+			}
+		}
+
+		/**
+		 * @param direct whether to keep the table outside the heap
+		 * @return a table of zeros
+		 */
+		public static Doubles allocate(int size, boolean direct) {
+			return new Doubles(size, direct ? allocateDirect(size) : null);
+		}
+
+		/**
+		 * @return a table of size entries mapped from a file, starting at offset, holding what the file does
+		 */
+		public static Doubles map(int size, FileChannel file, long offset) throws IOException {
+			return new Doubles(size, InfosetTable.map(size, file, offset));
+		}
+
+		public double get(int id) {
+			return chunks[id >>> CHUNK_SHIFT].get(id & CHUNK_MASK);
+		}
+
+		public void put(int id, double value) {
+			chunks[id >>> CHUNK_SHIFT].put(id & CHUNK_MASK, value);
+		}
+
+		/**
+		 * Copy the entries of a table of the same size
+		 */
+		public void copyFrom(Doubles other) {
+			for (int c = 0; c < chunks.length; c++) {
+				chunks[c].duplicate().put(other.chunks[c].duplicate());
+			}
+		}
+
+		@Override
+		public void write(ByteBuffer buffer) {
+			for (DoubleBuffer chunk : chunks) {
+				buffer.asDoubleBuffer().put(chunk.duplicate());
+				buffer.position(buffer.position() + chunk.capacity() * Double.BYTES);
+			}
+		}
+
+		@Override
+		public void read(ByteBuffer buffer) {
+			for (DoubleBuffer chunk : chunks) {
+				chunk.duplicate().put(slice(buffer, chunk.capacity() * Double.BYTES).asDoubleBuffer());
+				buffer.position(buffer.position() + chunk.capacity() * Double.BYTES);
+			}
+		}
+	}
+
+	/**
+	 * A table of longs
+	 */
+	public static final class Longs extends InfosetTable {
+		private final LongBuffer[] chunks;
+
+		private Longs(int size, ByteBuffer[] buffers) {
+			super(size, buffers);
+			chunks = new LongBuffer[numChunks(size)];
+			for (int c = 0; c < chunks.length; c++) {
+				chunks[c] = buffers == null ? LongBuffer.wrap(new long[chunkEntries(size, c)]) : buffers[c].asLongBuffer();
+			}
+		}
+
+		/**
+		 * @param direct whether to keep the table outside the heap
+		 * @return a table of zeros
+		 */
+		public static Longs allocate(int size, boolean direct) {
+			return new Longs(size, direct ? allocateDirect(size) : null);
+		}
+
+		/**
+		 * @return a table of size entries mapped from a file, starting at offset, holding what the file does
+		 */
+		public static Longs map(int size, FileChannel file, long offset) throws IOException {
+			return new Longs(size, InfosetTable.map(size, file, offset));
+		}
+
+		public long get(int id) {
+			return chunks[id >>> CHUNK_SHIFT].get(id & CHUNK_MASK);
+		}
+
+		public void put(int id, long value) {
+			chunks[id >>> CHUNK_SHIFT].put(id & CHUNK_MASK, value);
+		}
+
+		/**
+		 * Copy the entries of a table of the same size
+		 */
+		public void copyFrom(Longs other) {
+			for (int c = 0; c < chunks.length; c++) {
+				chunks[c].duplicate().put(other.chunks[c].duplicate());
+			}
+		}
+
+		@Override
+		public void write(ByteBuffer buffer) {
+			for (LongBuffer chunk : chunks) {
+				buffer.asLongBuffer().put(chunk.duplicate());
+				buffer.position(buffer.position() + chunk.capacity() * Long.BYTES);
+			}
+		}
+
+		@Override
+		public void read(ByteBuffer buffer) {
+			for (LongBuffer chunk : chunks) {
+				chunk.duplicate().put(slice(buffer, chunk.capacity() * Long.BYTES).asLongBuffer());
+				buffer.position(buffer.position() + chunk.capacity() * Long.BYTES);
+			}
+		}
+	}
+}
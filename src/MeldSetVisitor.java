@@ -0,0 +1,13 @@
+/**
+ * Receives meld sets one at a time from GinRummyUtil.visitMaximalMeldSets and GinRummyUtil.visitBestMeldSets,
+ * so that callers scanning the meld sets of a hand need not materialize them as lists of cards.
+ */
+public interface MeldSetVisitor {
+	/**
+	 * @param melds meld bitstrings of the meld set in melds[0] to melds[numMelds - 1].  The array is reused
+	 *              for the next meld set, so copy what must be kept.
+	 * @param numMelds the number of melds in the meld set
+	 * @return true to continue with the next meld set, false to stop
+	 */
+	boolean visit(long[] melds, int numMelds);
+}
@@ -0,0 +1,250 @@
+/**
+ * Allocation-free meld solver over card set bitstrings (bit i set if the card with id i is present, as in
+ * GinRummyUtil).  Runs only ever live inside one suit and sets only span one rank, so the search is split:
+ * <ul>
+ * <li>an 8192-entry table, indexed by the 13-bit rank pattern of a suit, holds the best run-only coverage of
+ * that suit,</li>
+ * <li>only the set choices for ranks with three or more cards are enumerated, and each choice is completed by
+ * four table lookups.</li>
+ * </ul>
+ * Results are packed into a single long so that nothing is allocated per call: the best meld mask lives in
+ * the low 52 bits and the deadwood in the high bits.
+ */
+public class MeldSolver {
+	/**
+	 * Bit position of the deadwood points in a packed solution
+	 */
+	static final int DEADWOOD_SHIFT = Card.NUM_CARDS;
+	/**
+	 * Mask selecting the meld bitstring of a packed solution
+	 */
+	static final long CARDS_MASK = (1L << Card.NUM_CARDS) - 1;
+	/**
+	 * Mask selecting one suit's worth of bits (one bit per rank)
+	 */
+	static final int SUIT_MASK = (1 << Card.NUM_RANKS) - 1;
+	/**
+	 * Bitstring of the four aces; shifted left by r it selects the cards of rank r
+	 */
+	private static final long RANK_MASK = 1L | 1L << Card.NUM_RANKS | 1L << 2 * Card.NUM_RANKS | 1L << 3 * Card.NUM_RANKS;
+	/**
+	 * Deadwood points indexed by card id
+	 */
+	static final int[] CARD_POINTS = new int[Card.NUM_CARDS];
+	/**
+	 * Minimum deadwood of a single suit using runs only, indexed by the suit's rank pattern
+	 */
+	static final byte[] RUN_DEADWOOD = new byte[1 << Card.NUM_RANKS];
+	/**
+	 * Ranks covered by the runs achieving RUN_DEADWOOD, indexed by the suit's rank pattern
+	 */
+	static final short[] RUN_MELDED = new short[1 << Card.NUM_RANKS];
+
+	static {
+		for (int id = 0; id < Card.NUM_CARDS; id++)
+			CARD_POINTS[id] = GinRummyUtil.getDeadwoodPoints(Card.getCard(id));
+
+		// every smaller pattern is solved before it is needed, so fill the run tables in increasing order
+		for (int pattern = 1; pattern <= SUIT_MASK; pattern++) {
+			int rank = Integer.numberOfTrailingZeros(pattern);
+
+			// the lowest rank is deadwood ...
+			int rest = pattern & (pattern - 1);
+			int bestDeadwood = CARD_POINTS[rank] + RUN_DEADWOOD[rest];
+			int bestMelded = RUN_MELDED[rest];
+
+			// ... or starts a run of three or more
+			int run = 1 << rank;
+			for (int top = rank + 1; top < Card.NUM_RANKS && (pattern & (1 << top)) != 0; top++) {
+				run |= 1 << top;
+				if (top - rank >= 2 && RUN_DEADWOOD[pattern & ~run] < bestDeadwood) {
+					bestDeadwood = RUN_DEADWOOD[pattern & ~run];
+					bestMelded = run | RUN_MELDED[pattern & ~run];
+				}
+			}
+			RUN_DEADWOOD[pattern] = (byte) bestDeadwood;
+			RUN_MELDED[pattern] = (short) bestMelded;
+		}
+	}
+
+	/**
+	 * Return the deadwood points for a set of cards, ignoring melds
+	 *
+	 * @param cards card set bitstring
+	 * @return the sum of the deadwood points of the cards
+	 */
+	public static int getDeadwoodPoints(long cards) {
+		int points = 0;
+		while (cards != 0) {
+			points += CARD_POINTS[Long.numberOfTrailingZeros(cards)];
+			cards &= cards - 1;
+		}
+		return points;
+	}
+
+	/**
+	 * Return deadwood points after making best melds
+	 *
+	 * @param hand card set bitstring of the hand
+	 * @return the minimum deadwood points
+	 */
+	public static int bestDeadwood(long hand) {
+		return (int) (solve(hand) >>> DEADWOOD_SHIFT);
+	}
+
+	/**
+	 * Return the cards melded in one of the meld configurations leaving minimum deadwood
+	 *
+	 * @param hand card set bitstring of the hand
+	 * @return bitstring of the melded cards (0 if no meld can be made)
+	 */
+	public static long bestMeldMask(long hand) {
+		return solve(hand) & CARDS_MASK;
+	}
+
+	/**
+	 * Return the minimum deadwood reachable by discarding one of the given cards, e.g. from an 11-card hand.
+	 * All discards are evaluated in one search that shares the set enumeration between them.
+	 *
+	 * @param hand card set bitstring of the hand
+	 * @param discards bitstring of the cards that may be discarded (a subset of hand)
+	 * @return the minimum deadwood after discarding, or Integer.MAX_VALUE if discards is empty
+	 */
+	public static int bestDeadwoodAfterDiscard(long hand, long discards) {
+		return solveDiscards(hand, discards & hand, setRanks(hand), 0L, null, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Return the deadwood left by every possible discard of a hand, e.g. of an 11-card hand.
+	 * All discards are evaluated in one search that shares the set enumeration between them.
+	 *
+	 * @param hand card set bitstring of the hand
+	 * @param deadwood filled so that deadwood[i] is the minimum deadwood after discarding the i-th card of hand
+	 *                 in increasing id order (the order of GinRummyUtil.bitstringToCards); must hold at least as
+	 *                 many entries as there are cards in hand
+	 * @return the minimum deadwood over all discards
+	 */
+	public static int bestDeadwoodAfterEachDiscard(long hand, int[] deadwood) {
+		if (deadwood.length < Long.bitCount(hand))
+			throw new IllegalArgumentException("Expected room for " + Long.bitCount(hand) + " discards, received " + deadwood.length);
+		for (int i = 0; i < deadwood.length; i++)
+			deadwood[i] = Integer.MAX_VALUE;
+		return solveDiscards(hand, hand, setRanks(hand), 0L, deadwood, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Return a bitstring with bit r set for every rank r held in at least three suits
+	 *
+	 * @param hand card set bitstring
+	 * @return the ranks for which a set meld can be made
+	 */
+	static int setRanks(long hand) {
+		int s0 = (int) hand & SUIT_MASK;
+		int s1 = (int) (hand >>> Card.NUM_RANKS) & SUIT_MASK;
+		int s2 = (int) (hand >>> 2 * Card.NUM_RANKS) & SUIT_MASK;
+		int s3 = (int) (hand >>> 3 * Card.NUM_RANKS) & SUIT_MASK;
+		return (s0 & s1 & (s2 | s3)) | (s2 & s3 & (s0 | s1));
+	}
+
+	/**
+	 * Return the best run-only solution for a hand, treating each suit independently
+	 *
+	 * @param hand card set bitstring
+	 * @return packed (deadwood, meld mask)
+	 */
+	static long solveRuns(long hand) {
+		long deadwood = 0;
+		long melded = 0;
+		for (int suit = 0; suit < Card.NUM_SUITS; suit++) {
+			int pattern = (int) (hand >>> suit * Card.NUM_RANKS) & SUIT_MASK;
+			deadwood += RUN_DEADWOOD[pattern];
+			melded |= (long) RUN_MELDED[pattern] << suit * Card.NUM_RANKS;
+		}
+		return (deadwood << DEADWOOD_SHIFT) | melded;
+	}
+
+	/**
+	 * Find the best melds for a hand
+	 *
+	 * @param hand card set bitstring
+	 * @return packed (deadwood, meld mask) of a best solution
+	 */
+	static long solve(long hand) {
+		int setRanks = setRanks(hand);
+		if (setRanks == 0)
+			return solveRuns(hand);
+		return solveSets(hand, setRanks, 0L);
+	}
+
+	/**
+	 * Enumerate the set choices for the remaining set ranks, completing each choice with the run tables
+	 *
+	 * @param hand card set bitstring
+	 * @param setRanks ranks still to decide, each held in at least three suits
+	 * @param sets cards already committed to sets
+	 * @return packed (deadwood, meld mask) of the best completion
+	 */
+	private static long solveSets(long hand, int setRanks, long sets) {
+		if (setRanks == 0) {
+			long runs = solveRuns(hand & ~sets);
+			return runs | sets;
+		}
+		int rank = Integer.numberOfTrailingZeros(setRanks);
+		setRanks &= setRanks - 1;
+
+		// no set of this rank
+		long best = solveSets(hand, setRanks, sets);
+
+		long rankCards = hand & (RANK_MASK << rank);
+		// all held cards of the rank (three or four)
+		best = Math.min(best, solveSets(hand, setRanks, sets | rankCards));
+		// every three-card subset of a four-card set
+		if (Long.bitCount(rankCards) == 4)
+			for (long rest = rankCards; rest != 0; rest &= rest - 1)
+				best = Math.min(best, solveSets(hand, setRanks, sets | (rankCards & ~Long.lowestOneBit(rest))));
+		return best;
+	}
+
+	/**
+	 * Enumerate the set choices of a hand once and, for each choice, evaluate every discard outside the chosen
+	 * sets by patching the run table lookup of the discard's suit.  Set choices of the hand minus a card are
+	 * exactly the choices of the hand that avoid that card, so every discard sees all of its candidates.
+	 *
+	 * @param hand card set bitstring of the hand before discarding
+	 * @param discards cards to evaluate as discards
+	 * @param setRanks ranks still to decide, each held in at least three suits
+	 * @param sets cards already committed to sets
+	 * @param deadwood if not null, per-discard minimum deadwood indexed by position of the card in hand
+	 * @param best minimum deadwood over all discards found so far
+	 * @return the minimum deadwood over all discards
+	 */
+	private static int solveDiscards(long hand, long discards, int setRanks, long sets, int[] deadwood, int best) {
+		if (setRanks != 0) {
+			int rank = Integer.numberOfTrailingZeros(setRanks);
+			setRanks &= setRanks - 1;
+			best = solveDiscards(hand, discards, setRanks, sets, deadwood, best);
+			long rankCards = hand & (RANK_MASK << rank);
+			best = solveDiscards(hand, discards, setRanks, sets | rankCards, deadwood, best);
+			if (Long.bitCount(rankCards) == 4)
+				for (long rest = rankCards; rest != 0; rest &= rest - 1)
+					best = solveDiscards(hand, discards, setRanks, sets | (rankCards & ~Long.lowestOneBit(rest)), deadwood, best);
+			return best;
+		}
+
+		long unset = hand & ~sets;
+		int total = (int) (solveRuns(unset) >>> DEADWOOD_SHIFT);
+		for (long rest = discards & ~sets; rest != 0; rest &= rest - 1) {
+			long card = Long.lowestOneBit(rest);
+			int id = Long.numberOfTrailingZeros(card);
+			int shift = id - id % Card.NUM_RANKS;
+			int pattern = (int) (unset >>> shift) & SUIT_MASK;
+			int points = total - RUN_DEADWOOD[pattern] + RUN_DEADWOOD[pattern & ~(int) (card >>> shift)];
+			if (deadwood != null) {
+				int index = Long.bitCount(hand & (card - 1));
+				deadwood[index] = Math.min(deadwood[index], points);
+			}
+			best = Math.min(best, points);
+		}
+		return best;
+	}
+}
@@ -0,0 +1,145 @@
+/**
+ * A hand that is grown and shrunk one card at a time, e.g. to evaluate every possible draw, keeping the run
+ * table results of each suit up to date so that adding or removing a card only revisits that card's suit.
+ * The whole hand is only searched again when it holds a rank in three or more suits (see MeldSolver), and
+ * that result is reused until the hand changes.
+ */
+public class MeldState {
+	/**
+	 * Rank pattern of each suit of the hand
+	 */
+	private final int[] patterns = new int[Card.NUM_SUITS];
+	/**
+	 * Cards pushed and not yet popped, in push order
+	 */
+	private final int[] pushed = new int[Card.NUM_CARDS];
+	private int numPushed;
+	private long hand;
+	/**
+	 * Sum of the run-only deadwood of the suits
+	 */
+	private int runDeadwood;
+	/**
+	 * Packed MeldSolver solution of the current hand, or -1 if not computed since the last change
+	 */
+	private long solution = -1;
+
+	/**
+	 * @param hand card set bitstring of the initial hand
+	 */
+	public MeldState(long hand) {
+		this.hand = hand;
+		for (int suit = 0; suit < Card.NUM_SUITS; suit++) {
+			patterns[suit] = (int) (hand >>> suit * Card.NUM_RANKS) & MeldSolver.SUIT_MASK;
+			runDeadwood += MeldSolver.RUN_DEADWOOD[patterns[suit]];
+		}
+	}
+
+	/**
+	 * Add a card to the hand.  Pushing a card that is already in the hand leaves the hand unchanged, but still
+	 * has to be matched by a pop.
+	 *
+	 * @param card id of the card
+	 */
+	public void push(int card) {
+		if (numPushed == pushed.length) throw new IllegalStateException("Too many cards pushed");
+		if ((hand & 1L << card) != 0) {
+			pushed[numPushed++] = -1;
+			return;
+		}
+		pushed[numPushed++] = card;
+		toggle(card);
+	}
+
+	/**
+	 * Undo the last push
+	 */
+	public void pop() {
+		if (numPushed == 0) throw new IllegalStateException("No card to pop");
+		int card = pushed[--numPushed];
+		if (card != -1) toggle(card);
+	}
+
+	/**
+	 * @return card set bitstring of the current hand
+	 */
+	public long getHand() {
+		return hand;
+	}
+
+	/**
+	 * @return deadwood points after making best melds
+	 */
+	public int bestDeadwood() {
+		if (MeldSolver.setRanks(hand) == 0) return runDeadwood;
+		return (int) (solve() >>> MeldSolver.DEADWOOD_SHIFT);
+	}
+
+	/**
+	 * @return the cards melded in the meld configuration chosen by MeldSolver.bestMeldMask
+	 */
+	public long bestMeldMask() {
+		if (MeldSolver.setRanks(hand) == 0) {
+			long melded = 0;
+			for (int suit = 0; suit < Card.NUM_SUITS; suit++)
+				melded |= (long) MeldSolver.RUN_MELDED[patterns[suit]] << suit * Card.NUM_RANKS;
+			return melded;
+		}
+		return solve() & MeldSolver.CARDS_MASK;
+	}
+
+	/**
+	 * @return the points of the highest unmelded card in the meld configuration chosen by
+	 *         MeldSolver.bestMeldMask (0 if every card is melded)
+	 */
+	public int maxUnmeldedPoints() {
+		if (MeldSolver.setRanks(hand) == 0) {
+			int max = 0;
+			for (int suit = 0; suit < Card.NUM_SUITS; suit++) {
+				int unmelded = patterns[suit] & ~MeldSolver.RUN_MELDED[patterns[suit]];
+				if (unmelded != 0)
+					max = Math.max(max, MeldSolver.CARD_POINTS[31 - Integer.numberOfLeadingZeros(unmelded)]);
+			}
+			return max;
+		}
+		long unmelded = hand & ~(solve() & MeldSolver.CARDS_MASK);
+		int max = 0;
+		for (; unmelded != 0; unmelded &= unmelded - 1)
+			max = Math.max(max, MeldSolver.CARD_POINTS[Long.numberOfTrailingZeros(unmelded)]);
+		return max;
+	}
+
+	/**
+	 * @return the minimum deadwood reachable by discarding one card of the hand
+	 */
+	public int bestDeadwoodAfterDiscard() {
+		if (MeldSolver.setRanks(hand) != 0) return MeldSolver.bestDeadwoodAfterDiscard(hand, hand);
+
+		// without sets, a discard only changes the run table lookup of its own suit
+		int best = Integer.MAX_VALUE;
+		for (int suit = 0; suit < Card.NUM_SUITS; suit++) {
+			int pattern = patterns[suit];
+			int others = runDeadwood - MeldSolver.RUN_DEADWOOD[pattern];
+			for (int rest = pattern; rest != 0; rest &= rest - 1)
+				best = Math.min(best, others + MeldSolver.RUN_DEADWOOD[pattern & ~Integer.lowestOneBit(rest)]);
+		}
+		return best;
+	}
+
+	/**
+	 * Add or remove a card, updating only its suit
+	 */
+	private void toggle(int card) {
+		int suit = card / Card.NUM_RANKS;
+		runDeadwood -= MeldSolver.RUN_DEADWOOD[patterns[suit]];
+		patterns[suit] ^= 1 << card % Card.NUM_RANKS;
+		runDeadwood += MeldSolver.RUN_DEADWOOD[patterns[suit]];
+		hand ^= 1L << card;
+		solution = -1;
+	}
+
+	private long solve() {
+		if (solution == -1) solution = MeldSolver.solve(hand);
+		return solution;
+	}
+}
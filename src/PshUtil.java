@@ -1,6 +1,5 @@
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Random;
 
 /**
  * A set of utility functions to help analyze game state and make decisions
@@ -17,7 +16,10 @@ public class PshUtil {
 	private static ArrayList<Long> meldBitstrings = new ArrayList<>();
 	private static HashMap<Long, Card> bitStringToCards = new HashMap<>();
 	private static HashMap<Long, Integer> cardsToDeadwoodPoints = new HashMap<>();
-	private static Random prng = new Random();
+	/**
+	 * Deadwood of the hands evaluated so far, shared by all threads
+	 */
+	private static final DeadwoodCache deadwoodCache = new DeadwoodCache(1 << 20);
 	
 	static {
 		// initialize meldBitStrings
@@ -223,45 +225,38 @@ public class PshUtil {
 	 * @return the card to discard as a bitstring
 	 */
 	public static long getCardThatMinimizesDeadwood(GameState state) {
-		ArrayList<Card> bestDiscards = new ArrayList<>();
-		ArrayList<Card> myCards = state.getCurrentPlayerCardsAsList();
+		long myCards = state.getCurrentPlayerCards();
 
-		if (myCards.size() != 11) throw new IllegalArgumentException("Must pass a hand with a card needing to be discarded.");
-
-		int bestDeadwood = Integer.MAX_VALUE;
-		for (int i = 0; i < myCards.size(); i++) {
-			if (cardAsBitString(myCards.get(i)) != state.getFaceUpCard()) {
-				Card potentialDiscard = myCards.get(i);
+		if (Long.bitCount(myCards) != 11) throw new IllegalArgumentException("Must pass a hand with a card needing to be discarded.");
 
-				// Remove discard from hand and evaluate
-				myCards.set(i, myCards.get(10));
-				myCards.remove(10);
-
-				int deadwood = getBestDeadwood(myCards);
-
-				if (deadwood < bestDeadwood) {
-					if (bestDiscards.size() != 0) {
-						bestDiscards.clear();
-					}
-					bestDiscards.add(potentialDiscard);
-					bestDeadwood = deadwood;
-				}
-				else if (deadwood == bestDeadwood) {
-					bestDiscards.add(potentialDiscard);					
-				}
+		// Evaluate every discard in a single meld search
+		int[] deadwood = new int[11];
+		MeldSolver.bestDeadwoodAfterEachDiscard(myCards, deadwood);
 
-				// Put discard back in hand
-				if (i == 10) {
-					myCards.add(potentialDiscard);
+		int bestDeadwood = Integer.MAX_VALUE;
+		int numBestDiscards = 0;
+		int i = 0;
+		for (long cards = myCards; cards != 0; cards &= cards - 1, i++) {
+			if (Long.lowestOneBit(cards) != state.getFaceUpCard()) {
+				if (deadwood[i] < bestDeadwood) {
+					bestDeadwood = deadwood[i];
+					numBestDiscards = 1;
 				}
-				else {
-					myCards.add(myCards.get(i));
-					myCards.set(i, potentialDiscard);
+				else if (deadwood[i] == bestDeadwood) {
+					numBestDiscards++;
 				}
 			}
 		}
 
-		return cardAsBitString(bestDiscards.get(prng.nextInt(bestDiscards.size())));
+		// Pick one of the best discards at random
+		int choice = RandomStreams.current().nextInt(numBestDiscards);
+		i = 0;
+		for (long cards = myCards; cards != 0; cards &= cards - 1, i++) {
+			if (Long.lowestOneBit(cards) != state.getFaceUpCard() && deadwood[i] == bestDeadwood && choice-- == 0) {
+				return Long.lowestOneBit(cards);
+			}
+		}
+		throw new IllegalStateException("No discard found");
 	}
 
 	/**
@@ -274,31 +269,8 @@ public class PshUtil {
 	public static int getBestDeadwoodAfterDiscard(ArrayList<Card> hand) {
 		if (hand.size() != 11) throw new IllegalArgumentException("Must pass a hand with a card needing to be discarded.");
 
-		int bestDeadwood = Integer.MAX_VALUE;
-		for (int i = 0; i < hand.size(); i++) {
-			Card potentialDiscard = hand.get(i);
-
-			// Remove discard from hand and evaluate
-			hand.set(i, hand.get(10));
-			hand.remove(10);
-
-			int deadwood = getBestDeadwood(hand);
-
-			if (deadwood < bestDeadwood) {
-				bestDeadwood = deadwood;
-			}
-
-			// Put discard back in hand
-			if (i == 10) {
-				hand.add(potentialDiscard);
-			}
-			else {
-				hand.add(hand.get(i));
-				hand.set(i, potentialDiscard);
-			}
-		}
-
-		return bestDeadwood;
+		long cards = GinRummyUtil.cardsToBitstring(hand);
+		return MeldSolver.bestDeadwoodAfterDiscard(cards, cards);
 	}
 
 	
@@ -311,8 +283,26 @@ public class PshUtil {
 	 */
 	public static int getBestDeadwood(ArrayList<Card> myCards) {
 		if (myCards.size() != 10) throw new IllegalArgumentException("Expected a hand with 10 cards, received one with " + myCards.size() +" instead");
-		ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = GinRummyUtil.cardsToBestMeldSets(myCards);
-		return bestMeldSets.isEmpty() ? GinRummyUtil.getDeadwoodPoints(myCards) : GinRummyUtil.getDeadwoodPoints(bestMeldSets.get(0), myCards);
+		return deadwoodCache.bestDeadwood(GinRummyUtil.cardsToBitstring(myCards));
+	}
+
+	/**
+	 * Return deadwood points after making best melds
+	 *
+	 * @param myCards the hand from which to make melds as a bitstring
+	 * 
+	 * @return the minimum deadwood points
+	 */
+	public static int getBestDeadwood(long myCards) {
+		if (Long.bitCount(myCards) != 10) throw new IllegalArgumentException("Expected a hand with 10 cards, received one with " + Long.bitCount(myCards) +" instead");
+		return deadwoodCache.bestDeadwood(myCards);
+	}
+
+	/**
+	 * @return the cache behind getBestDeadwood, e.g. to report its hit rate
+	 */
+	public static DeadwoodCache getDeadwoodCache() {
+		return deadwoodCache;
 	}
 	
 	/**
@@ -364,7 +354,7 @@ public class PshUtil {
 		}
 		else {
 			// Give best melds because opponent has gone out, or I have decided to
-			return bestMeldSets.get(prng.nextInt(bestMeldSets.size()));
+			return bestMeldSets.get(RandomStreams.current().nextInt(bestMeldSets.size()));
 		}
 	}
 	
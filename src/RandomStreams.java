@@ -0,0 +1,71 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The source of randomness for dealing, sampling and tie breaking.  Each thread draws from its own
+ * SplittableRandom, so threads never contend for a shared generator, and every stream is derived
+ * deterministically from a master seed and a stream number.
+ * <p>
+ * Driver starts a new stream for every game, numbered by round and game index, so the games a seeded run
+ * plays do not depend on which worker happens to play them.  A thread that never starts a stream gets the
+ * next of a sequence of default streams on first use.
+ */
+public class RandomStreams {
+	private static volatile long masterSeed = new SplittableRandom().nextLong();
+	private static final AtomicLong nextDefaultStream = new AtomicLong();
+	private static final ThreadLocal<SplittableRandom> current =
+			ThreadLocal.withInitial(() -> forStream(-1 - nextDefaultStream.getAndIncrement()));
+
+	/**
+	 * Set the master seed.  Call it before any thread draws random numbers, since a thread keeps its stream
+	 * until it starts another.
+	 *
+	 * @param seed the master seed
+	 */
+	public static void setMasterSeed(long seed) {
+		masterSeed = seed;
+		nextDefaultStream.set(0);
+		current.remove();
+	}
+
+	/**
+	 * @return the master seed
+	 */
+	public static long getMasterSeed() {
+		return masterSeed;
+	}
+
+	/**
+	 * @return the calling thread's generator
+	 */
+	public static SplittableRandom current() {
+		return current.get();
+	}
+
+	/**
+	 * Make the calling thread draw from the given stream, starting at its beginning
+	 *
+	 * @param stream the stream number
+	 */
+	public static void startStream(long stream) {
+		current.set(forStream(stream));
+	}
+
+	/**
+	 * @param stream the stream number
+	 * @return a new generator at the beginning of the given stream of the master seed
+	 */
+	public static SplittableRandom forStream(long stream) {
+		// hash rather than add, since SplittableRandoms with seeds a fixed gamma apart produce the same sequence
+		return new SplittableRandom(mix(masterSeed ^ mix(stream)));
+	}
+
+	/**
+	 * Stafford's variant 13 of the MurmurHash3 64-bit finalizer
+	 */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,86 @@
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compares the throughput of the Strategy update modes when several threads train the same tables.  Each
+ * operation does what GameNode does at a sampled infoset: regret matching, a sampled regret update and an
+ * average strategy update, at a random infoset of the tables of a StrategyKnockFinal.  The actions are reused,
+ * so the timed loop does not allocate.
+ *
+ * Usage: java RegretStoreBenchmark [operations per thread] [number of infosets]
+ * (a small number of infosets makes the threads contend for the same entries; at most StrategyKnockFinal's)
+ */
+public class RegretStoreBenchmark {
+	private static final int[] THREAD_COUNTS = {1, 4, 8, 16};
+	private static final int ACTIONS_PER_INFOSET = 2;
+
+	public static void main(String[] args) throws InterruptedException {
+		int operations = args.length >= 1 ? Integer.parseInt(args[0]) : 1_000_000;
+		int maxInfosets = new StrategyKnockFinal(false).getNumInfosetActions() / ACTIONS_PER_INFOSET;
+		int numInfosets = args.length >= 2 ? Integer.parseInt(args[1]) : maxInfosets;
+		if (numInfosets < 1 || numInfosets > maxInfosets) {
+			throw new IllegalArgumentException("Expected between 1 and " + maxInfosets + " infosets, received " + numInfosets);
+		}
+
+		// warm up every path before timing any of them
+		for (Strategy.UpdateMode mode : Strategy.UpdateMode.values()) {
+			run(mode, 4, operations / 10, numInfosets);
+		}
+
+		System.out.printf("%d operations per thread, %d infosets\n", operations, numInfosets);
+		System.out.printf("%-14s", "Threads");
+		for (Strategy.UpdateMode mode : Strategy.UpdateMode.values()) {
+			System.out.printf("%16s", mode);
+		}
+		System.out.println("   (million operations per second)");
+		for (int threads : THREAD_COUNTS) {
+			System.out.printf("%-14d", threads);
+			for (Strategy.UpdateMode mode : Strategy.UpdateMode.values()) {
+				long nanos = run(mode, threads, operations, numInfosets);
+				System.out.printf("%16.2f", 1000.0 * threads * operations / nanos);
+			}
+			System.out.println();
+		}
+	}
+
+	/**
+	 * @return the wall clock time in nanoseconds for threads threads to do operations operations each
+	 */
+	private static long run(Strategy.UpdateMode mode, int threads, int operations, int numInfosets) throws InterruptedException {
+		Strategy strategy = new StrategyKnockFinal(true);
+		strategy.setUpdateMode(mode);
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			workers[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					Action[] actions = new Action[ACTIONS_PER_INFOSET];
+					for (int a = 0; a < actions.length; a++) {
+						actions[a] = new Action(0.0, Action.NO_INFOSET);
+					}
+					GameNode.UtilityProbability utilProb = new GameNode.UtilityProbability(0.0, 1.0);
+					for (int i = 0; i < operations; i++) {
+						int infoset = random.nextInt(numInfosets);
+						for (int a = 0; a < actions.length; a++) {
+							actions[a].infosetAndAction = infoset * ACTIONS_PER_INFOSET + a;
+						}
+						strategy.getProbabilities(actions);
+						utilProb.scaledUtility = random.nextDouble() * 2.0 - 1.0;
+						strategy.updateSampledRegret(actions, random.nextInt(actions.length), utilProb);
+						strategy.updateAverageStrategy(actions, 1.0);
+					}
+					strategy.release();
+				}
+			});
+		}
+		long start = System.nanoTime();
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		strategy.reduce();
+		return System.nanoTime() - start;
+	}
+}
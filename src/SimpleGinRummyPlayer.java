@@ -36,7 +36,7 @@ public class SimpleGinRummyPlayer implements GinRummyPlayer {
 	@SuppressWarnings("unused")
 	private int startingPlayerNum;
 	private ArrayList<Card> cards = new ArrayList<Card>();
-	private Random random = new Random();
+	private Random random = new Random(RandomStreams.current().nextLong());
 	private boolean opponentKnocked = false;
 	Card faceUpCard, drawnCard;
 	ArrayList<Long> drawDiscardBitstrings = new ArrayList<Long>();
@@ -80,6 +80,9 @@ public class SimpleGinRummyPlayer implements GinRummyPlayer {
 		// Discard a random card (not just drawn face up) leaving minimal deadwood points.
 		int minDeadwood = Integer.MAX_VALUE;
 		ArrayList<Card> candidateCards = new ArrayList<Card>();
+		long cardsBitstring = GinRummyUtil.cardsToBitstring(cards);
+		int[] deadwoods = new int[cards.size()];
+		MeldSolver.bestDeadwoodAfterEachDiscard(cardsBitstring, deadwoods);
 		for (Card card : cards) {
 			// Cannot draw and discard face up card.
 			if (card == drawnCard && drawnCard == faceUpCard)
@@ -91,10 +94,7 @@ public class SimpleGinRummyPlayer implements GinRummyPlayer {
 			if (drawDiscardBitstrings.contains(GinRummyUtil.cardsToBitstring(drawDiscard)))
 				continue;
 
-			ArrayList<Card> remainingCards = (ArrayList<Card>) cards.clone();
-			remainingCards.remove(card);
-			ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = GinRummyUtil.cardsToBestMeldSets(remainingCards);
-			int deadwood = bestMeldSets.isEmpty() ? GinRummyUtil.getDeadwoodPoints(remainingCards) : GinRummyUtil.getDeadwoodPoints(bestMeldSets.get(0), remainingCards);
+			int deadwood = deadwoods[Long.bitCount(cardsBitstring & ((1L << card.getId()) - 1))];
 			if (deadwood <= minDeadwood) {
 				if (deadwood < minDeadwood) {
 					minDeadwood = deadwood;
@@ -1,33 +1,176 @@
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintWriter;
-import java.math.BigInteger;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Scanner;
-import java.util.TreeMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * The superclass for a CFR strategy
+ * The superclass for a CFR strategy.
+ * 
+ * Each subclass maps its abstraction of an infoset plus an action to a dense integer id in
+ * [0, getNumInfosetActions()), and the regrets and average strategy are kept in flat tables indexed
+ * by that id, on or off the heap (see TableStorage).  Human readable keys are only built for output, by
+ * getInfosetActionKey.
 
  * @author jjb24
  */
 public abstract class Strategy {
+	/**
+	 * How regret and average strategy updates reach the shared tables
+	 */
+	public enum UpdateMode {
+		/** Every update locks the shared table */
+		SYNCHRONIZED,
+		/**
+		 * Every training thread adds its updates to a buffer of its own, which is reduced into the shared tables
+		 * every getReduceInterval() updates, on release() and on reduce().  Regret matching reads the shared
+		 * tables as of the last reduction.
+		 */
+		THREAD_LOCAL,
+		/**
+		 * Updates are added without locks to tables of double bits by compare-and-set, and regret matching reads
+		 * them without locks, tolerating values that another thread is about to change.  The sumRegret and
+		 * sumStrategy tables are a copy refreshed by reduce().
+		 */
+		LOCK_FREE
+	}
+
+	/**
+	 * How the regrets and average strategy of successive iterations are weighted.  An iteration ends at each
+	 * call to endIteration(), which Driver makes at the end of every training round.
+	 */
+	public enum UpdateRule {
+		/** Regrets and average strategy are plain sums */
+		VANILLA,
+		/**
+		 * CFR+: cumulative regrets are floored at 0 whenever an update reaches the shared table, and the average
+		 * strategy of iteration t is weighted by t
+		 */
+		CFR_PLUS,
+		/** Linear CFR: the regrets and average strategy of iteration t are weighted by t */
+		LINEAR,
+		/**
+		 * Discounted CFR: at the end of iteration t, positive regrets are multiplied by t^alpha/(t^alpha + 1),
+		 * negative regrets by t^beta/(t^beta + 1) and the average strategy by (t/(t + 1))^gamma
+		 */
+		DISCOUNTED
+	}
+
+	/**
+	 * Where the regret, average strategy and visit count tables are kept
+	 */
+	public enum TableStorage {
+		/** In arrays on the heap */
+		HEAP,
+		/**
+		 * In direct buffers outside the heap, which the garbage collector neither scans nor copies.  The update
+		 * buffers of THREAD_LOCAL mode are kept there too.
+		 */
+		DIRECT,
+		/**
+		 * Like DIRECT, but in a file mapped into memory, which the operating system pages in and out.  The tables
+		 * can then be larger than the heap and physical memory, and they persist from one run to the next
+		 * without being serialized: flushTables() records the rest of the state of the strategy in the file and
+		 * marks it clean, and the first change after that marks it dirty again.  Only a clean file is reused.
+		 */
+		MAPPED
+	}
+
+	/**
+	 * Default number of updates a thread buffers before reducing them into the shared tables
+	 */
+	public static final int DEFAULT_REDUCE_INTERVAL = 1 << 12;
+
+	/**
+	 * Default discount parameters of DISCOUNTED, the ones Brown and Sandholm found best
+	 */
+	public static final double DEFAULT_ALPHA = 1.5, DEFAULT_BETA = 0.0, DEFAULT_GAMMA = 2.0;
+
 	protected boolean training; // Are we training or not
+	private volatile boolean recordVisits = true; // Do we count the visits to infosets of the learned strategy
+	private UpdateMode updateMode = UpdateMode.SYNCHRONIZED;
+	private int reduceInterval = DEFAULT_REDUCE_INTERVAL;
+	private UpdateRule updateRule = UpdateRule.VANILLA;
+	private double alpha = DEFAULT_ALPHA, beta = DEFAULT_BETA, gamma = DEFAULT_GAMMA;
+	private int averagingDelay = 0;
+	private int iteration = 0; // the number of iterations completed
 
-	protected Map<String, Double> sumRegret = new HashMap<>();     // The sum of the counterfactual regret for a string equal to the infoset plus the action
-	protected Map<String, Double> sumStrategy = new TreeMap<>();   // From sigma_bar^t for a string equal to the infoset and the action
-	protected Map<String, Long> frequencies = new TreeMap<>();
-	protected Long total_visits = 0L;
+	/*
+	 * The tables are swapped by setTableStorage, so they are guarded by the locks below rather than by
+	 * themselves
+	 */
+	protected InfosetTable.Doubles sumRegret;     // The sum of the counterfactual regret, indexed by infoset and action id
+	protected InfosetTable.Doubles sumStrategy;   // From sigma_bar^t, indexed by infoset and action id
+	protected InfosetTable.Longs frequencies;
+	protected long total_visits = 0L;
 	// This is just the numerator of the equation given
+	private final Object regretLock = new Object();   // guards sumRegret
+	private final Object strategyLock = new Object(); // guards sumStrategy, frequencies and total_visits
+	private TableStorage tableStorage = TableStorage.HEAP;
+	private MappedByteBuffer mappedHeader; // in MAPPED storage, the header of the file
+	private volatile boolean mappedClean;  // whether the file is marked clean
+	private final Object dirtyLock = new Object();
+
+	/*
+	 * A file of MAPPED storage holds a header of a magic number, a clean flag (1 if the file is as of the last
+	 * flushTables() and 0 if it has changed since) and the state written by writeState, padded to a page; then
+	 * the regret, average strategy and visit count tables, in the native byte order.
+	 */
+	private static final int MAPPED_MAGIC = 0x47524b54; // "GRKT"
+	private static final int MAPPED_STATE_OFFSET = 2 * Integer.BYTES;
+	private static final int TABLE_ENTRY_BYTES = 3 * InfosetTable.ENTRY_BYTES;
 
 	/**
-	 * Constructor
+	 * Update buffers of the threads training in THREAD_LOCAL mode, and released buffers kept for reuse
+	 */
+	private final ThreadLocal<Accumulator> accumulator = new ThreadLocal<>();
+	private final Set<Accumulator> activeAccumulators = ConcurrentHashMap.newKeySet();
+	private final ConcurrentLinkedQueue<Accumulator> idleAccumulators = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * The live tables in LOCK_FREE mode, holding Double.doubleToRawLongBits of each entry
+	 */
+	private AtomicLongArray atomicRegret;
+	private AtomicLongArray atomicStrategy;
+
+	/**
+	 * Time spent waiting for the table locks while training, see TrainingMetrics
+	 */
+	private final LongAdder lockWaitNanos = new LongAdder();
+
+	/**
+	 * Constructor for a strategy with no infosets of its own
 	 *
 	 * @param train Are we accumulating regrets
 	 */
 	public Strategy(boolean train) {
+		this(train, 0);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param train Are we accumulating regrets
+	 * @param numInfosetActions the number of infoset and action ids of the abstraction
+	 */
+	protected Strategy(boolean train, int numInfosetActions) {
 		this.training = train;
+		sumRegret = InfosetTable.Doubles.allocate(numInfosetActions, false);
+		sumStrategy = InfosetTable.Doubles.allocate(numInfosetActions, false);
+		frequencies = InfosetTable.Longs.allocate(numInfosetActions, false);
 	}
 
 	/**
@@ -44,6 +187,350 @@ public abstract class Strategy {
 	public abstract Action[] getStrategy(GameState state);
 
 
+	/**
+	 * @return the number of infoset and action ids of the abstraction
+	 */
+	public final int getNumInfosetActions() {
+		return sumRegret.size();
+	}
+
+	/**
+	 * @return the number of infoset and action ids with a nonzero regret or average strategy, as of the last
+	 *         reduction
+	 */
+	public final int getNumTouchedInfosetActions() {
+		int touched = 0;
+		for (int id = 0; id < getNumInfosetActions(); id++) {
+			if (sumRegret.get(id) != 0.0 || sumStrategy.get(id) != 0.0) touched++;
+		}
+		return touched;
+	}
+
+	/**
+	 * @return the bytes taken by the regret, average strategy and visit count tables
+	 */
+	public final long getTableBytes() {
+		long bytes = (long) getNumInfosetActions() * TABLE_ENTRY_BYTES;
+		return updateMode == UpdateMode.LOCK_FREE ? bytes + (long) getNumInfosetActions() * 2 * Long.BYTES : bytes;
+	}
+
+	/**
+	 * @return the total time threads have waited for the locks on the tables while training, in nanoseconds
+	 */
+	public final long getLockWaitNanos() {
+		return lockWaitNanos.sum();
+	}
+
+	/**
+	 * Count the time from lockStart, taken just before a synchronized block, to entering it
+	 */
+	private void lockAcquired(long lockStart) {
+		if (TrainingMetrics.ENABLED) lockWaitNanos.add(System.nanoTime() - lockStart);
+	}
+
+	/**
+	 * Return the human readable key of an infoset and action id, for output only
+	 *
+	 * @param id an infoset and action id
+	 * @return the key
+	 */
+	protected String getInfosetActionKey(int id) {
+		return Integer.toString(id);
+	}
+
+	/**
+	 * Return the infoset and action id of a human readable key, the inverse of getInfosetActionKey
+	 *
+	 * @param key a key produced by getInfosetActionKey
+	 * @return the id
+	 */
+	protected int getInfosetActionId(String key) {
+		return Integer.parseInt(key);
+	}
+
+	/**
+	 * @return how updates reach the shared tables
+	 */
+	public UpdateMode getUpdateMode() {
+		return updateMode;
+	}
+
+	/**
+	 * Select how updates reach the shared tables.  Change modes only while no thread is training.
+	 *
+	 * @param updateMode the update mode
+	 */
+	public void setUpdateMode(UpdateMode updateMode) {
+		reduce();
+		if (updateMode == UpdateMode.LOCK_FREE && this.updateMode != UpdateMode.LOCK_FREE) {
+			loadAtomicTables();
+		}
+		else if (updateMode != UpdateMode.LOCK_FREE) {
+			atomicRegret = null;
+			atomicStrategy = null;
+		}
+		this.updateMode = updateMode;
+	}
+
+	/**
+	 * @return where the tables are kept
+	 */
+	public TableStorage getTableStorage() {
+		return tableStorage;
+	}
+
+	/**
+	 * Move the tables to another storage, copying them over.  Change storage only while no thread is training.
+	 *
+	 * @param tableStorage the storage
+	 * @param file the file to map in MAPPED storage, ignored otherwise.  If it holds the state of this strategy
+	 *             as of its last flushTables(), e.g. from a previous run, that state is kept instead of the
+	 *             current one.
+	 * @throws IOException if the file cannot be mapped, or it was changed after it was last flushed
+	 * @throws IllegalArgumentException if the file holds the state of another abstraction
+	 */
+	public void setTableStorage(TableStorage tableStorage, Path file) throws IOException {
+		reduce();
+		flushTables();
+		int n = getNumInfosetActions();
+		InfosetTable.Doubles regret, strategy;
+		InfosetTable.Longs visits;
+		MappedByteBuffer header = null;
+		boolean keep = false; // whether to keep the state in the file
+		if (tableStorage == TableStorage.MAPPED) {
+			int headerBytes = getMappedHeaderSize();
+			long size = headerBytes + 3 * InfosetTable.bytes(n);
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				keep = channel.size() > 0;
+				if (keep && channel.size() != size) throw new IllegalArgumentException(file + " does not hold the tables of " + getName());
+				header = channel.map(FileChannel.MapMode.READ_WRITE, 0, headerBytes);
+				header.order(ByteOrder.nativeOrder());
+				if (keep && (header.getInt(0) != MAPPED_MAGIC || header.getInt(MAPPED_STATE_OFFSET) != n)) {
+					throw new IllegalArgumentException(file + " does not hold the tables of " + getName());
+				}
+				if (keep && header.getInt(Integer.BYTES) == 0) {
+					throw new IOException(file + " was changed after it was last flushed, e.g. by a run that stopped mid-round; delete it to start from the current tables");
+				}
+				regret = InfosetTable.Doubles.map(n, channel, headerBytes);
+				strategy = InfosetTable.Doubles.map(n, channel, headerBytes + InfosetTable.bytes(n));
+				visits = InfosetTable.Longs.map(n, channel, headerBytes + 2 * InfosetTable.bytes(n));
+			}
+		}
+		else {
+			regret = InfosetTable.Doubles.allocate(n, tableStorage == TableStorage.DIRECT);
+			strategy = InfosetTable.Doubles.allocate(n, tableStorage == TableStorage.DIRECT);
+			visits = InfosetTable.Longs.allocate(n, tableStorage == TableStorage.DIRECT);
+		}
+
+		synchronized (regretLock) {
+			synchronized (strategyLock) {
+				if (keep) {
+					ByteBuffer state = header.duplicate().order(header.order());
+					state.position(MAPPED_STATE_OFFSET);
+					readState(state);
+				}
+				else {
+					regret.copyFrom(sumRegret);
+					strategy.copyFrom(sumStrategy);
+					visits.copyFrom(frequencies);
+				}
+				sumRegret = regret;
+				sumStrategy = strategy;
+				frequencies = visits;
+				mappedHeader = header;
+			}
+		}
+		this.tableStorage = tableStorage;
+		// buffers of the previous storage are not reused
+		idleAccumulators.clear();
+		if (updateMode == UpdateMode.LOCK_FREE) loadAtomicTables();
+		flushTables();
+	}
+
+	/**
+	 * @return the bytes of the header of a MAPPED file, rounded up to a page so that the tables are aligned
+	 */
+	private int getMappedHeaderSize() {
+		return (MAPPED_STATE_OFFSET + getStateSize() + 4095) & ~4095;
+	}
+
+	/**
+	 * In MAPPED storage, write the tables out to the file, then the rest of the state and the clean flag, so
+	 * that a later run can start from it.  Call only while no thread is training.
+	 */
+	public void flushTables() {
+		if (mappedHeader == null) return;
+		reduce();
+		synchronized (regretLock) {
+			sumRegret.force();
+		}
+		synchronized (strategyLock) {
+			sumStrategy.force();
+			frequencies.force();
+			ByteBuffer state = mappedHeader.duplicate().order(mappedHeader.order());
+			state.position(MAPPED_STATE_OFFSET);
+			writeState(state);
+		}
+		mappedHeader.putInt(0, MAPPED_MAGIC);
+		mappedHeader.putInt(Integer.BYTES, 1);
+		mappedHeader.force();
+		mappedClean = true;
+	}
+
+	/**
+	 * Clear the clean flag of a MAPPED file, and write it out, before the first change to its tables since it
+	 * was flushed
+	 */
+	private void touchTables() {
+		if (mappedClean) markDirty();
+	}
+
+	private void markDirty() {
+		synchronized (dirtyLock) {
+			if (!mappedClean) return;
+			mappedHeader.putInt(Integer.BYTES, 0);
+			mappedHeader.force();
+			mappedClean = false;
+		}
+	}
+
+	/**
+	 * @return the number of updates a thread buffers in THREAD_LOCAL mode before reducing them
+	 */
+	public int getReduceInterval() {
+		return reduceInterval;
+	}
+
+	/**
+	 * @param reduceInterval the number of updates a thread buffers in THREAD_LOCAL mode before reducing them
+	 */
+	public void setReduceInterval(int reduceInterval) {
+		if (reduceInterval < 1) throw new IllegalArgumentException("The reduce interval must be positive, received " + reduceInterval);
+		this.reduceInterval = reduceInterval;
+	}
+
+	/**
+	 * @return how the iterations are weighted
+	 */
+	public UpdateRule getUpdateRule() {
+		return updateRule;
+	}
+
+	/**
+	 * Select how the iterations are weighted.  Change rules only while no thread is training.
+	 *
+	 * @param updateRule the update rule
+	 */
+	public void setUpdateRule(UpdateRule updateRule) {
+		reduce();
+		this.updateRule = updateRule;
+	}
+
+	/**
+	 * Set the discount parameters of DISCOUNTED
+	 */
+	public void setDiscount(double alpha, double beta, double gamma) {
+		this.alpha = alpha;
+		this.beta = beta;
+		this.gamma = gamma;
+	}
+
+	/**
+	 * @return the number of iterations during which the average strategy is not updated
+	 */
+	public int getAveragingDelay() {
+		return averagingDelay;
+	}
+
+	/**
+	 * @param averagingDelay the number of iterations during which the average strategy is not updated, so that
+	 *                       the poor strategies of the first iterations do not weigh on the average
+	 */
+	public void setAveragingDelay(int averagingDelay) {
+		if (averagingDelay < 0) throw new IllegalArgumentException("The averaging delay cannot be negative, received " + averagingDelay);
+		this.averagingDelay = averagingDelay;
+	}
+
+	/**
+	 * @return the number of iterations completed
+	 */
+	public int getIteration() {
+		return iteration;
+	}
+
+	/**
+	 * End an iteration: reduce the buffered updates and discount the tables as the update rule requires.  Call
+	 * only while no thread is training.
+	 */
+	public void endIteration() {
+		reduce();
+		touchTables();
+		iteration++;
+		double t = iteration;
+		// the average strategy is weighted from the first iteration it was updated
+		double s = iteration - averagingDelay;
+		switch (updateRule) {
+		case CFR_PLUS:
+			if (s > 0) scale(strategyLock, sumStrategy, s / (s + 1), s / (s + 1));
+			break;
+		case LINEAR:
+			scale(regretLock, sumRegret, t / (t + 1), t / (t + 1));
+			if (s > 0) scale(strategyLock, sumStrategy, s / (s + 1), s / (s + 1));
+			break;
+		case DISCOUNTED:
+			scale(regretLock, sumRegret, Math.pow(t, alpha) / (Math.pow(t, alpha) + 1), Math.pow(t, beta) / (Math.pow(t, beta) + 1));
+			if (s > 0) scale(strategyLock, sumStrategy, Math.pow(s / (s + 1), gamma), Math.pow(s / (s + 1), gamma));
+			break;
+		default:
+			return;
+		}
+		if (updateMode == UpdateMode.LOCK_FREE) loadAtomicTables();
+	}
+
+	/**
+	 * Multiply the positive entries of a table by positive and the negative ones by negative
+	 */
+	private static void scale(Object lock, InfosetTable.Doubles table, double positive, double negative) {
+		synchronized (lock) {
+			for (int id = 0; id < table.size(); id++) {
+				double value = table.get(id);
+				table.put(id, value * (value > 0 ? positive : negative));
+			}
+		}
+	}
+
+	/**
+	 * Reduce the calling thread's buffered updates into the shared tables and return its buffer for reuse by
+	 * other threads.  Training threads that are about to finish should call this in THREAD_LOCAL mode.
+	 */
+	public void release() {
+		Accumulator acc = accumulator.get();
+		if (acc == null) return;
+		accumulator.remove();
+		reduce(acc);
+		activeAccumulators.remove(acc);
+		idleAccumulators.add(acc);
+	}
+
+	/**
+	 * Reduce the buffered updates of all threads into the shared tables, e.g. at the end of a training round.
+	 * In LOCK_FREE mode, copy the live tables into sumRegret and sumStrategy.  Call only while no thread is
+	 * training, after joining the training threads (e.g. by Future.get), so that their buffers are visible.
+	 */
+	public void reduce() {
+		for (Accumulator acc : activeAccumulators) {
+			reduce(acc);
+		}
+		if (updateMode == UpdateMode.LOCK_FREE) {
+			synchronized (regretLock) {
+				fromAtomic(atomicRegret, sumRegret);
+			}
+			synchronized (strategyLock) {
+				fromAtomic(atomicStrategy, sumStrategy);
+			}
+		}
+	}
+
 	/**
 	 * @return whether we are accumulating regrets at infosets
 	 */
@@ -58,6 +545,21 @@ public abstract class Strategy {
 		this.training = train;
 	}
 
+	/**
+	 * @return whether visits to the infosets of the learned strategy are counted
+	 */
+	public boolean isRecordVisits() {
+		return recordVisits;
+	}
+
+	/**
+	 * @param recordVisits whether to count visits to the infosets of the learned strategy, e.g. false while
+	 *                     playing games that should not show in the output
+	 */
+	public void setRecordVisits(boolean recordVisits) {
+		this.recordVisits = recordVisits;
+	}
+
 	/**
 	 * Fill in the probabilities in action, based on values stored at InfoSet
 	 *
@@ -76,18 +578,63 @@ public abstract class Strategy {
 	 * @param actions the actions to be taken
 	 */
 	private final void getRegretMatchingStrategy(Action[] actions) {
-		synchronized (sumRegret) {
+		if (updateMode == UpdateMode.SYNCHRONIZED) {
+			long lockStart = TrainingMetrics.now();
+			synchronized (regretLock) {
+				lockAcquired(lockStart);
+				readRegrets(actions);
+			}
+		}
+		else if (updateMode == UpdateMode.LOCK_FREE) {
 			for (Action action: actions) {
-				if (action.infosetAndAction == null) {
-					throw new IllegalArgumentException("The infoset for the actions must be set");
-				}
-				action.p = sumRegret.getOrDefault(action.infosetAndAction, 0.0);
-				action.p = Math.max(action.p, 0.0);
+				checkInfoset(action);
+				action.p = Math.max(Double.longBitsToDouble(atomicRegret.get(action.infosetAndAction)), 0.0);
 			}
 		}
+		else {
+			// the shared table only changes when buffers are reduced, so read it as of the last reduction
+			readRegrets(actions);
+		}
 		normalize(actions);
 	}
 
+	/**
+	 * Set the probabilities in actions to the positive part of their regrets
+	 */
+	private void readRegrets(Action[] actions) {
+		for (Action action: actions) {
+			checkInfoset(action);
+			action.p = sumRegret.get(action.infosetAndAction);
+			action.p = Math.max(action.p, 0.0);
+		}
+	}
+
+	/**
+	 * @param action an action at an infoset of this strategy
+	 * @param threshold a regret
+	 * @return whether the cumulative regret of action is below threshold, as regret matching would read it
+	 */
+	public final boolean isRegretBelow(Action action, double threshold) {
+		checkInfoset(action);
+		if (updateMode == UpdateMode.SYNCHRONIZED) {
+			long lockStart = TrainingMetrics.now();
+			synchronized (regretLock) {
+				lockAcquired(lockStart);
+				return sumRegret.get(action.infosetAndAction) < threshold;
+			}
+		}
+		else if (updateMode == UpdateMode.LOCK_FREE) {
+			return Double.longBitsToDouble(atomicRegret.get(action.infosetAndAction)) < threshold;
+		}
+		return sumRegret.get(action.infosetAndAction) < threshold;
+	}
+
+	private static void checkInfoset(Action action) {
+		if (action.infosetAndAction == Action.NO_INFOSET) {
+			throw new IllegalArgumentException("The infoset for the actions must be set");
+		}
+	}
+
 	/**
 	 * Fill in the probabilities in action, based on the average profiles over training runs
 	 *
@@ -99,17 +646,17 @@ public abstract class Strategy {
 		 * Add a count variable so that everytime an infoset is seen here, the count is incremented
 		 */
 
-		synchronized (sumStrategy) {
+		if (recordVisits) touchTables();
+		long lockStart = TrainingMetrics.now();
+		synchronized (strategyLock) {
+			lockAcquired(lockStart);
 			for (Action action: actions) {
-				if (action.infosetAndAction == null) {
-					throw new IllegalArgumentException("The infoset for the actions must be set");
+				checkInfoset(action);
+				action.p = sumStrategy.get(action.infosetAndAction);
+				if (recordVisits) {
+					total_visits++;
+					frequencies.put(action.infosetAndAction, frequencies.get(action.infosetAndAction) + 1);
 				}
-				action.p = sumStrategy.getOrDefault(action.infosetAndAction, 0.0);
-				total_visits++;
-				if(frequencies.containsKey(action.infosetAndAction))
-					frequencies.replace(action.infosetAndAction, frequencies.get(action.infosetAndAction) + 1L);
-				else
-					frequencies.put(action.infosetAndAction, 1L);
 			}
 		}
 		normalize(actions);
@@ -125,25 +672,78 @@ public abstract class Strategy {
 	 *                               [the probability that we reach the terminal node from the current node]
 	 */
 	public final void updateSampledRegret(Action[] actions, int sampledAction, GameNode.UtilityProbability utilProb) {
-		// TODO: complete this code
+		updateSampledRegret(actions, sampledAction, utilProb, 0L);
+	}
 
-		double w = utilProb.scaledUtility;
-		synchronized (sumRegret) {
+	/**
+	 * Update sampled counterfactual regret, except that of pruned actions.  A pruned action could not be sampled,
+	 * so its sampled regret would only ever be the negative term; its regret stays as it is instead.
+	 *
+	 * @param pruned a mask with bit a set if actions[a] was pruned (see GameNode.PRUNE)
+	 */
+	public final void updateSampledRegret(Action[] actions, int sampledAction, GameNode.UtilityProbability utilProb, long pruned) {
+		touchTables();
+		boolean floor = updateRule == UpdateRule.CFR_PLUS;
+		if (updateMode == UpdateMode.THREAD_LOCAL) {
+			// buffered deltas are floored when they are reduced
+			Accumulator acc = getAccumulator();
+			addSampledRegret(acc.regret, actions, sampledAction, utilProb, pruned, false, acc);
+			acc.countUpdate();
+			return;
+		}
+		if (updateMode == UpdateMode.LOCK_FREE) {
 			for (int a = 0; a < actions.length; a++) {
-				if (actions[a].infosetAndAction != null) {
-					// TODO: Update the sum of the sampled regret in sumRegret, at the key
-					// actions[a].infosetAndAction. Add an appropriate value to it, based on our
-					// lecture notes.  Note it will be different depending on whether a == sampledAction
-					double delta = a == sampledAction ?
-							w * (1.0 - actions[sampledAction].p) * utilProb.pTail :
-							-w * utilProb.pTail * actions[sampledAction].p;
-					sumRegret.put(actions[a].infosetAndAction, sumRegret.getOrDefault(actions[a].infosetAndAction, 0.0) + delta);
-					// End TODO
+				if (actions[a].infosetAndAction != Action.NO_INFOSET && !isPruned(pruned, a)) {
+					add(atomicRegret, actions[a].infosetAndAction, sampledRegret(actions, a, sampledAction, utilProb), floor);
 				}
 			}
+			return;
+		}
+		long lockStart = TrainingMetrics.now();
+		synchronized (regretLock) {
+			lockAcquired(lockStart);
+			addSampledRegret(sumRegret, actions, sampledAction, utilProb, pruned, floor, null);
+		}
+	}
+
+	/**
+	 * Add sampled counterfactual regret to a table
+	 *
+	 * @param regret   the table to update
+	 * @param pruned   a mask of the actions to leave out
+	 * @param floor    whether to floor the updated regrets at 0
+	 * @param touched  if not null, records the ids updated
+	 */
+	private static void addSampledRegret(InfosetTable.Doubles regret, Action[] actions, int sampledAction, GameNode.UtilityProbability utilProb, long pruned, boolean floor, Accumulator touched) {
+		// TODO: complete this code
+
+		for (int a = 0; a < actions.length; a++) {
+			if (actions[a].infosetAndAction != Action.NO_INFOSET && !isPruned(pruned, a)) {
+				// TODO: Update the sum of the sampled regret in sumRegret, at the key
+				// actions[a].infosetAndAction. Add an appropriate value to it, based on our
+				// lecture notes.  Note it will be different depending on whether a == sampledAction
+				double sum = regret.get(actions[a].infosetAndAction) + sampledRegret(actions, a, sampledAction, utilProb);
+				// End TODO
+				regret.put(actions[a].infosetAndAction, floor ? Math.max(sum, 0.0) : sum);
+				if (touched != null) touched.touch(actions[a].infosetAndAction);
+			}
 		}
 	}
 
+	private static boolean isPruned(long pruned, int a) {
+		return (pruned >>> a & 1L) != 0;
+	}
+
+	/**
+	 * @return the sampled counterfactual regret of actions[a]
+	 */
+	private static double sampledRegret(Action[] actions, int a, int sampledAction, GameNode.UtilityProbability utilProb) {
+		double w = utilProb.scaledUtility;
+		return a == sampledAction ?
+				w * (1.0 - actions[sampledAction].p) * utilProb.pTail :
+				-w * utilProb.pTail * actions[sampledAction].p;
+	}
+
 	/**
 	 * Update sigma_bar, the average strategy for the player who's actions are not being sampled
 	 *
@@ -154,18 +754,175 @@ public abstract class Strategy {
 	 *                               [the probability that we reach the terminal node from the current node]
 	 */
 	public final void updateAverageStrategy(Action[] actions, double pi) {
-		// TODO: complete this code
-		synchronized (sumStrategy) {
+		if (iteration < averagingDelay) return;
+		touchTables();
+		if (updateMode == UpdateMode.THREAD_LOCAL) {
+			Accumulator acc = getAccumulator();
+			addAverageStrategy(acc.strategy, actions, pi, acc);
+			acc.countUpdate();
+			return;
+		}
+		if (updateMode == UpdateMode.LOCK_FREE) {
 			for (Action action: actions) {
-				if (action.infosetAndAction != null)
-					// TODO: For the key action.infosetAndAction, increment the value stored in sumStrategy by action.p scaled
-					// appropriately (as we discussed in the lecture
-					sumStrategy.put(action.infosetAndAction, sumStrategy.getOrDefault(action.infosetAndAction, 0.0) + action.p / pi);
+				if (action.infosetAndAction != Action.NO_INFOSET) {
+					add(atomicStrategy, action.infosetAndAction, action.p / pi, false);
+				}
+			}
+			return;
+		}
+		long lockStart = TrainingMetrics.now();
+		synchronized (strategyLock) {
+			lockAcquired(lockStart);
+			addAverageStrategy(sumStrategy, actions, pi, null);
+		}
+	}
+
+	/**
+	 * Add to sigma_bar in a table
+	 *
+	 * @param strategy the table to update
+	 * @param touched  if not null, records the ids updated
+	 */
+	private static void addAverageStrategy(InfosetTable.Doubles strategy, Action[] actions, double pi, Accumulator touched) {
+		// TODO: complete this code
+		for (Action action: actions) {
+			if (action.infosetAndAction != Action.NO_INFOSET) {
+				// TODO: For the key action.infosetAndAction, increment the value stored in sumStrategy by action.p scaled
+				// appropriately (as we discussed in the lecture
+				strategy.put(action.infosetAndAction, strategy.get(action.infosetAndAction) + action.p / pi);
 				// End TODO
+				if (touched != null) touched.touch(action.infosetAndAction);
 			}
 		}
 	}
 
+	/**
+	 * Add to an entry of a table of double bits, retrying if another thread changed it in between
+	 *
+	 * @param floor whether to floor the sum at 0
+	 */
+	private static void add(AtomicLongArray table, int id, double delta, boolean floor) {
+		long prev, next;
+		do {
+			prev = table.get(id);
+			double sum = Double.longBitsToDouble(prev) + delta;
+			next = Double.doubleToRawLongBits(floor ? Math.max(sum, 0.0) : sum);
+		} while (!table.compareAndSet(id, prev, next));
+	}
+
+	/**
+	 * Copy the tables into the live tables of LOCK_FREE mode
+	 */
+	private void loadAtomicTables() {
+		synchronized (regretLock) {
+			atomicRegret = toAtomic(sumRegret);
+		}
+		synchronized (strategyLock) {
+			atomicStrategy = toAtomic(sumStrategy);
+		}
+	}
+
+	private static AtomicLongArray toAtomic(InfosetTable.Doubles table) {
+		AtomicLongArray atomic = new AtomicLongArray(table.size());
+		for (int id = 0; id < table.size(); id++) {
+			atomic.lazySet(id, Double.doubleToRawLongBits(table.get(id)));
+		}
+		return atomic;
+	}
+
+	private static void fromAtomic(AtomicLongArray atomic, InfosetTable.Doubles table) {
+		for (int id = 0; id < table.size(); id++) {
+			table.put(id, Double.longBitsToDouble(atomic.get(id)));
+		}
+	}
+
+	/**
+	 * @return the calling thread's update buffer, taking an idle one (or a new one) on first use
+	 */
+	private Accumulator getAccumulator() {
+		Accumulator acc = accumulator.get();
+		if (acc == null) {
+			acc = idleAccumulators.poll();
+			if (acc == null) acc = new Accumulator(getNumInfosetActions());
+			activeAccumulators.add(acc);
+			accumulator.set(acc);
+		}
+		return acc;
+	}
+
+	/**
+	 * Add a buffer's updates to the shared tables and clear it.  A buffer is not locked: only its owning thread
+	 * touches it, except in reduce(), which runs while no thread is training.
+	 */
+	private void reduce(Accumulator acc) {
+		if (acc.numTouched == 0) return;
+		boolean floor = updateRule == UpdateRule.CFR_PLUS;
+		long lockStart = TrainingMetrics.now();
+		synchronized (regretLock) {
+			lockAcquired(lockStart);
+			for (int i = 0; i < acc.numTouched; i++) {
+				int id = acc.touched[i];
+				double sum = sumRegret.get(id) + acc.regret.get(id);
+				sumRegret.put(id, floor ? Math.max(sum, 0.0) : sum);
+			}
+		}
+		lockStart = TrainingMetrics.now();
+		synchronized (strategyLock) {
+			lockAcquired(lockStart);
+			for (int i = 0; i < acc.numTouched; i++) {
+				int id = acc.touched[i];
+				sumStrategy.put(id, sumStrategy.get(id) + acc.strategy.get(id));
+			}
+		}
+		acc.clear();
+	}
+
+	/**
+	 * A thread's buffered regret and average strategy deltas, with the ids they touch
+	 */
+	private final class Accumulator {
+		final InfosetTable.Doubles regret;
+		final InfosetTable.Doubles strategy;
+		final int[] touched;
+		final boolean[] isTouched;
+		int numTouched;
+		int numUpdates;
+
+		Accumulator(int numInfosetActions) {
+			// off the heap unless the tables are on it
+			regret = InfosetTable.Doubles.allocate(numInfosetActions, tableStorage != TableStorage.HEAP);
+			strategy = InfosetTable.Doubles.allocate(numInfosetActions, tableStorage != TableStorage.HEAP);
+			touched = new int[numInfosetActions];
+			isTouched = new boolean[numInfosetActions];
+		}
+
+		void touch(int id) {
+			if (!isTouched[id]) {
+				isTouched[id] = true;
+				touched[numTouched++] = id;
+			}
+		}
+
+		/**
+		 * Count an update by the owning thread, reducing the buffer every reduceInterval updates
+		 */
+		void countUpdate() {
+			if (++numUpdates >= reduceInterval) {
+				numUpdates = 0;
+				reduce(this);
+			}
+		}
+
+		void clear() {
+			for (int i = 0; i < numTouched; i++) {
+				regret.put(touched[i], 0.0);
+				strategy.put(touched[i], 0.0);
+				isTouched[touched[i]] = false;
+			}
+			numTouched = 0;
+		}
+	}
+
 	/**
 	 * Output learned strategy
 	 *
@@ -177,11 +934,11 @@ public abstract class Strategy {
 
 		sb.append(getName());
 		sb.append("Key\tProbability\n");
-		synchronized (sumStrategy) {
-			for (String key : sumStrategy.keySet()) {
-				sb.append(key);
+		synchronized (strategyLock) {
+			for (int id : getSortedIds(sumStrategy)) {
+				sb.append(getInfosetActionKey(id));
 				sb.append("\t");
-				sb.append(String.format("%.6f", sumStrategy.get(key)));
+				sb.append(String.format("%.6f", sumStrategy.get(id)));
 				sb.append("\n");
 			}
 		}
@@ -190,38 +947,169 @@ public abstract class Strategy {
 
 	public void toFile(String fname) throws FileNotFoundException {
 		PrintWriter pw = new PrintWriter(fname);
-		synchronized (sumRegret) {
-			pw.println(sumRegret.size());
-			for (String key: sumRegret.keySet()) {
-				pw.println(key + "\t" + sumRegret.get(key));
-			}
+		synchronized (regretLock) {
+			writeTable(pw, sumRegret);
 		}
-		synchronized (sumStrategy) {
-			pw.println(sumStrategy.size());
-			for (String key: sumStrategy.keySet()) {
-				pw.println(key + "\t" + sumStrategy.get(key));
-			}
+		synchronized (strategyLock) {
+			writeTable(pw, sumStrategy);
 		}
 		pw.close();
 	}
 
 	public void fromFile(String fname) throws FileNotFoundException {
 		Scanner sc = new Scanner(new File(fname));
-		int n = Integer.valueOf(sc.nextLine());
-		synchronized (sumRegret) {
-			for (int i = 0; i < n; i++) {
-				String[] tokens = sc.nextLine().split("\t");
-				sumRegret.put(tokens[0], Double.valueOf(tokens[1]));
-			}
+		touchTables();
+		synchronized (regretLock) {
+			readTable(sc, sumRegret);
 		}
-		synchronized (sumStrategy) {
-			n = Integer.valueOf(sc.nextLine());
-			for (int i = 0; i < n; i++) {
-				String[] tokens = sc.nextLine().split("\t");
-				sumStrategy.put(tokens[0], Double.valueOf(tokens[1]));
-			}
+		synchronized (strategyLock) {
+			readTable(sc, sumStrategy);
 		}
 		sc.close();
+		if (updateMode == UpdateMode.LOCK_FREE) loadAtomicTables();
+	}
+
+	/**
+	 * @return the number of bytes writeCheckpoint writes
+	 */
+	final long getCheckpointSize() {
+		return getStateSize() + 3 * InfosetTable.bytes(getNumInfosetActions());
+	}
+
+	/**
+	 * @return the number of bytes of state of its own a subclass adds to a checkpoint
+	 */
+	protected int getExtraCheckpointSize() {
+		return 0;
+	}
+
+	/**
+	 * Write getExtraCheckpointSize() bytes of state of a subclass to a checkpoint
+	 */
+	protected void writeExtraCheckpoint(ByteBuffer buffer) {
+	}
+
+	/**
+	 * Read the state written by writeExtraCheckpoint
+	 */
+	protected void readExtraCheckpoint(ByteBuffer buffer) {
+	}
+
+	/**
+	 * Write the state and then the regret, average strategy and visit count tables in binary (see Checkpoint).
+	 * Buffered updates are reduced first, so call this only while no thread is training.
+	 *
+	 * @param buffer the buffer to write to, with at least getCheckpointSize() bytes remaining
+	 */
+	final void writeCheckpoint(ByteBuffer buffer) {
+		reduce();
+		synchronized (strategyLock) {
+			writeState(buffer);
+		}
+		synchronized (regretLock) {
+			sumRegret.write(buffer);
+		}
+		synchronized (strategyLock) {
+			sumStrategy.write(buffer);
+			frequencies.write(buffer);
+		}
+	}
+
+	/**
+	 * Read the state and tables written by writeCheckpoint
+	 *
+	 * @param buffer the buffer to read from, positioned where writeCheckpoint started
+	 */
+	final void readCheckpoint(ByteBuffer buffer) {
+		touchTables();
+		synchronized (strategyLock) {
+			readState(buffer);
+		}
+		synchronized (regretLock) {
+			sumRegret.read(buffer);
+		}
+		synchronized (strategyLock) {
+			sumStrategy.read(buffer);
+			frequencies.read(buffer);
+		}
+		if (updateMode == UpdateMode.LOCK_FREE) loadAtomicTables();
+	}
+
+	/**
+	 * @return the number of bytes writeState writes
+	 */
+	private int getStateSize() {
+		return 4 * Integer.BYTES + 3 * Double.BYTES + Long.BYTES + getExtraCheckpointSize();
+	}
+
+	/**
+	 * Write the state other than the tables: the number of infoset and action ids, the iteration count, the
+	 * update rule with its averaging delay and discount parameters, total_visits, and the state of the
+	 * subclass
+	 */
+	private void writeState(ByteBuffer buffer) {
+		buffer.putInt(getNumInfosetActions());
+		buffer.putInt(iteration);
+		buffer.putInt(updateRule.ordinal());
+		buffer.putInt(averagingDelay);
+		buffer.putDouble(alpha);
+		buffer.putDouble(beta);
+		buffer.putDouble(gamma);
+		buffer.putLong(total_visits);
+		writeExtraCheckpoint(buffer);
+	}
+
+	/**
+	 * Read the state written by writeState.  The update rule, averaging delay and discount parameters replace
+	 * the current ones, so a resumed run weighs its iterations as it started to.
+	 */
+	private void readState(ByteBuffer buffer) {
+		int numInfosetActions = buffer.getInt();
+		if (numInfosetActions != getNumInfosetActions()) {
+			throw new IllegalArgumentException("The checkpoint has " + numInfosetActions + " infoset and action ids, " + getName() + " has " + getNumInfosetActions());
+		}
+		iteration = buffer.getInt();
+		updateRule = UpdateRule.values()[buffer.getInt()];
+		averagingDelay = buffer.getInt();
+		alpha = buffer.getDouble();
+		beta = buffer.getDouble();
+		gamma = buffer.getDouble();
+		total_visits = buffer.getLong();
+		readExtraCheckpoint(buffer);
+	}
+
+	/**
+	 * Write the nonzero entries of a table, preceded by their count, one "key\tvalue" line per entry
+	 */
+	private void writeTable(PrintWriter pw, InfosetTable.Doubles table) {
+		ArrayList<Integer> ids = getSortedIds(table);
+		pw.println(ids.size());
+		for (int id : ids) {
+			pw.println(getInfosetActionKey(id) + "\t" + table.get(id));
+		}
+	}
+
+	/**
+	 * Read a table written by writeTable
+	 */
+	private void readTable(Scanner sc, InfosetTable.Doubles table) {
+		int n = Integer.valueOf(sc.nextLine());
+		for (int i = 0; i < n; i++) {
+			String[] tokens = sc.nextLine().split("\t");
+			table.put(getInfosetActionId(tokens[0]), Double.valueOf(tokens[1]));
+		}
+	}
+
+	/**
+	 * @return the ids of the nonzero entries of a table, ordered by key
+	 */
+	private ArrayList<Integer> getSortedIds(InfosetTable.Doubles table) {
+		ArrayList<Integer> ids = new ArrayList<>();
+		for (int id = 0; id < table.size(); id++) {
+			if (table.get(id) != 0.0) ids.add(id);
+		}
+		ids.sort(Comparator.comparing(this::getInfosetActionKey));
+		return ids;
 	}
 
 	/**
@@ -32,14 +32,14 @@ public class StrategyDiscard extends Strategy {
 		if (discards != 0) {
 			long dead = PshUtil.getDeadCard(discards, state);
 			if (dead != 0) {
-				strategy[0] = new ActionDiscard(dead, 1.0, null);
+				strategy[0] = new ActionDiscard(dead, 1.0, Action.NO_INFOSET);
 			}
 			else {
-				strategy[0] = new ActionDiscard(PshUtil.getCardWithBiggestPenalty(discards), 1.0, null);
+				strategy[0] = new ActionDiscard(PshUtil.getCardWithBiggestPenalty(discards), 1.0, Action.NO_INFOSET);
 			}
 		}
 		else {
-			strategy[0] = new ActionDiscard(PshUtil.getCardThatMinimizesDeadwood(state), 1.0, null);
+			strategy[0] = new ActionDiscard(PshUtil.getCardThatMinimizesDeadwood(state), 1.0, Action.NO_INFOSET);
 		}
 		return strategy;
 	}
@@ -30,7 +30,7 @@ public class StrategyDiscardFinal extends StrategyDiscard {
         ArrayList<GinRummyAndTonic_Player.DiscardMetric> metrics =
                 GinRummyAndTonic_Player.getDiscardMetrics(state.getCurrentPlayerObject().state2);
         metrics.sort((GinRummyAndTonic_Player.DiscardMetric dm1, GinRummyAndTonic_Player.DiscardMetric dm2) -> dm1.score < dm2.score?-1:dm1.score>dm2.score?1:0);
-        return new ActionDiscard[]{new ActionDiscard(GinRummyAndTonic_Player.MyGinRummyUtil.idsToBitstring(new int[]{metrics.get(0).discard.getId()}), 1.0, null)};
+        return new ActionDiscard[]{new ActionDiscard(GinRummyAndTonic_Player.MyGinRummyUtil.idsToBitstring(new int[]{metrics.get(0).discard.getId()}), 1.0, Action.NO_INFOSET)};
     }
 
 
@@ -15,13 +15,13 @@ public class StrategyDraw extends Strategy {
 		
 		int improvement = PshUtil.getDeadwoodImprovementIfDrawFaceUpCard(state);
 		if (improvement >= MIN_DROP_TO_TAKE_FACE_UP) {
-			strategy[0] = new ActionDraw(true, 1.0, null);
+			strategy[0] = new ActionDraw(true, 1.0, Action.NO_INFOSET);
 		}
 		else if (improvement > 0 && PshUtil.doesFaceUpCardMakeNewMeld(state)) {
-			strategy[0] = new ActionDraw(true, 1.0, null);
+			strategy[0] = new ActionDraw(true, 1.0, Action.NO_INFOSET);
 		}
 		else {
-			strategy[0] = new ActionDraw(false, 1.0, null);			
+			strategy[0] = new ActionDraw(false, 1.0, Action.NO_INFOSET);			
 		}
 		return strategy;
 	}
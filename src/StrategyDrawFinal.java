@@ -28,10 +28,10 @@ public class StrategyDrawFinal extends StrategyDraw {
 
         if(GinRummyAndTonic_Player.MyGinRummyUtil.getImprovement(state2.getHand(), state2.getFaceUp()) > 0 &&
                 GinRummyAndTonic_Player.MyGinRummyUtil.makesNewMeld(state2.getHand(), state2.getFaceUp())) {
-            strategy[0] = new ActionDraw(true, 1.0, null);
+            strategy[0] = new ActionDraw(true, 1.0, Action.NO_INFOSET);
         }
         else {
-            strategy[0] = new ActionDraw(false, 1.0, null);
+            strategy[0] = new ActionDraw(false, 1.0, Action.NO_INFOSET);
         }
         return strategy;
     }
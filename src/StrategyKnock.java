@@ -1,5 +1,3 @@
-import java.util.ArrayList;
-
 /**
  * Implements a fixed knocking strategy: always knock if possible. 
  * 
@@ -14,27 +12,30 @@ public class StrategyKnock extends Strategy {
 		super(training);
 	}
 
+	/**
+	 * Constructor for subclasses with infosets of their own
+	 *
+	 * @param training Are we accumulating regrets
+	 * @param numInfosetActions the number of infoset and action ids of the abstraction
+	 */
+	protected StrategyKnock(boolean training, int numInfosetActions) {
+		super(training, numInfosetActions);
+	}
+
 	/**
 	 * @param state the current game state
 	 * @return a strategy that always knocks if possible
 	 */
 	@Override
 	public ActionKnock[] getStrategy(GameState state) {
-		ArrayList<Card> myCards = state.getCurrentPlayerCardsAsList();
-		ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = GinRummyUtil.cardsToBestMeldSets(myCards);
-
-		int deadwood;
-		if (bestMeldSets.isEmpty())
-			deadwood = GinRummyUtil.getDeadwoodPoints(myCards);
-		else
-			deadwood = GinRummyUtil.getDeadwoodPoints(bestMeldSets.get(0), myCards);
+		int deadwood = PshUtil.getBestDeadwood(state.getCurrentPlayerCards());
 
 		ActionKnock[] strategy = new ActionKnock[1];
 		if (deadwood  > GinRummyUtil.MAX_DEADWOOD) {
-			strategy[0] = new ActionKnock(false, 1.0, null);
+			strategy[0] = new ActionKnock(false, 1.0, Action.NO_INFOSET);
 		}
 		else {
-			strategy[0] = new ActionKnock(true, 1.0, null);			
+			strategy[0] = new ActionKnock(true, 1.0, Action.NO_INFOSET);			
 		}
 		
 		return strategy;
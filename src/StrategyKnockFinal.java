@@ -1,35 +1,37 @@
 import java.io.*;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.TreeSet;
 
 
 public class StrategyKnockFinal extends StrategyKnock {
+    /*
+     * Infoset ids are ((deadwood * TOP_CARDS + topCard) * FACE_UP_DEADWOODS + faceUpDeadwood), and the
+     * infoset and action id is twice that, plus 1 for not knocking.
+     */
+    private static final int DEADWOODS = GinRummyUtil.MAX_DEADWOOD + 1;
+    private static final int TOP_CARDS = Card.NUM_CARDS + 1;
+    private static final int FACE_UP_DEADWOODS = 11;
+    private static final int NUM_INFOSETS = DEADWOODS * TOP_CARDS * FACE_UP_DEADWOODS;
+
     private boolean verbose;
-    private TreeSet<String> infosets;
+    private boolean[] infosets;
 
     public StrategyKnockFinal(boolean training) {
         this(training, false);
-        infosets = new TreeSet<>();
     }
 
     public StrategyKnockFinal(boolean training, boolean verbose) {
-        super(training);
+        super(training, 2 * NUM_INFOSETS);
         this.verbose = verbose;
+        infosets = new boolean[NUM_INFOSETS];
     }
 
     @Override
     public ActionKnock[] getStrategy(GameState state) {
-        ArrayList<Card> myCards = state.getCurrentPlayerCardsAsList();
-        ArrayList<ArrayList<ArrayList<Card>>> bestMeldSets = GinRummyUtil.cardsToBestMeldSets(myCards);
-
         /*
          * Calculate our hand's deadwood.
          */
-        int deadwood;
-        if (bestMeldSets.isEmpty())
-            deadwood = GinRummyUtil.getDeadwoodPoints(myCards);
-        else
-            deadwood = GinRummyUtil.getDeadwoodPoints(bestMeldSets.get(0), myCards);
+        int deadwood = PshUtil.getBestDeadwood(state.getCurrentPlayerCards());
 
         ActionKnock[] strategy;
 
@@ -37,7 +39,7 @@ public class StrategyKnockFinal extends StrategyKnock {
          * If deadwood > 10, we can't knock. Never knock.
          */
         if (deadwood  > GinRummyUtil.MAX_DEADWOOD)
-            strategy = new ActionKnock[] {new ActionKnock(false, 1.0, null)};
+            strategy = new ActionKnock[] {new ActionKnock(false, 1.0, Action.NO_INFOSET)};
 
         else {
             /*
@@ -46,15 +48,15 @@ public class StrategyKnockFinal extends StrategyKnock {
              * The number of cards remaining face-down, and
              * The deadwood of the previous state's face-up card, i.e. The opponent's last discard
              */
-            long face_up = state.getPreviousState().getFaceUpCard();
-            int faceUpDeadwood = GinRummyUtil.getDeadwoodPoints(GinRummyUtil.bitstringToCards(face_up));
+            long face_up = state.getPreviousFaceUpCard();
+            int faceUpDeadwood = MeldSolver.getDeadwoodPoints(face_up);
 
-            String infoset= deadwood + "_" + state.getTopCard() + "_" + faceUpDeadwood;
+            int infoset = (deadwood * TOP_CARDS + state.getTopCard()) * FACE_UP_DEADWOODS + faceUpDeadwood;
 
-            infosets.add(infoset);
+            if (isRecordVisits()) infosets[infoset] = true;
 
-            strategy = new ActionKnock[] {new ActionKnock(true, 0.0,  infoset + "_k"),
-                    new ActionKnock(false, 0.0, infoset + "_n")};
+            strategy = new ActionKnock[] {new ActionKnock(true, 0.0,  2 * infoset),
+                    new ActionKnock(false, 0.0, 2 * infoset + 1)};
             getProbabilities(strategy);
         }
         return strategy;
@@ -65,19 +67,48 @@ public class StrategyKnockFinal extends StrategyKnock {
         return "Research Knock Strategy";
     }
 
+    /**
+     * @param infoset an infoset id
+     * @return the infoset as deadwood_topCard_faceUpDeadwood
+     */
+    private static String getInfosetKey(int infoset) {
+        return (infoset / FACE_UP_DEADWOODS / TOP_CARDS) + "_" + (infoset / FACE_UP_DEADWOODS % TOP_CARDS) + "_" + (infoset % FACE_UP_DEADWOODS);
+    }
+
+    @Override
+    protected String getInfosetActionKey(int id) {
+        return getInfosetKey(id / 2) + (id % 2 == 0 ? "_k" : "_n");
+    }
+
+    @Override
+    protected int getInfosetActionId(String key) {
+        String[] tokens = key.split("_");
+        int infoset = (Integer.parseInt(tokens[0]) * TOP_CARDS + Integer.parseInt(tokens[1])) * FACE_UP_DEADWOODS + Integer.parseInt(tokens[2]);
+        return 2 * infoset + (tokens[3].equals("k") ? 0 : 1);
+    }
+
+    /**
+     * @return the probability of knocking in an infoset under the average strategy, or 0.5 if nothing has
+     * been accumulated for it
+     */
+    private double getKnockProbability(int infoset) {
+        double k = sumStrategy.get(2 * infoset);
+        double n = sumStrategy.get(2 * infoset + 1);
+        return k + n == 0.0 ? 0.5 : k / (k + n);
+    }
+
     @Override
     public String toString() {
         StringBuffer sb = new StringBuffer();
 
         sb.append(getName() + "\nKnocking Percent as a function of DeadWood\n");
         sb.append("\tknock\tdon't\n");
-        for(String s : infosets.descendingSet()) {
-            String key_k = s + "_y";
-            String key_n = s + "_n";
-            sb.append(s + "\t");
-            sb.append(String.format("%.3f", sumStrategy.getOrDefault(key_k,1.0) /(sumStrategy.getOrDefault(key_k,1.0)+sumStrategy.getOrDefault(key_n,1.0))));
+        for (int infoset : getVisitedInfosets()) {
+            double knock = getKnockProbability(infoset);
+            sb.append(getInfosetKey(infoset) + "\t");
+            sb.append(String.format("%.3f", knock));
             sb.append("\t");
-            sb.append(String.format("%.3f", sumStrategy.getOrDefault(key_n,1.0) /(sumStrategy.getOrDefault(key_k,1.0)+sumStrategy.getOrDefault(key_n,1.0))));
+            sb.append(String.format("%.3f", 1.0 - knock));
             sb.append("\n");
         }
         return sb.toString();
@@ -88,15 +119,11 @@ public class StrategyKnockFinal extends StrategyKnock {
         StringBuffer sb = new StringBuffer();
 
         sb.append(total_visits/2).append("\n");
-        for(String s : infosets.descendingSet()) {
-            String key_k = s + "_y";
-            String key_n = s + "_n";
-
-            if(frequencies.getOrDefault(key_k, 0L) + frequencies.getOrDefault(key_n, 0L) == 0) continue;
+        for (int infoset : getVisitedInfosets()) {
+            long frequency = frequencies.get(2 * infoset) + frequencies.get(2 * infoset + 1);
+            if(frequency == 0) continue;
 
-            String st = String.format("%s %.3f %d", s,
-                    sumStrategy.getOrDefault(key_k,1.0) / (sumStrategy.getOrDefault(key_k,1.0) + sumStrategy.getOrDefault(key_n,1.0)),
-                    frequencies.getOrDefault(key_k, 0L) + frequencies.getOrDefault(key_n, 0L));
+            String st = String.format("%s %.3f %d", getInfosetKey(infoset), getKnockProbability(infoset), frequency);
             sb.append(st).append("\n");
         }
 
@@ -105,4 +132,39 @@ public class StrategyKnockFinal extends StrategyKnock {
         pw.close();
     }
 
+    @Override
+    protected int getExtraCheckpointSize() {
+        return NUM_INFOSETS;
+    }
+
+    @Override
+    protected void writeExtraCheckpoint(ByteBuffer buffer) {
+        for (boolean visited : infosets) {
+            buffer.put((byte) (visited ? 1 : 0));
+        }
+    }
+
+    @Override
+    protected void readExtraCheckpoint(ByteBuffer buffer) {
+        for (int infoset = 0; infoset < NUM_INFOSETS; infoset++) {
+            infosets[infoset] = buffer.get() != 0;
+        }
+    }
+
+    /**
+     * @return the ids of the visited infosets, in descending order of their keys
+     */
+    private int[] getVisitedInfosets() {
+        TreeSet<String> keys = new TreeSet<>();
+        for (int infoset = 0; infoset < NUM_INFOSETS; infoset++) {
+            if (infosets[infoset]) keys.add(getInfosetKey(infoset));
+        }
+        int[] ids = new int[keys.size()];
+        int i = 0;
+        for (String key : keys.descendingSet()) {
+            ids[i++] = getInfosetActionId(key + "_k") / 2;
+        }
+        return ids;
+    }
+
 }
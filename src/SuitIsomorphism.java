@@ -0,0 +1,89 @@
+/**
+ * Maps card set bitstrings to a canonical representative of their suit relabelings.  Deadwood, melds and
+ * layoffs only depend on which ranks are held together in a suit, never on which suit it is, so all 24
+ * relabelings of a hand can share one cache entry.
+ * <p>
+ * The canonical form orders the suits by decreasing 13-bit rank pattern, using a five comparator sorting network
+ * of min/max operations rather than data dependent branches.  When a seen mask is given the suits are ordered
+ * by hand pattern first and seen pattern second, and the same relabeling is applied to both masks, so hand and
+ * seen cards stay consistent with each other.
+ */
+public class SuitIsomorphism {
+	/**
+	 * Mask selecting one suit's worth of bits (one bit per rank)
+	 */
+	private static final int SUIT_MASK = (1 << Card.NUM_RANKS) - 1;
+
+	/**
+	 * @param hand card set bitstring
+	 * @return the canonical relabeling of hand
+	 */
+	public static long canonicalize(long hand) {
+		int a = suit(hand, 0);
+		int b = suit(hand, 1);
+		int c = suit(hand, 2);
+		int d = suit(hand, 3);
+
+		int t;
+		t = Math.max(a, b); b = Math.min(a, b); a = t;
+		t = Math.max(c, d); d = Math.min(c, d); c = t;
+		t = Math.max(a, c); c = Math.min(a, c); a = t;
+		t = Math.max(b, d); d = Math.min(b, d); b = t;
+		t = Math.max(b, c); c = Math.min(b, c); b = t;
+
+		return join(a, b, c, d);
+	}
+
+	/**
+	 * @param hand card set bitstring of the hand
+	 * @param seen card set bitstring of the seen cards
+	 * @return the hand relabeled by the canonical relabeling of (hand, seen)
+	 */
+	public static long canonicalize(long hand, long seen) {
+		return relabel(hand, seen, Card.NUM_RANKS);
+	}
+
+	/**
+	 * @param hand card set bitstring of the hand
+	 * @param seen card set bitstring of the seen cards
+	 * @return the seen cards relabeled by the canonical relabeling of (hand, seen)
+	 */
+	public static long canonicalizeSeen(long hand, long seen) {
+		return relabel(hand, seen, 0);
+	}
+
+	/**
+	 * Sort the suits by (hand pattern, seen pattern), each suit packed as a 26-bit key, and rebuild one of the
+	 * two masks from the sorted keys
+	 *
+	 * @param shift Card.NUM_RANKS to rebuild the hand, 0 to rebuild the seen cards
+	 */
+	private static long relabel(long hand, long seen, int shift) {
+		long a = key(hand, seen, 0);
+		long b = key(hand, seen, 1);
+		long c = key(hand, seen, 2);
+		long d = key(hand, seen, 3);
+
+		long t;
+		t = Math.max(a, b); b = Math.min(a, b); a = t;
+		t = Math.max(c, d); d = Math.min(c, d); c = t;
+		t = Math.max(a, c); c = Math.min(a, c); a = t;
+		t = Math.max(b, d); d = Math.min(b, d); b = t;
+		t = Math.max(b, c); c = Math.min(b, c); b = t;
+
+		return join((int) (a >>> shift) & SUIT_MASK, (int) (b >>> shift) & SUIT_MASK,
+				(int) (c >>> shift) & SUIT_MASK, (int) (d >>> shift) & SUIT_MASK);
+	}
+
+	private static long key(long hand, long seen, int suit) {
+		return (long) suit(hand, suit) << Card.NUM_RANKS | suit(seen, suit);
+	}
+
+	private static int suit(long cards, int suit) {
+		return (int) (cards >>> suit * Card.NUM_RANKS) & SUIT_MASK;
+	}
+
+	private static long join(int a, int b, int c, int d) {
+		return a | (long) b << Card.NUM_RANKS | (long) c << 2 * Card.NUM_RANKS | (long) d << 3 * Card.NUM_RANKS;
+	}
+}
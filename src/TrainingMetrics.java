@@ -0,0 +1,337 @@
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Throughput and latency of training: games and decisions per second for each worker, a latency histogram for
+ * each type of decision, the size of the infoset tables, the time spent waiting for their locks, and the rate
+ * at which the workers allocate.
+ * <p>
+ * GameNode records every decision and Driver every training game, on the thread that plays it.  The metrics
+ * can be read through JMX under NAME (e.g. with jconsole), and written periodically to a text file.  Set ENABLED
+ * to false to stop recording.
+ */
+public class TrainingMetrics implements TrainingMetricsMBean {
+	public static boolean ENABLED = true;
+
+	/**
+	 * The JMX name of the metrics
+	 */
+	public static final String NAME = "GinRummy:type=TrainingMetrics";
+
+	/**
+	 * The types of decision
+	 */
+	public enum Decision { DRAW, DISCARD, KNOCK }
+
+	private static final TrainingMetrics INSTANCE = new TrainingMetrics();
+
+	/*
+	 * Latency histograms, one per type of decision, where bucket b counts latencies of [2^b, 2^(b+1))
+	 * nanoseconds
+	 */
+	private static final int BUCKETS = 40;
+	private final LongAdder[][] latency = new LongAdder[Decision.values().length][BUCKETS];
+	private final LongAdder[] latencyNanos = new LongAdder[Decision.values().length];
+
+	private final LongAdder games = new LongAdder();
+	private final LongAdder decisions = new LongAdder();
+	private final Map<Thread, Worker> workers = new ConcurrentHashMap<>();
+	private final ThreadLocal<Worker> worker = ThreadLocal.withInitial(this::newWorker);
+	private final CopyOnWriteArrayList<Strategy> strategies = new CopyOnWriteArrayList<>();
+	private final com.sun.management.ThreadMXBean threads;
+
+	private volatile long startNanos;
+	private volatile long lockWaitBase; // lock wait of the strategies at the last reset
+
+	private TrainingMetrics() {
+		for (int d = 0; d < latency.length; d++) {
+			latencyNanos[d] = new LongAdder();
+			for (int b = 0; b < BUCKETS; b++) {
+				latency[d][b] = new LongAdder();
+			}
+		}
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		threads = bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported() ?
+				(com.sun.management.ThreadMXBean) bean : null;
+		startNanos = System.nanoTime();
+	}
+
+	/**
+	 * @return the metrics of this JVM
+	 */
+	public static TrainingMetrics get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @return the current time in nanoseconds, or 0 if metrics are not being recorded
+	 */
+	public static long now() {
+		return ENABLED ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Record a decision made by the calling thread
+	 *
+	 * @param nanos the time the decision took
+	 */
+	public static void recordDecision(Decision decision, long nanos) {
+		if (!ENABLED) return;
+		int bucket = Math.min(Math.max(63 - Long.numberOfLeadingZeros(nanos), 0), BUCKETS - 1);
+		INSTANCE.latency[decision.ordinal()][bucket].increment();
+		INSTANCE.latencyNanos[decision.ordinal()].add(nanos);
+		INSTANCE.decisions.increment();
+		Worker w = INSTANCE.worker.get();
+		w.decisions.lazySet(w.decisions.get() + 1);
+	}
+
+	/**
+	 * Record a training game played by the calling thread
+	 */
+	public static void recordGame() {
+		if (!ENABLED) return;
+		INSTANCE.games.increment();
+		Worker w = INSTANCE.worker.get();
+		w.games.lazySet(w.games.get() + 1);
+	}
+
+	/**
+	 * Report the table sizes and lock wait times of strategies
+	 */
+	public void register(Strategy... strategies) {
+		for (Strategy strategy : strategies) {
+			this.strategies.add(strategy);
+			lockWaitBase += strategy.getLockWaitNanos();
+		}
+	}
+
+	/**
+	 * Register the metrics with the platform MBean server under NAME
+	 *
+	 * @throws JMException if they cannot be registered, e.g. because they already are
+	 */
+	public void registerMBean() throws JMException {
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(NAME));
+	}
+
+	/**
+	 * Write the metrics to a file every period, overwriting it, until executor is shut down
+	 */
+	public void startWriting(ScheduledExecutorService executor, String fname, long period, TimeUnit unit) {
+		Interval interval = new Interval();
+		executor.scheduleAtFixedRate(() -> {
+			try {
+				writeTo(fname, interval);
+			} catch (FileNotFoundException e) {
+				System.err.println("Cannot write metrics: " + e.getMessage());
+			}
+		}, period, period, unit);
+	}
+
+	/**
+	 * Write the metrics to a file, with the rates since the last write as well as since the last reset
+	 */
+	private void writeTo(String fname, Interval interval) throws FileNotFoundException {
+		long now = System.nanoTime();
+		double seconds = (now - interval.nanos) / 1e9;
+		long games = getTrainingGames(), decisions = getDecisions(), lockWait = getLockWaitNanos(), allocated = getAllocatedBytes();
+
+		PrintWriter pw = new PrintWriter(fname);
+		pw.printf("Elapsed\t%.1f s\n", getElapsedSeconds());
+		pw.printf("Training games\t%d\t%.1f/s\tlast %.0f s: %.1f/s\n", games, getGamesPerSecond(), seconds, (games - interval.games) / seconds);
+		pw.printf("Decisions\t%d\t%.1f/s\tlast %.0f s: %.1f/s\n", decisions, getDecisionsPerSecond(), seconds, (decisions - interval.decisions) / seconds);
+		pw.printf("Lock wait\t%.1f ms\t%.3f ms/s\tlast %.0f s: %.3f ms/s\n", lockWait / 1e6, getLockWaitMillisPerSecond(), seconds, (lockWait - interval.lockWait) / 1e6 / seconds);
+		if (allocated >= 0) {
+			pw.printf("Allocated\t%.1f MB\t%.1f MB/s\tlast %.0f s: %.1f MB/s\n", allocated / 1e6, getAllocationMegabytesPerSecond(), seconds, (allocated - interval.allocated) / 1e6 / seconds);
+		}
+		pw.println("Workers");
+		for (String line : getWorkerRates()) pw.println("\t" + line);
+		pw.println("Decision latencies");
+		for (String line : getDecisionLatencies()) pw.println("\t" + line);
+		pw.println("Infoset tables");
+		for (String line : getInfosetTables()) pw.println("\t" + line);
+		pw.close();
+
+		interval.nanos = now;
+		interval.games = games;
+		interval.decisions = decisions;
+		interval.lockWait = lockWait;
+		interval.allocated = allocated;
+	}
+
+	/**
+	 * The totals at the start of the interval since the last write
+	 */
+	private class Interval {
+		long nanos = startNanos;
+		long games, decisions, lockWait, allocated;
+	}
+
+	@Override
+	public long getTrainingGames() {
+		return games.sum();
+	}
+
+	@Override
+	public double getGamesPerSecond() {
+		return getTrainingGames() / getElapsedSeconds();
+	}
+
+	@Override
+	public long getDecisions() {
+		return decisions.sum();
+	}
+
+	@Override
+	public double getDecisionsPerSecond() {
+		return getDecisions() / getElapsedSeconds();
+	}
+
+	@Override
+	public String[] getWorkerRates() {
+		double seconds = getElapsedSeconds();
+		ArrayList<String> rates = new ArrayList<>();
+		for (Worker w : workers.values()) {
+			rates.add(String.format("%s\t%.1f games/s\t%.1f decisions/s", w.thread.getName(), w.games.get() / seconds, w.decisions.get() / seconds));
+		}
+		rates.sort(null);
+		return rates.toArray(new String[0]);
+	}
+
+	@Override
+	public String[] getDecisionLatencies() {
+		String[] lines = new String[latency.length];
+		for (Decision decision : Decision.values()) {
+			LongAdder[] histogram = latency[decision.ordinal()];
+			long[] counts = new long[BUCKETS];
+			long count = 0;
+			for (int b = 0; b < BUCKETS; b++) {
+				counts[b] = histogram[b].sum();
+				count += counts[b];
+			}
+			double mean = count == 0 ? 0.0 : latencyNanos[decision.ordinal()].sum() / 1e3 / count;
+			lines[decision.ordinal()] = String.format("%s\tn=%d\tmean=%.1f us\tp50<=%.1f us\tp90<=%.1f us\tp99<=%.1f us",
+					decision, count, mean, percentile(counts, count, 0.5), percentile(counts, count, 0.9), percentile(counts, count, 0.99));
+		}
+		return lines;
+	}
+
+	/**
+	 * @return the upper bound of the histogram bucket holding the p quantile, in microseconds
+	 */
+	private static double percentile(long[] counts, long count, double p) {
+		long seen = 0;
+		for (int b = 0; b < BUCKETS; b++) {
+			seen += counts[b];
+			if (seen > 0 && seen >= p * count) return (1L << (b + 1)) / 1e3;
+		}
+		return 0.0;
+	}
+
+	@Override
+	public String[] getInfosetTables() {
+		ArrayList<String> tables = new ArrayList<>();
+		for (Strategy strategy : strategies) {
+			tables.add(String.format("%s\t%d ids\t%d touched\t%.1f KB\t%s\t%s", strategy.getName(), strategy.getNumInfosetActions(),
+					strategy.getNumTouchedInfosetActions(), strategy.getTableBytes() / 1e3, strategy.getTableStorage(), strategy.getUpdateMode()));
+		}
+		return tables.toArray(new String[0]);
+	}
+
+	@Override
+	public double getLockWaitMillis() {
+		return getLockWaitNanos() / 1e6;
+	}
+
+	@Override
+	public double getLockWaitMillisPerSecond() {
+		return getLockWaitMillis() / getElapsedSeconds();
+	}
+
+	private long getLockWaitNanos() {
+		long lockWait = -lockWaitBase;
+		for (Strategy strategy : strategies) {
+			lockWait += strategy.getLockWaitNanos();
+		}
+		return lockWait;
+	}
+
+	@Override
+	public long getAllocatedBytes() {
+		if (threads == null) return -1;
+		long allocated = 0;
+		for (Worker w : workers.values()) {
+			long bytes = threads.getThreadAllocatedBytes(w.thread.getId());
+			if (bytes >= 0) allocated += bytes - w.allocatedBase; // -1 once a thread has ended
+		}
+		return allocated;
+	}
+
+	@Override
+	public double getAllocationMegabytesPerSecond() {
+		return getAllocatedBytes() / 1e6 / getElapsedSeconds();
+	}
+
+	@Override
+	public void reset() {
+		games.reset();
+		decisions.reset();
+		for (int d = 0; d < latency.length; d++) {
+			latencyNanos[d].reset();
+			for (int b = 0; b < BUCKETS; b++) {
+				latency[d][b].reset();
+			}
+		}
+		for (Worker w : workers.values()) {
+			w.games.set(0);
+			w.decisions.set(0);
+			w.allocatedBase = allocatedBytes(w.thread);
+		}
+		long lockWait = 0;
+		for (Strategy strategy : strategies) {
+			lockWait += strategy.getLockWaitNanos();
+		}
+		lockWaitBase = lockWait;
+		startNanos = System.nanoTime();
+	}
+
+	private double getElapsedSeconds() {
+		return (System.nanoTime() - startNanos) / 1e9;
+	}
+
+	private Worker newWorker() {
+		Worker w = new Worker(Thread.currentThread());
+		workers.put(w.thread, w);
+		return w;
+	}
+
+	private long allocatedBytes(Thread thread) {
+		return threads == null ? 0 : Math.max(threads.getThreadAllocatedBytes(thread.getId()), 0);
+	}
+
+	/**
+	 * The counts of a thread that plays games, written only by that thread
+	 */
+	private class Worker {
+		final Thread thread;
+		final AtomicLong games = new AtomicLong();
+		final AtomicLong decisions = new AtomicLong();
+		volatile long allocatedBase;
+
+		Worker(Thread thread) {
+			this.thread = thread;
+			allocatedBase = allocatedBytes(thread);
+		}
+	}
+}
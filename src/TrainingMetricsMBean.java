@@ -0,0 +1,67 @@
+/**
+ * The JMX view of TrainingMetrics.  Rates are averages since the metrics were last reset.
+ */
+public interface TrainingMetricsMBean {
+	/**
+	 * @return the number of training games played
+	 */
+	long getTrainingGames();
+
+	/**
+	 * @return training games per second
+	 */
+	double getGamesPerSecond();
+
+	/**
+	 * @return the number of draw, discard and knock decisions made, in training, evaluation and best response
+	 *         games
+	 */
+	long getDecisions();
+
+	/**
+	 * @return decisions per second
+	 */
+	double getDecisionsPerSecond();
+
+	/**
+	 * @return the games and decisions per second of each worker thread
+	 */
+	String[] getWorkerRates();
+
+	/**
+	 * @return the count, mean and percentiles of the latency of each type of decision, excluding the time
+	 *         spent in the subtree below it
+	 */
+	String[] getDecisionLatencies();
+
+	/**
+	 * @return the size of the regret and average strategy tables of each registered strategy
+	 */
+	String[] getInfosetTables();
+
+	/**
+	 * @return the total time threads waited for the locks on the tables of the registered strategies, in
+	 *         milliseconds
+	 */
+	double getLockWaitMillis();
+
+	/**
+	 * @return the time spent waiting for the table locks per second of wall time, in milliseconds
+	 */
+	double getLockWaitMillisPerSecond();
+
+	/**
+	 * @return the bytes allocated by the worker threads, or -1 if the JVM cannot measure it
+	 */
+	long getAllocatedBytes();
+
+	/**
+	 * @return the megabytes allocated by the worker threads per second
+	 */
+	double getAllocationMegabytesPerSecond();
+
+	/**
+	 * Start counting again from zero
+	 */
+	void reset();
+}